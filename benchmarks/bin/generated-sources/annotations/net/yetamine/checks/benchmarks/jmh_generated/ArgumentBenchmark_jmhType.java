@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class ArgumentBenchmark_jmhType extends ArgumentBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class BaselineBenchmark_jmhType extends BaselineBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class BulkArgumentBenchmark_Arrays_jmhType extends BulkArgumentBenchmark_Arrays_jmhType_B3 {
+}
+
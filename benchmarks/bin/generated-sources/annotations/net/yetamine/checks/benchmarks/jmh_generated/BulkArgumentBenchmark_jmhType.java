@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class BulkArgumentBenchmark_jmhType extends BulkArgumentBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class CheckAllBenchmark_Elements_jmhType extends CheckAllBenchmark_Elements_jmhType_B3 {
+}
+
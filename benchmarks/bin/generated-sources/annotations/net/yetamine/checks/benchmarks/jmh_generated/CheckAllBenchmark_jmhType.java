@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class CheckAllBenchmark_jmhType extends CheckAllBenchmark_jmhType_B3 {
+}
+
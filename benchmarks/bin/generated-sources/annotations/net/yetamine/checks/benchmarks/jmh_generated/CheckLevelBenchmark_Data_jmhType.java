@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class CheckLevelBenchmark_Data_jmhType extends CheckLevelBenchmark_Data_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class CheckSamplerBenchmark_jmhType extends CheckSamplerBenchmark_jmhType_B3 {
+}
+
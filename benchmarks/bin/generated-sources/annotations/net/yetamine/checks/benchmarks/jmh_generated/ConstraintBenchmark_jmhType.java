@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class ConstraintBenchmark_jmhType extends ConstraintBenchmark_jmhType_B3 {
+}
+
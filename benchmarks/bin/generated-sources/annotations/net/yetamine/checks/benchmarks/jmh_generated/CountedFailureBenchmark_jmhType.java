@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class CountedFailureBenchmark_jmhType extends CountedFailureBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class DiagnosticSwitchBenchmark_Data_jmhType extends DiagnosticSwitchBenchmark_Data_jmhType_B3 {
+}
+
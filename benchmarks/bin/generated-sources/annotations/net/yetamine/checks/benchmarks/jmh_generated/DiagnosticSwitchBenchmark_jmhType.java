@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class DiagnosticSwitchBenchmark_jmhType extends DiagnosticSwitchBenchmark_jmhType_B3 {
+}
+
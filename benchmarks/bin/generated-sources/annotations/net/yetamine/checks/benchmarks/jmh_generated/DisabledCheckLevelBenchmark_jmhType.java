@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class DisabledCheckLevelBenchmark_jmhType extends DisabledCheckLevelBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class FailureBenchmark_jmhType extends FailureBenchmark_jmhType_B3 {
+}
+
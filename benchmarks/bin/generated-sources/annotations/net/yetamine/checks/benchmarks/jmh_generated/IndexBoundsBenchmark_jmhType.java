@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class IndexBoundsBenchmark_jmhType extends IndexBoundsBenchmark_jmhType_B3 {
+}
+
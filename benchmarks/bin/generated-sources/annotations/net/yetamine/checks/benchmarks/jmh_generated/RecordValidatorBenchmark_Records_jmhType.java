@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class RecordValidatorBenchmark_Records_jmhType extends RecordValidatorBenchmark_Records_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class RecordValidatorBenchmark_jmhType extends RecordValidatorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class RecordedFailureBenchmark_jmhType extends RecordedFailureBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class RuleBenchmark_jmhType extends RuleBenchmark_jmhType_B3 {
+}
+
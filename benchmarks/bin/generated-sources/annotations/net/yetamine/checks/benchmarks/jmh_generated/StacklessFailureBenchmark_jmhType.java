@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class StacklessFailureBenchmark_jmhType extends StacklessFailureBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class StateConditionBenchmark_jmhType extends StateConditionBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class Values_jmhType extends Values_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class VectorBulkArgumentBenchmark_jmhType extends VectorBulkArgumentBenchmark_jmhType_B3 {
+}
+
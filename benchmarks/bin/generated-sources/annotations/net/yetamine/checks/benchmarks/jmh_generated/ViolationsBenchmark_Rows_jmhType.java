@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class ViolationsBenchmark_Rows_jmhType extends ViolationsBenchmark_Rows_jmhType_B3 {
+}
+
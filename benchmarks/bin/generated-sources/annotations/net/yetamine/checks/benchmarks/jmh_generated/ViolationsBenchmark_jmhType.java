@@ -0,0 +1,4 @@
+package net.yetamine.checks.benchmarks.jmh_generated;
+public class ViolationsBenchmark_jmhType extends ViolationsBenchmark_jmhType_B3 {
+}
+
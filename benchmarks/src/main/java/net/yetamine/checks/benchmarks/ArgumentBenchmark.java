@@ -0,0 +1,822 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.Argument;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Argument} checks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentBenchmark {
+
+    /**
+     * Measures a passing check of an object with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectPassed(Values v) {
+        return Argument.check(v.objectValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of an object with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectFailed(Values v) {
+        try {
+            return Argument.check(v.objectValue, v.fail);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of an object with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectMessagePassed(Values v) {
+        return Argument.check(v.objectValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of an object with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectMessageFailed(Values v) {
+        try {
+            return Argument.check(v.objectValue, v.fail, v.message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of an object with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectSupplierPassed(Values v) {
+        return Argument.check(v.objectValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of an object with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectSupplierFailed(Values v) {
+        try {
+            return Argument.check(v.objectValue, v.fail, v.messageSupplier);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a char value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public char checkCharPassed(Values v) {
+        return Argument.check(v.charValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of a char value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkCharFailed(Values v) {
+        try {
+            return Argument.check(v.charValue, v.fail);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a char value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public char checkCharMessagePassed(Values v) {
+        return Argument.check(v.charValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of a char value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkCharMessageFailed(Values v) {
+        try {
+            return Argument.check(v.charValue, v.fail, v.message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a char value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public char checkCharSupplierPassed(Values v) {
+        return Argument.check(v.charValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of a char value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkCharSupplierFailed(Values v) {
+        try {
+            return Argument.check(v.charValue, v.fail, v.messageSupplier);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a byte value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public byte checkBytePassed(Values v) {
+        return Argument.check(v.byteValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of a byte value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkByteFailed(Values v) {
+        try {
+            return Argument.check(v.byteValue, v.fail);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a byte value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public byte checkByteMessagePassed(Values v) {
+        return Argument.check(v.byteValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of a byte value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkByteMessageFailed(Values v) {
+        try {
+            return Argument.check(v.byteValue, v.fail, v.message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a byte value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public byte checkByteSupplierPassed(Values v) {
+        return Argument.check(v.byteValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of a byte value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkByteSupplierFailed(Values v) {
+        try {
+            return Argument.check(v.byteValue, v.fail, v.messageSupplier);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a short value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public short checkShortPassed(Values v) {
+        return Argument.check(v.shortValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of a short value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkShortFailed(Values v) {
+        try {
+            return Argument.check(v.shortValue, v.fail);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a short value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public short checkShortMessagePassed(Values v) {
+        return Argument.check(v.shortValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of a short value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkShortMessageFailed(Values v) {
+        try {
+            return Argument.check(v.shortValue, v.fail, v.message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a short value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public short checkShortSupplierPassed(Values v) {
+        return Argument.check(v.shortValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of a short value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkShortSupplierFailed(Values v) {
+        try {
+            return Argument.check(v.shortValue, v.fail, v.messageSupplier);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a int value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntPassed(Values v) {
+        return Argument.check(v.intValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of a int value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkIntFailed(Values v) {
+        try {
+            return Argument.check(v.intValue, v.fail);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a int value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntMessagePassed(Values v) {
+        return Argument.check(v.intValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of a int value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkIntMessageFailed(Values v) {
+        try {
+            return Argument.check(v.intValue, v.fail, v.message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a int value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntSupplierPassed(Values v) {
+        return Argument.check(v.intValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of a int value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkIntSupplierFailed(Values v) {
+        try {
+            return Argument.check(v.intValue, v.fail, v.messageSupplier);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a long value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long checkLongPassed(Values v) {
+        return Argument.check(v.longValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of a long value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkLongFailed(Values v) {
+        try {
+            return Argument.check(v.longValue, v.fail);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a long value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long checkLongMessagePassed(Values v) {
+        return Argument.check(v.longValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of a long value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkLongMessageFailed(Values v) {
+        try {
+            return Argument.check(v.longValue, v.fail, v.message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a long value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long checkLongSupplierPassed(Values v) {
+        return Argument.check(v.longValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of a long value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkLongSupplierFailed(Values v) {
+        try {
+            return Argument.check(v.longValue, v.fail, v.messageSupplier);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a float value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public float checkFloatPassed(Values v) {
+        return Argument.check(v.floatValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of a float value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkFloatFailed(Values v) {
+        try {
+            return Argument.check(v.floatValue, v.fail);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a float value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public float checkFloatMessagePassed(Values v) {
+        return Argument.check(v.floatValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of a float value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkFloatMessageFailed(Values v) {
+        try {
+            return Argument.check(v.floatValue, v.fail, v.message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a float value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public float checkFloatSupplierPassed(Values v) {
+        return Argument.check(v.floatValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of a float value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkFloatSupplierFailed(Values v) {
+        try {
+            return Argument.check(v.floatValue, v.fail, v.messageSupplier);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a double value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public double checkDoublePassed(Values v) {
+        return Argument.check(v.doubleValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of a double value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkDoubleFailed(Values v) {
+        try {
+            return Argument.check(v.doubleValue, v.fail);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a double value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public double checkDoubleMessagePassed(Values v) {
+        return Argument.check(v.doubleValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of a double value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkDoubleMessageFailed(Values v) {
+        try {
+            return Argument.check(v.doubleValue, v.fail, v.message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a double value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public double checkDoubleSupplierPassed(Values v) {
+        return Argument.check(v.doubleValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of a double value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkDoubleSupplierFailed(Values v) {
+        try {
+            return Argument.check(v.doubleValue, v.fail, v.messageSupplier);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of an int value with a capturing message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntCapturingPassed(Values v) {
+        final int i = v.intValue;
+        return Argument.check(i, v.pass, () -> String.format("Requiring a positive number (given: %d).", i));
+    }
+
+    /**
+     * Measures a failing check of an int value with a capturing message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkIntCapturingFailed(Values v) {
+        try {
+            final int i = v.intValue;
+            return Argument.check(i, v.fail, () -> String.format("Requiring a positive number (given: %d).", i));
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of an int value with a message template.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntTemplatePassed(Values v) {
+        return Argument.check(v.intValue, v.pass, "Requiring a positive number (given: %d).", v.intValue);
+    }
+
+    /**
+     * Measures a failing check of an int value with a message template.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkIntTemplateFailed(Values v) {
+        try {
+            return Argument.check(v.intValue, v.fail, "Requiring a positive number (given: %d).", v.intValue);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the alternatives to the library checks, which provide the baseline
+ * for the other benchmarks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaselineBenchmark {
+
+    /**
+     * Measures no check at all.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int noCheck(Values v) {
+        return v.intValue;
+    }
+
+    /**
+     * Measures a passing {@link Objects#requireNonNull(Object)}.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object requireNonNullPassed(Values v) {
+        return Objects.requireNonNull(v.objectValue);
+    }
+
+    /**
+     * Measures a failing {@link Objects#requireNonNull(Object)}.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object requireNonNullFailed(Values v) {
+        try {
+            return Objects.requireNonNull(null);
+        } catch (NullPointerException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing {@link Objects#requireNonNull(Object, String)}.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object requireNonNullMessagePassed(Values v) {
+        return Objects.requireNonNull(v.objectValue, v.message);
+    }
+
+    /**
+     * Measures a passing {@link Objects#requireNonNull(Object, Supplier)}.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object requireNonNullSupplierPassed(Values v) {
+        return Objects.requireNonNull(v.objectValue, v.messageSupplier);
+    }
+
+    /**
+     * Measures a passing hand-written check.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int ifThrowPassed(Values v) {
+        if (v.pass) {
+            return v.intValue;
+        }
+
+        throw new IllegalArgumentException(v.message);
+    }
+
+    /**
+     * Measures a failing hand-written check.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object ifThrowFailed(Values v) {
+        try {
+            if (v.fail) {
+                return v.intValue;
+            }
+
+            throw new IllegalArgumentException(v.message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a failing hand-written check with a formatted message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object ifThrowFormattedFailed(Values v) {
+        try {
+            if (v.fail) {
+                return v.intValue;
+            }
+
+            throw new IllegalArgumentException(String.format("Requiring a positive number (given: %d).", v.intValue));
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
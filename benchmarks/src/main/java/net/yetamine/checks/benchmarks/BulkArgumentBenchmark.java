@@ -0,0 +1,245 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.Argument;
+import net.yetamine.checks.BulkArgument;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link BulkArgument} checks with checking each element with
+ * {@link Argument}.
+ *
+ * <p>
+ * The JVM runs without the Vector API module, so that {@link BulkArgument}
+ * uses plain loops; see {@link VectorBulkArgumentBenchmark} for the Vector
+ * API variant.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkArgumentBenchmark {
+
+    /**
+     * Benchmark state providing the arrays to check.
+     */
+    @State(Scope.Thread)
+    public static class Arrays {
+
+        /** Length of the arrays. */
+        @Param({ "1024", "65536", "4194304" })
+        public int size;
+
+        /** Values to check. */
+        public int[] ints;
+        /** Values to check. */
+        public long[] longs;
+        /** Values to check. */
+        public double[] doubles;
+        /** Sorted values to check. */
+        public long[] sorted;
+
+        /**
+         * Prepares the arrays.
+         */
+        @Setup
+        public void setup() {
+            final Random random = new Random(42);
+            ints = new int[size];
+            longs = new long[size];
+            doubles = new double[size];
+            sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                ints[i] = random.nextInt(1000);
+                longs[i] = random.nextInt(1000);
+                doubles[i] = random.nextDouble();
+                sorted[i] = i;
+            }
+        }
+    }
+
+    /**
+     * Measures checking finiteness of each element with {@link Argument}.
+     *
+     * @param a
+     *            the arrays to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public double[] finiteEach(Arrays a) {
+        final double[] values = a.doubles;
+        for (double value : values) {
+            Argument.check(value, Double.isFinite(value));
+        }
+
+        return values;
+    }
+
+    /**
+     * Measures checking finiteness with {@link BulkArgument}.
+     *
+     * @param a
+     *            the arrays to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public double[] finiteBulk(Arrays a) {
+        return BulkArgument.checkAllFinite(a.doubles);
+    }
+
+    /**
+     * Measures checking a range of each element with {@link Argument}.
+     *
+     * @param a
+     *            the arrays to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int[] rangeIntEach(Arrays a) {
+        final int[] values = a.ints;
+        for (int value : values) {
+            Argument.check(value, (0 <= value) && (value < 1000));
+        }
+
+        return values;
+    }
+
+    /**
+     * Measures checking a range with {@link BulkArgument}.
+     *
+     * @param a
+     *            the arrays to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int[] rangeIntBulk(Arrays a) {
+        return BulkArgument.checkAllInRange(a.ints, 0, 999);
+    }
+
+    /**
+     * Measures checking a range of each element with {@link Argument}.
+     *
+     * @param a
+     *            the arrays to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long[] rangeLongEach(Arrays a) {
+        final long[] values = a.longs;
+        for (long value : values) {
+            Argument.check(value, (0 <= value) && (value < 1000));
+        }
+
+        return values;
+    }
+
+    /**
+     * Measures checking a range with {@link BulkArgument}.
+     *
+     * @param a
+     *            the arrays to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long[] rangeLongBulk(Arrays a) {
+        return BulkArgument.checkAllInRange(a.longs, 0, 999);
+    }
+
+    /**
+     * Measures checking a range of each element with {@link Argument}.
+     *
+     * @param a
+     *            the arrays to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public double[] rangeDoubleEach(Arrays a) {
+        final double[] values = a.doubles;
+        for (double value : values) {
+            Argument.check(value, (0.0 <= value) && (value <= 1.0));
+        }
+
+        return values;
+    }
+
+    /**
+     * Measures checking a range with {@link BulkArgument}.
+     *
+     * @param a
+     *            the arrays to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public double[] rangeDoubleBulk(Arrays a) {
+        return BulkArgument.checkAllInRange(a.doubles, 0.0, 1.0);
+    }
+
+    /**
+     * Measures checking ordering of each element with {@link Argument}.
+     *
+     * @param a
+     *            the arrays to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long[] sortedEach(Arrays a) {
+        final long[] values = a.sorted;
+        for (int i = 1; i < values.length; i++) {
+            Argument.check(values[i], values[i - 1] <= values[i]);
+        }
+
+        return values;
+    }
+
+    /**
+     * Measures checking ordering with {@link BulkArgument}.
+     *
+     * @param a
+     *            the arrays to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long[] sortedBulk(Arrays a) {
+        return BulkArgument.checkAllSorted(a.sorted);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.Constraint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Constraint#checkAll(java.util.Collection, java.util.function.Predicate, java.util.function.LongFunction)}
+ * with a sequential loop and a parallel stream.
+ *
+ * <p>
+ * The results depend on the number of available processors, which should be
+ * noted when comparing them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckAllBenchmark {
+
+    /**
+     * Benchmark state providing the elements to check.
+     */
+    @State(Scope.Benchmark)
+    public static class Elements {
+
+        /** Number of the elements. */
+        @Param({ "100000", "4000000" })
+        public int size;
+
+        /** Elements to check. */
+        public List<String> list;
+
+        /**
+         * Prepares the elements.
+         */
+        @Setup
+        public void setup() {
+            list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(Integer.toString(i));
+            }
+        }
+    }
+
+    /**
+     * Measures a sequential loop.
+     *
+     * @param e
+     *            the elements to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public List<String> loop(Elements e) {
+        final List<String> list = e.list;
+        for (String s : list) {
+            Constraint.check(s, t -> !t.isEmpty(), IllegalArgumentException::new);
+        }
+
+        return list;
+    }
+
+    /**
+     * Measures a parallel stream, which can't tell the failing element.
+     *
+     * @param e
+     *            the elements to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public boolean parallelStream(Elements e) {
+        return e.list.parallelStream().allMatch(t -> !t.isEmpty());
+    }
+
+    /**
+     * Measures checking all elements in parallel.
+     *
+     * @param e
+     *            the elements to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public List<String> checkAll(Elements e) {
+        return Constraint.checkAll(e.list, t -> !t.isEmpty(), index -> new IllegalArgumentException());
+    }
+}
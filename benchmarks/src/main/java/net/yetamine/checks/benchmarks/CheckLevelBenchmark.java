@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.Argument;
+import net.yetamine.checks.CheckLevel;
+import net.yetamine.checks.Constraint;
+import net.yetamine.checks.StateCondition;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the tiered checks of {@link CheckLevel} with an expensive condition,
+ * which scans a whole array, and compares them with no check at all.
+ *
+ * <p>
+ * The tiers are enabled here, see {@link DisabledCheckLevelBenchmark} for the
+ * same benchmarks with the tiers disabled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckLevelBenchmark {
+
+    /**
+     * Data for the checks.
+     */
+    @State(Scope.Thread)
+    public static class Data {
+
+        /** Values to check. */
+        public int[] values;
+
+        /**
+         * Prepares the data.
+         */
+        @Setup
+        public void setup() {
+            values = new int[1_000];
+            Arrays.fill(values, 1);
+        }
+    }
+
+    /**
+     * Measures the baseline with no check.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int[] noCheck(Data d) {
+        return d.values;
+    }
+
+    /**
+     * Measures a check that can't be disabled.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int[] checkAlways(Data d) {
+        return Argument.check(d.values, allPositive(d.values), "Requiring positive values.");
+    }
+
+    /**
+     * Measures a tiered argument check.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int[] argumentExpensive(Data d) {
+        return Argument.checkExpensive(d.values, CheckLevelBenchmark::allPositive, "Requiring positive values.");
+    }
+
+    /**
+     * Measures a tiered constraint check.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int[] constraintNormal(Data d) {
+        return Constraint.checkNormal(d.values, CheckLevelBenchmark::allPositive, IllegalStateException::new);
+    }
+
+    /**
+     * Measures a tiered state check.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int[] stateExpensive(Data d) {
+        final int[] values = d.values;
+        StateCondition.checkExpensive(() -> allPositive(values), "Requiring positive values.");
+        return values;
+    }
+
+    /**
+     * Tests whether all values are positive.
+     *
+     * @param values
+     *            the values to test. It must not be {@code null}.
+     *
+     * @return {@code true} if all values are positive
+     */
+    private static boolean allPositive(int[] values) {
+        for (int value : values) {
+            if (value <= 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.CheckSampler;
+import net.yetamine.checks.Constraint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures sampled checks with an expensive condition, which scans a whole
+ * array, and compares them with no check and with a check on every call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckSamplerBenchmark {
+
+    /**
+     * Data for the checks.
+     */
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        /** Rate of the sampling. */
+        @Param({ "1", "10", "100" })
+        public int rate;
+
+        /** Sampler shared by all threads. */
+        public CheckSampler sampler;
+
+        /** Values to check. */
+        public int[] values;
+
+        /**
+         * Prepares the data.
+         */
+        @Setup
+        public void setup() {
+            sampler = CheckSampler.of(rate);
+            values = new int[1_000];
+            Arrays.fill(values, 1);
+        }
+    }
+
+    /**
+     * Measures the baseline with no check.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int[] noCheck(Data d) {
+        return d.values;
+    }
+
+    /**
+     * Measures a check evaluated on every call.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int[] checkAlways(Data d) {
+        return Constraint.check(d.values, CheckSamplerBenchmark::allPositive, IllegalStateException::new);
+    }
+
+    /**
+     * Measures a sampled check.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int[] checkSampled(Data d) {
+        return Constraint.checkSampled(d.values, CheckSamplerBenchmark::allPositive, IllegalStateException::new, d.sampler);
+    }
+
+    /**
+     * Tests whether all values are positive.
+     *
+     * @param values
+     *            the values to test. It must not be {@code null}.
+     *
+     * @return {@code true} if all values are positive
+     */
+    private static boolean allPositive(int[] values) {
+        for (int value : values) {
+            if (value <= 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
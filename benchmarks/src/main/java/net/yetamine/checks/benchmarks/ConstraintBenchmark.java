@@ -0,0 +1,421 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.Constraint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Constraint} checks.
+ *
+ * <p>
+ * The exception suppliers capture the state on purpose, which is the usual
+ * case of real code that needs to provide a detailed message.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstraintBenchmark {
+
+    /**
+     * Measures a passing check of a plain condition.
+     *
+     * @param v
+     *            the values to use
+     */
+    @Benchmark
+    public void checkConditionPassed(Values v) {
+        Constraint.check(v.pass, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a failing check of a plain condition.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkConditionFailed(Values v) {
+        try {
+            Constraint.check(v.fail, () -> new IllegalStateException(v.message));
+            return null;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of an object with a predicate.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkPredicatePassed(Values v) {
+        return Constraint.check(v.objectValue, o -> v.pass, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a failing check of an object with a predicate.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkPredicateFailed(Values v) {
+        try {
+            return Constraint.check(v.objectValue, o -> v.fail, () -> new IllegalStateException(v.message));
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of an object.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectPassed(Values v) {
+        return Constraint.check(v.objectValue, v.pass, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a failing check of an object.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectFailed(Values v) {
+        try {
+            return Constraint.check(v.objectValue, v.fail, () -> new IllegalStateException(v.message));
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a char value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public char checkCharPassed(Values v) {
+        return Constraint.check(v.charValue, v.pass, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a failing check of a char value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkCharFailed(Values v) {
+        try {
+            return Constraint.check(v.charValue, v.fail, () -> new IllegalStateException(v.message));
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a byte value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public byte checkBytePassed(Values v) {
+        return Constraint.check(v.byteValue, v.pass, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a failing check of a byte value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkByteFailed(Values v) {
+        try {
+            return Constraint.check(v.byteValue, v.fail, () -> new IllegalStateException(v.message));
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a short value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public short checkShortPassed(Values v) {
+        return Constraint.check(v.shortValue, v.pass, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a failing check of a short value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkShortFailed(Values v) {
+        try {
+            return Constraint.check(v.shortValue, v.fail, () -> new IllegalStateException(v.message));
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a int value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntPassed(Values v) {
+        return Constraint.check(v.intValue, v.pass, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a failing check of a int value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkIntFailed(Values v) {
+        try {
+            return Constraint.check(v.intValue, v.fail, () -> new IllegalStateException(v.message));
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a long value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long checkLongPassed(Values v) {
+        return Constraint.check(v.longValue, v.pass, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a failing check of a long value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkLongFailed(Values v) {
+        try {
+            return Constraint.check(v.longValue, v.fail, () -> new IllegalStateException(v.message));
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a float value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public float checkFloatPassed(Values v) {
+        return Constraint.check(v.floatValue, v.pass, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a failing check of a float value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkFloatFailed(Values v) {
+        try {
+            return Constraint.check(v.floatValue, v.fail, () -> new IllegalStateException(v.message));
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a double value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public double checkDoublePassed(Values v) {
+        return Constraint.check(v.doubleValue, v.pass, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a failing check of a double value.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkDoubleFailed(Values v) {
+        try {
+            return Constraint.check(v.doubleValue, v.fail, () -> new IllegalStateException(v.message));
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a int value with a generic predicate.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntBoxedPredicatePassed(Values v) {
+        return Constraint.check(v.intValue, x -> x > 0, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a passing check of a int value with a primitive predicate.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntPredicatePassed(Values v) {
+        return Constraint.checkInt(v.intValue, x -> x > 0, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a passing check of a long value with a generic predicate.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long checkLongBoxedPredicatePassed(Values v) {
+        return Constraint.check(v.longValue, x -> x > 0, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a passing check of a long value with a primitive predicate.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long checkLongPredicatePassed(Values v) {
+        return Constraint.checkLong(v.longValue, x -> x > 0, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a passing check of a double value with a generic predicate.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public double checkDoubleBoxedPredicatePassed(Values v) {
+        return Constraint.check(v.doubleValue, x -> x > 0, () -> new IllegalStateException(v.message));
+    }
+
+    /**
+     * Measures a passing check of a double value with a primitive predicate.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public double checkDoublePredicatePassed(Values v) {
+        return Constraint.checkDouble(v.doubleValue, x -> x > 0, () -> new IllegalStateException(v.message));
+    }
+}
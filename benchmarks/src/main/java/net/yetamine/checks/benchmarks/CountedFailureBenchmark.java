@@ -0,0 +1,27 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * Measures the failure paths with the failure counters enabled.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Dnet.yetamine.checks.counters=true")
+public class CountedFailureBenchmark extends FailureBenchmark {
+    // All benchmarks inherited
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.Constraint;
+import net.yetamine.checks.DiagnosticSwitch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DiagnosticSwitch} checks in a loop and compares them with
+ * no check and with a check guarded by a volatile flag.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiagnosticSwitchBenchmark {
+
+    /** Flag for the comparison with a volatile read on every check. */
+    static volatile boolean flag;
+
+    /**
+     * Data for the checks.
+     */
+    @State(Scope.Thread)
+    public static class Data {
+
+        /** State of the switch. */
+        @Param({ "false", "true" })
+        public boolean enabled;
+
+        /** Values to check. */
+        public int[] values;
+
+        /**
+         * Prepares the data and sets the switch.
+         */
+        @Setup
+        public void setup() {
+            values = new int[1_000];
+            Arrays.fill(values, 1);
+            DiagnosticSwitch.setEnabled(enabled);
+            flag = enabled;
+        }
+    }
+
+    /**
+     * Measures the baseline with no check.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int noCheck(Data d) {
+        int result = 0;
+        for (int value : d.values) {
+            result += value;
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures checks guarded by the switch.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkDiagnostic(Data d) {
+        int result = 0;
+        for (int value : d.values) {
+            result += Constraint.checkDiagnostic(value, v -> v > 0, IllegalStateException::new);
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures checks guarded by a volatile flag.
+     *
+     * @param d
+     *            the data to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkVolatile(Data d) {
+        int result = 0;
+        for (int value : d.values) {
+            if (flag) {
+                result += Constraint.check(value, v -> v > 0, IllegalStateException::new);
+            } else {
+                result += value;
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.Argument;
+import net.yetamine.checks.IndexBounds;
+import net.yetamine.checks.StateCondition;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the failure paths with the regular exceptions.
+ *
+ * <p>
+ * Compare the results with {@link StacklessFailureBenchmark}, which runs the
+ * same benchmarks in the stackless mode.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailureBenchmark {
+
+    /**
+     * Measures a failing argument check with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object argumentMessageFailed(Values v) {
+        try {
+            return Argument.check(v.intValue, v.fail, v.message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a failing argument check with a message template.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object argumentTemplateFailed(Values v) {
+        try {
+            return Argument.check(v.intValue, v.fail, "Requiring a positive number (given: %d).", v.intValue);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a failing index check with a message template.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object indexTemplateFailed(Values v) {
+        try {
+            return IndexBounds.check(v.intValue, v.fail, "Index %d out of bounds [0, %d).", v.intValue, v.intValue);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a failing state check with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object stateMessageFailed(Values v) {
+        try {
+            StateCondition.check(v.fail, v.message);
+            return null;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+}
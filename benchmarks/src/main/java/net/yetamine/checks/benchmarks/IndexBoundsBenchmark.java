@@ -0,0 +1,586 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.IndexBounds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link IndexBounds} checks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBoundsBenchmark {
+
+    /**
+     * Measures a passing check of an object with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectPassed(Values v) {
+        return IndexBounds.check(v.objectValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of an object with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectFailed(Values v) {
+        try {
+            return IndexBounds.check(v.objectValue, v.fail);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of an object with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectMessagePassed(Values v) {
+        return IndexBounds.check(v.objectValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of an object with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectMessageFailed(Values v) {
+        try {
+            return IndexBounds.check(v.objectValue, v.fail, v.message);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of an object with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectSupplierPassed(Values v) {
+        return IndexBounds.check(v.objectValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of an object with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkObjectSupplierFailed(Values v) {
+        try {
+            return IndexBounds.check(v.objectValue, v.fail, v.messageSupplier);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a int value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntPassed(Values v) {
+        return IndexBounds.check(v.intValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of a int value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkIntFailed(Values v) {
+        try {
+            return IndexBounds.check(v.intValue, v.fail);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a int value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntMessagePassed(Values v) {
+        return IndexBounds.check(v.intValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of a int value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkIntMessageFailed(Values v) {
+        try {
+            return IndexBounds.check(v.intValue, v.fail, v.message);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a int value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkIntSupplierPassed(Values v) {
+        return IndexBounds.check(v.intValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of a int value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkIntSupplierFailed(Values v) {
+        try {
+            return IndexBounds.check(v.intValue, v.fail, v.messageSupplier);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a long value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long checkLongPassed(Values v) {
+        return IndexBounds.check(v.longValue, v.pass);
+    }
+
+    /**
+     * Measures a failing check of a long value with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkLongFailed(Values v) {
+        try {
+            return IndexBounds.check(v.longValue, v.fail);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a long value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long checkLongMessagePassed(Values v) {
+        return IndexBounds.check(v.longValue, v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check of a long value with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkLongMessageFailed(Values v) {
+        try {
+            return IndexBounds.check(v.longValue, v.fail, v.message);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check of a long value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long checkLongSupplierPassed(Values v) {
+        return IndexBounds.check(v.longValue, v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check of a long value with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkLongSupplierFailed(Values v) {
+        try {
+            return IndexBounds.check(v.longValue, v.fail, v.messageSupplier);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a loop summing an array with no explicit index check.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int loopUnchecked(Values v) {
+        final int[] array = v.array;
+        int result = 0;
+        for (int i = 0; i < array.length; i++) {
+            result += array[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures a loop summing an array with a hand-written index check.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int loopHandWritten(Values v) {
+        final int[] array = v.array;
+        final int length = array.length;
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            result += array[IndexBounds.check(i, (i >= 0) && (i < length))];
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures a loop summing an array with {@link IndexBounds#checkIndex(int, int)}.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int loopCheckIndex(Values v) {
+        final int[] array = v.array;
+        final int length = array.length;
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            result += array[IndexBounds.checkIndex(i, length)];
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures reading a buffer with a hand-written region check.
+     *
+     * @param r
+     *            the regions to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int regionHandWritten(Regions r) {
+        final ByteBuffer buffer = r.buffer;
+        int result = 0;
+        for (int offset : r.offsets) {
+            if ((offset < 0) || (offset + Integer.BYTES > buffer.limit())) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            result += buffer.getInt(offset);
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures reading a buffer with {@link IndexBounds#checkRegion(java.nio.Buffer, int, int)}.
+     *
+     * @param r
+     *            the regions to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int regionCheckRegion(Regions r) {
+        final ByteBuffer buffer = r.buffer;
+        int result = 0;
+        for (int offset : r.offsets) {
+            result += buffer.getInt(IndexBounds.checkRegion(buffer, offset, Integer.BYTES));
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures reading a buffer with a region check and an alignment check.
+     *
+     * @param r
+     *            the regions to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int regionCheckAligned(Regions r) {
+        final ByteBuffer buffer = r.buffer;
+        int result = 0;
+        for (int offset : r.offsets) {
+            result += buffer.getInt(IndexBounds.checkAligned(IndexBounds.checkRegion(buffer, offset, Integer.BYTES), Integer.BYTES));
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures summing offsets of regions with a hand-written check with
+     * {@code long} values.
+     *
+     * @param r
+     *            the regions to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long regionLongHandWritten(Regions r) {
+        final long capacity = r.capacity;
+        long result = 0;
+        for (long offset : r.longOffsets) {
+            if ((offset < 0) || (offset + Long.BYTES > capacity)) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            result += offset;
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures summing offsets of regions with
+     * {@link IndexBounds#checkRegion(long, long, long)}.
+     *
+     * @param r
+     *            the regions to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long regionLongCheckRegion(Regions r) {
+        final long capacity = r.capacity;
+        long result = 0;
+        for (long offset : r.longOffsets) {
+            result += IndexBounds.checkRegion(offset, Long.BYTES, capacity);
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures computing the ends of regions with a hand-written check, which
+     * computes the end twice.
+     *
+     * @param r
+     *            the regions to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int regionEndHandWritten(Regions r) {
+        final int[] offsets = r.offsets;
+        final int[] lengths = r.lengths;
+        final int capacity = r.buffer.capacity();
+        int result = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            final int offset = offsets[i];
+            final int length = lengths[i];
+            if ((offset < 0) || (length < 0) || (offset + length > capacity)) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            result ^= offset + length;
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures computing the ends of regions with
+     * {@link IndexBounds#checkRegionEnd(int, int, int)}.
+     *
+     * @param r
+     *            the regions to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int regionEndCheckRegionEnd(Regions r) {
+        final int[] offsets = r.offsets;
+        final int[] lengths = r.lengths;
+        final int capacity = r.buffer.capacity();
+        int result = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            result ^= IndexBounds.checkRegionEnd(offsets[i], lengths[i], capacity);
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures computing the ends of regions with
+     * {@link IndexBounds#checkRegionPacked(int, int, int)}.
+     *
+     * @param r
+     *            the regions to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long regionEndCheckRegionPacked(Regions r) {
+        final int[] offsets = r.offsets;
+        final int[] lengths = r.lengths;
+        final int capacity = r.buffer.capacity();
+        long result = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            result ^= IndexBounds.checkRegionPacked(offsets[i], lengths[i], capacity);
+        }
+
+        return result;
+    }
+
+    /**
+     * Regions of a buffer to read.
+     */
+    @State(Scope.Thread)
+    public static class Regions {
+
+        /** Count of the regions. */
+        private static final int COUNT = 1024;
+
+        /** Buffer to read. */
+        public ByteBuffer buffer;
+        /** Aligned offsets of {@code int} values in the buffer. */
+        public int[] offsets;
+        /** Lengths of the regions at {@link #offsets}, within the buffer. */
+        public int[] lengths;
+        /** Capacity of a simulated memory block. */
+        public long capacity;
+        /** Aligned offsets of {@code long} values in the memory block. */
+        public long[] longOffsets;
+
+        /**
+         * Prepares the regions.
+         */
+        @Setup
+        public void setup() {
+            final Random random = new Random(0);
+            buffer = ByteBuffer.allocateDirect(1 << 16);
+            offsets = random.ints(COUNT, 0, buffer.capacity() / Integer.BYTES).map(i -> i * Integer.BYTES).toArray();
+            lengths = Arrays.stream(offsets).map(offset -> random.nextInt(buffer.capacity() - offset + 1)).toArray();
+            capacity = 1L << 40;
+            longOffsets = random.longs(COUNT, 0, capacity / Long.BYTES).map(i -> i * Long.BYTES).toArray();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.RecordValidator;
+import net.yetamine.checks.Violations;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares validating a file of fixed-width records with
+ * {@link RecordValidator} and with a hand-written loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordValidatorBenchmark {
+
+    /** Size of a record: an {@code int}, a {@code long} and an {@code int}. */
+    private static final int RECORD_SIZE = 16;
+
+    /** Validator of the records. */
+    private static final RecordValidator VALIDATOR = RecordValidator.of(RECORD_SIZE)
+            .intRange(0, 0, 150)
+            .longRange(4, 0, 1_000_000)
+            .intIndex(12, 64);
+
+    /**
+     * Benchmark state providing the file to validate.
+     */
+    @State(Scope.Benchmark)
+    public static class Records {
+
+        /** Number of the records. */
+        private static final int COUNT = 1 << 22;
+
+        /** File with the records. */
+        public Path file;
+        /** Mapped content of the file. */
+        public MappedByteBuffer buffer;
+
+        /**
+         * Prepares the file.
+         *
+         * @throws IOException
+         *             if the file could not be prepared
+         */
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            final Random random = new Random(42);
+            final ByteBuffer content = ByteBuffer.allocate(COUNT * RECORD_SIZE);
+            for (int i = 0; i < COUNT; i++) {
+                content.putInt(random.nextInt(151));
+                content.putLong(random.nextInt(1_000_001));
+                content.putInt(random.nextInt(64));
+            }
+
+            content.flip();
+            file = Files.createTempFile(RecordValidatorBenchmark.class.getSimpleName(), ".bin");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+                channel.write(content);
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                buffer.load();
+            }
+        }
+
+        /**
+         * Removes the file.
+         *
+         * @throws IOException
+         *             if the file could not be removed
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Measures a hand-written loop over the mapped file.
+     *
+     * @param r
+     *            the records to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object handWritten(Records r) {
+        final Violations violations = new Violations(100);
+        final ByteBuffer buffer = r.buffer;
+        final int limit = buffer.limit();
+        for (int record = 0; record < limit; record += RECORD_SIZE) {
+            final int a = buffer.getInt(record);
+            violations.check((0 <= a) && (a <= 150), 0, record);
+            final long b = buffer.getLong(record + 4);
+            violations.check((0 <= b) && (b <= 1_000_000), 1, record + 4);
+            final int c = buffer.getInt(record + 12);
+            violations.checkIndex(c, 64, 2, record + 12);
+        }
+
+        return violations;
+    }
+
+    /**
+     * Measures validating the mapped file.
+     *
+     * @param r
+     *            the records to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object validateBuffer(Records r) {
+        return VALIDATOR.validate(r.buffer, 0, new Violations(100));
+    }
+
+    /**
+     * Measures validating the file, including mapping it.
+     *
+     * @param r
+     *            the records to use
+     *
+     * @return the result to consume
+     *
+     * @throws IOException
+     *             if the file could not be read
+     */
+    @Benchmark
+    public Object validateFile(Records r) throws IOException {
+        return VALIDATOR.validate(r.file, new Violations(100));
+    }
+
+    /**
+     * Measures validating the file in parallel, including mapping it.
+     *
+     * @param r
+     *            the records to use
+     *
+     * @return the result to consume
+     *
+     * @throws IOException
+     *             if the file could not be read
+     */
+    @Benchmark
+    public Object validateFileParallel(Records r) throws IOException {
+        return VALIDATOR.validate(r.file, new Violations(100), ForkJoinPool.commonPool());
+    }
+}
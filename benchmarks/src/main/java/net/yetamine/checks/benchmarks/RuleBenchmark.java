@@ -0,0 +1,315 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+import net.yetamine.checks.Constraint;
+import net.yetamine.checks.IntRule;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link IntRule} checks with equivalent {@link Constraint} checks.
+ *
+ * <p>
+ * The loop benchmarks use three different conditions at the same place, so
+ * that the type profile of the shared condition call gets polluted as in an
+ * application using many different checks.
+ *
+ * <p>
+ * The composition benchmarks compare a rule composed of many other rules to
+ * nested predicates, which are a usual way to compose conditions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleBenchmark {
+
+    /** Rule using a lambda. */
+    private static final IntRule<IllegalArgumentException> NON_NEGATIVE = IntRule.argument(i -> i >= 0, "Negative %d");
+    /** Rule using a lambda. */
+    private static final IntRule<IllegalArgumentException> SMALL = IntRule.argument(i -> i < 100, "Too big %d");
+    /** Rule using a lambda. */
+    private static final IntRule<IllegalArgumentException> NOT_MINUS_ONE = IntRule.argument(i -> i != -1, "Invalid %d");
+
+    /** Rule using inheritance. */
+    private static final IntRule<IllegalArgumentException> NON_NEGATIVE_CLASS = new IntRule<IllegalArgumentException>("Negative %d", IllegalArgumentException::new) {
+        @Override
+        public boolean test(int value) {
+            return (value >= 0);
+        }
+    };
+
+    /** Rule using inheritance. */
+    private static final IntRule<IllegalArgumentException> SMALL_CLASS = new IntRule<IllegalArgumentException>("Too big %d", IllegalArgumentException::new) {
+        @Override
+        public boolean test(int value) {
+            return (value < 100);
+        }
+    };
+
+    /** Rule using inheritance. */
+    private static final IntRule<IllegalArgumentException> NOT_MINUS_ONE_CLASS = new IntRule<IllegalArgumentException>("Invalid %d", IllegalArgumentException::new) {
+        @Override
+        public boolean test(int value) {
+            return (value != -1);
+        }
+    };
+
+    /** Composition of many rules, as when validating many fields. */
+    private static final IntRule<IllegalArgumentException> COMPOSED = IntRule.allOf(
+            IntRule.argument(i -> i != -1, "Forbidden 1"),
+            IntRule.argument(i -> i != -2, "Forbidden 2"),
+            IntRule.argument(i -> i != -3, "Forbidden 3"),
+            IntRule.argument(i -> i != -4, "Forbidden 4"),
+            IntRule.argument(i -> i != -5, "Forbidden 5"),
+            IntRule.argument(i -> i != -6, "Forbidden 6"),
+            IntRule.argument(i -> i != -7, "Forbidden 7"),
+            IntRule.argument(i -> i != -8, "Forbidden 8"),
+            IntRule.argument(i -> i != -9, "Forbidden 9"),
+            IntRule.argument(i -> i != -10, "Forbidden 10"),
+            IntRule.argument(i -> i != -11, "Forbidden 11"),
+            IntRule.argument(i -> i != -12, "Forbidden 12"),
+            IntRule.argument(i -> i != -13, "Forbidden 13"),
+            IntRule.argument(i -> i != -14, "Forbidden 14"),
+            IntRule.argument(i -> i != -15, "Forbidden 15"),
+            IntRule.argument(i -> i != -16, "Forbidden 16"),
+            IntRule.argument(i -> i != -17, "Forbidden 17"),
+            IntRule.argument(i -> i != -18, "Forbidden 18"),
+            IntRule.argument(i -> i != -19, "Forbidden 19"),
+            IntRule.argument(i -> i != -20, "Forbidden 20"),
+            IntRule.argument(i -> i != -21, "Forbidden 21"),
+            IntRule.argument(i -> i != -22, "Forbidden 22"),
+            IntRule.argument(i -> i != -23, "Forbidden 23"),
+            IntRule.argument(i -> i != -24, "Forbidden 24")
+    );
+
+    /** Equivalent of {@link #COMPOSED} made of nested predicates. */
+    private static final IntPredicate NESTED = ((IntPredicate) i -> i != -1)
+            .and(i -> i != -2)
+            .and(i -> i != -3)
+            .and(i -> i != -4)
+            .and(i -> i != -5)
+            .and(i -> i != -6)
+            .and(i -> i != -7)
+            .and(i -> i != -8)
+            .and(i -> i != -9)
+            .and(i -> i != -10)
+            .and(i -> i != -11)
+            .and(i -> i != -12)
+            .and(i -> i != -13)
+            .and(i -> i != -14)
+            .and(i -> i != -15)
+            .and(i -> i != -16)
+            .and(i -> i != -17)
+            .and(i -> i != -18)
+            .and(i -> i != -19)
+            .and(i -> i != -20)
+            .and(i -> i != -21)
+            .and(i -> i != -22)
+            .and(i -> i != -23)
+            .and(i -> i != -24);
+
+    /**
+     * Measures a passing check with {@link Constraint}.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkConstraintPassed(Values v) {
+        return Constraint.checkInt(v.intValue, i -> i >= 0, () -> new IllegalArgumentException(String.format("Negative %d", v.intValue)));
+    }
+
+    /**
+     * Measures a passing check with a rule using a lambda.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkRulePassed(Values v) {
+        return NON_NEGATIVE.check(v.intValue);
+    }
+
+    /**
+     * Measures a passing check with a rule using inheritance.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkRuleClassPassed(Values v) {
+        return NON_NEGATIVE_CLASS.check(v.intValue);
+    }
+
+    /**
+     * Measures a failing check with {@link Constraint}.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkConstraintFailed(Values v) {
+        final int value = -v.intValue;
+        try {
+            return Constraint.checkInt(value, i -> i >= 0, () -> new IllegalArgumentException(String.format("Negative %d", value)));
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a failing check with a rule using a lambda.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkRuleFailed(Values v) {
+        try {
+            return NON_NEGATIVE.check(-v.intValue);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures checking all elements of an array with {@link Constraint}.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int loopConstraint(Values v) {
+        final int[] array = v.array;
+        int result = 0;
+        for (int i = 0; i < array.length; i++) {
+            final int value = array[i];
+            result += Constraint.checkInt(value, n -> n >= 0, () -> new IllegalArgumentException(String.format("Negative %d", value)));
+            result += Constraint.checkInt(value, n -> n < 100, () -> new IllegalArgumentException(String.format("Too big %d", value)));
+            result += Constraint.checkInt(value, n -> n != -1, () -> new IllegalArgumentException(String.format("Invalid %d", value)));
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures checking all elements of an array with rules using lambdas.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int loopRule(Values v) {
+        final int[] array = v.array;
+        int result = 0;
+        for (int i = 0; i < array.length; i++) {
+            final int value = array[i];
+            result += NON_NEGATIVE.check(value);
+            result += SMALL.check(value);
+            result += NOT_MINUS_ONE.check(value);
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures checking all elements of an array with rules using inheritance.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int loopRuleClass(Values v) {
+        final int[] array = v.array;
+        int result = 0;
+        for (int i = 0; i < array.length; i++) {
+            final int value = array[i];
+            result += NON_NEGATIVE_CLASS.check(value);
+            result += SMALL_CLASS.check(value);
+            result += NOT_MINUS_ONE_CLASS.check(value);
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures a passing check of nested predicates with {@link Constraint}.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkNestedPassed(Values v) {
+        return Constraint.checkInt(v.intValue, NESTED, () -> new IllegalArgumentException(String.format("Forbidden %d", v.intValue)));
+    }
+
+    /**
+     * Measures a passing check of a composed rule.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int checkComposedPassed(Values v) {
+        return COMPOSED.check(v.intValue);
+    }
+
+    /**
+     * Measures finding the index of the violated rule of a composed rule.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int indexOfViolationComposed(Values v) {
+        return COMPOSED.indexOfViolation(-v.intValue);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.StateCondition;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link StateCondition} checks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateConditionBenchmark {
+
+    /**
+     * Measures a passing check with no message.
+     *
+     * @param v
+     *            the values to use
+     */
+    @Benchmark
+    public void checkPassed(Values v) {
+        StateCondition.check(v.pass);
+    }
+
+    /**
+     * Measures a failing check with no message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkFailed(Values v) {
+        try {
+            StateCondition.check(v.fail);
+            return null;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     */
+    @Benchmark
+    public void checkMessagePassed(Values v) {
+        StateCondition.check(v.pass, v.message);
+    }
+
+    /**
+     * Measures a failing check with a fixed message.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkMessageFailed(Values v) {
+        try {
+            StateCondition.check(v.fail, v.message);
+            return null;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Measures a passing check with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     */
+    @Benchmark
+    public void checkSupplierPassed(Values v) {
+        StateCondition.check(v.pass, v.messageSupplier);
+    }
+
+    /**
+     * Measures a failing check with a message supplier.
+     *
+     * @param v
+     *            the values to use
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public Object checkSupplierFailed(Values v) {
+        try {
+            StateCondition.check(v.fail, v.messageSupplier);
+            return null;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+}
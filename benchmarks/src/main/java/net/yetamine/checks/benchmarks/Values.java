@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark state providing the values to check.
+ *
+ * <p>
+ * All values are kept in non-final fields, so that JIT could not fold them
+ * into constants and eliminate the checks under measurement.
+ */
+@State(Scope.Thread)
+public class Values {
+
+    /** Condition which always passes. */
+    public boolean pass = true;
+    /** Condition which always fails. */
+    public boolean fail = false;
+
+    /** Reference value to check. */
+    public Object objectValue = new Object();
+    /** Value to check. */
+    public char charValue = 'a';
+    /** Value to check. */
+    public byte byteValue = 1;
+    /** Value to check. */
+    public short shortValue = 2;
+    /** Value to check. */
+    public int intValue = 3;
+    /** Value to check. */
+    public long longValue = 4L;
+    /** Value to check. */
+    public float floatValue = 5.0f;
+    /** Value to check. */
+    public double doubleValue = 6.0;
+
+    /** Array for the loop benchmarks. */
+    public int[] array = new int[1024];
+
+    /** Fixed message for the exception. */
+    public String message = "Check failed.";
+    /** Supplier of the message for the exception. */
+    public Supplier<String> messageSupplier = () -> "Check failed.";
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.yetamine.checks.Argument;
+import net.yetamine.checks.Violations;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares validating rows of an import with throwing checks and with
+ * {@link Violations}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViolationsBenchmark {
+
+    /**
+     * Benchmark state providing the rows to validate.
+     */
+    @State(Scope.Thread)
+    public static class Rows {
+
+        /** Number of the rows. */
+        @Param({ "10000" })
+        public int size;
+
+        /** Percentage of invalid values. */
+        @Param({ "0", "5" })
+        public int invalid;
+
+        /** Ages of the rows. */
+        public int[] ages;
+        /** Ratios of the rows. */
+        public double[] ratios;
+        /** Collector for the failures. */
+        public Violations violations;
+
+        /**
+         * Prepares the rows.
+         */
+        @Setup
+        public void setup() {
+            final Random random = new Random(42);
+            ages = new int[size];
+            ratios = new double[size];
+            for (int i = 0; i < size; i++) {
+                ages[i] = (random.nextInt(100) < invalid) ? -1 : random.nextInt(100);
+                ratios[i] = (random.nextInt(100) < invalid) ? Double.NaN : random.nextDouble();
+            }
+
+            violations = new Violations(size * 2);
+        }
+    }
+
+    /**
+     * Measures validating the rows with throwing checks.
+     *
+     * @param rows
+     *            the rows to validate
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public int validateThrowing(Rows rows) {
+        final int[] ages = rows.ages;
+        final double[] ratios = rows.ratios;
+        int failures = 0;
+        for (int i = 0; i < ages.length; i++) {
+            final int row = i;
+            try {
+                Argument.checkInt(ages[i], age -> 0 <= age, () -> "Invalid age at " + row);
+                Argument.checkDouble(ratios[i], Double::isFinite, () -> "Invalid ratio at " + row);
+            } catch (IllegalArgumentException e) {
+                ++failures;
+            }
+        }
+
+        return failures;
+    }
+
+    /**
+     * Measures validating the rows with {@link Violations}.
+     *
+     * @param rows
+     *            the rows to validate
+     *
+     * @return the result to consume
+     */
+    @Benchmark
+    public long validateCollecting(Rows rows) {
+        final int[] ages = rows.ages;
+        final double[] ratios = rows.ratios;
+        final Violations violations = rows.violations.clear();
+        for (int i = 0; i < ages.length; i++) {
+            violations.checkInt(ages[i], age -> 0 <= age, 1, i);
+            violations.checkDouble(ratios[i], Double::isFinite, 2, i);
+        }
+
+        return violations.count();
+    }
+}
@@ -0,0 +1,509 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.flow;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import net.yetamine.checks.Rule;
+
+/**
+ * A processor which checks each item passing from its publisher to its
+ * subscriber.
+ *
+ * <p>
+ * The processor passes the items satisfying the condition directly in the
+ * thread which delivers them, without any queue. An item that violates the
+ * condition is handled in one of two ways, depending on the factory method
+ * that created the processor:
+ *
+ * <ul>
+ * <li>A failing processor cancels its subscription and signals the failure
+ * to the subscriber with {@code onError}.</li>
+ * <li>A rejecting processor passes the item to a side channel of rejected
+ * items and continues.</li>
+ * </ul>
+ *
+ * <p>
+ * The processor never requests more items than its subscriber demands, so it
+ * never needs to buffer them. The demand of the subscriber is passed upstream
+ * in batches: the processor requests the missing items when the publisher has
+ * no outstanding demand, or when rejected items make the missing demand large
+ * enough, instead of requesting each rejected item separately.
+ *
+ * <p>
+ * This class is available on Java 9 and newer only, therefore it resides in a
+ * separate artifact.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public final class CheckingProcessor<T> implements Flow.Processor<T, T> {
+
+    /** Missing demand which is requested even if some demand is outstanding. */
+    private static final long BATCH = 64;
+    /** Marker of the completion as the terminal signal. */
+    private static final Throwable COMPLETED = new Throwable("Completed.");
+
+    /** Condition to check. */
+    private final Predicate<? super T> condition;
+    /** Factory of the failure for a failing processor; else {@code null}. */
+    private final Function<? super T, ? extends Throwable> failure;
+    /** Side channel for a rejecting processor; else {@code null}. */
+    private final Consumer<? super T> rejected;
+
+    /** Demand of the subscriber, which was not satisfied yet. */
+    private final AtomicLong demand = new AtomicLong();
+    /** Demand requested from the publisher, which was not satisfied yet. */
+    private final AtomicLong pending = new AtomicLong();
+    /** Work-in-progress counter serializing requests for the publisher. */
+    private final AtomicInteger requesting = new AtomicInteger();
+
+    /** Subscription to the publisher. */
+    private volatile Flow.Subscription upstream;
+    /** Subscriber of this processor. */
+    private volatile Flow.Subscriber<? super T> downstream;
+    /** Terminal signal: a failure, or {@link #COMPLETED}. */
+    private volatile Throwable terminal;
+    /** Indicates that no more items shall be passed. */
+    private volatile boolean stopped;
+    /** Indicates that the subscriber is ready for the terminal signal. */
+    private boolean ready;
+    /** Indicates that the terminal signal was delivered or is not wanted. */
+    private boolean terminated;
+    /** Invalid request to forward to the publisher when subscribed. */
+    private long invalidRequest;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param predicate
+     *            the condition to check. It must not be {@code null}.
+     * @param failureFactory
+     *            the factory of the failure, or {@code null} if the
+     *            rejection consumer shall be used
+     * @param rejectionConsumer
+     *            the side channel of rejected items, or {@code null} if the
+     *            failure factory shall be used
+     */
+    private CheckingProcessor(Predicate<? super T> predicate, Function<? super T, ? extends Throwable> failureFactory, Consumer<? super T> rejectionConsumer) {
+        condition = Objects.requireNonNull(predicate);
+        failure = failureFactory;
+        rejected = rejectionConsumer;
+        assert ((failure == null) != (rejected == null));
+    }
+
+    /**
+     * Creates a processor which fails when an item violates the condition.
+     *
+     * @param <T>
+     *            the type of the items
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception to signal with
+     *            {@code onError}. It must not be {@code null}.
+     *
+     * @return the new processor
+     */
+    public static <T> CheckingProcessor<T> failing(Predicate<? super T> condition, Supplier<? extends Throwable> exceptionSupplier) {
+        Objects.requireNonNull(exceptionSupplier);
+        return new CheckingProcessor<>(condition, item -> exceptionSupplier.get(), null);
+    }
+
+    /**
+     * Creates a processor which fails when an item violates the rule.
+     *
+     * @param <T>
+     *            the type of the items
+     * @param rule
+     *            the rule to check. It must not be {@code null}.
+     *
+     * @return the new processor
+     */
+    public static <T> CheckingProcessor<T> failing(Rule<? super T, ?> rule) {
+        return new CheckingProcessor<>(rule, rule::failure, null);
+    }
+
+    /**
+     * Creates a processor which passes the items violating the condition to
+     * a side channel.
+     *
+     * @param <T>
+     *            the type of the items
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param rejected
+     *            the side channel of the rejected items. It must not be
+     *            {@code null} and it is invoked in the thread delivering the
+     *            items.
+     *
+     * @return the new processor
+     */
+    public static <T> CheckingProcessor<T> rejecting(Predicate<? super T> condition, Consumer<? super T> rejected) {
+        return new CheckingProcessor<>(condition, null, Objects.requireNonNull(rejected));
+    }
+
+    /**
+     * @see java.util.concurrent.Flow.Publisher#subscribe(java.util.concurrent.Flow.Subscriber)
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+
+        final boolean accepted;
+        synchronized (this) {
+            accepted = (downstream == null);
+            if (accepted) {
+                downstream = subscriber;
+            }
+        }
+
+        if (!accepted) {
+            subscriber.onSubscribe(new Rejection());
+            subscriber.onError(new IllegalStateException("A subscriber is subscribed already."));
+            return;
+        }
+
+        subscriber.onSubscribe(new Subscription());
+
+        synchronized (this) {
+            ready = true;
+        }
+
+        terminate();
+    }
+
+    /**
+     * @see java.util.concurrent.Flow.Subscriber#onSubscribe(java.util.concurrent.Flow.Subscription)
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+
+        final long invalid;
+        synchronized (this) {
+            if ((upstream != null) || stopped) {
+                subscription.cancel();
+                return;
+            }
+
+            upstream = subscription;
+            invalid = invalidRequest;
+        }
+
+        if (invalid != 0) {
+            subscription.request(invalid);
+            return;
+        }
+
+        request();
+    }
+
+    /**
+     * @see java.util.concurrent.Flow.Subscriber#onNext(java.lang.Object)
+     */
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+
+        if (stopped) { // Cancelled or failed, ignore what is in flight
+            return;
+        }
+
+        final boolean satisfied;
+        try {
+            satisfied = condition.test(item);
+        } catch (Throwable t) { // Must not throw to the publisher
+            fail(t);
+            return;
+        }
+
+        if (satisfied) {
+            // Keep the order: the demand first, the pending requests then
+            decrement(demand);
+            final long outstanding = decrement(pending);
+            downstream.onNext(item);
+
+            if (outstanding == 0) {
+                request();
+            }
+
+            return;
+        }
+
+        decrement(pending);
+
+        if (failure != null) {
+            fail(failure(item));
+            return;
+        }
+
+        try {
+            rejected.accept(item);
+        } catch (Throwable t) { // Must not throw to the publisher
+            fail(t);
+            return;
+        }
+
+        request();
+    }
+
+    /**
+     * @see java.util.concurrent.Flow.Subscriber#onError(java.lang.Throwable)
+     */
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+
+        synchronized (this) {
+            if (terminal != null) {
+                return;
+            }
+
+            terminal = throwable;
+            stopped = true;
+        }
+
+        terminate();
+    }
+
+    /**
+     * @see java.util.concurrent.Flow.Subscriber#onComplete()
+     */
+    @Override
+    public void onComplete() {
+        onError(COMPLETED);
+    }
+
+    /**
+     * Fails with the given failure, cancelling the subscription.
+     *
+     * @param throwable
+     *            the failure to signal. It must not be {@code null}.
+     */
+    private void fail(Throwable throwable) {
+        final Flow.Subscription subscription;
+        synchronized (this) {
+            if (terminal != null) {
+                return;
+            }
+
+            terminal = Objects.requireNonNull(throwable);
+            stopped = true;
+            subscription = upstream;
+        }
+
+        subscription.cancel();
+        terminate();
+    }
+
+    /**
+     * Delivers the terminal signal if it is available and the subscriber is
+     * ready for it.
+     */
+    private void terminate() {
+        final Throwable signal;
+        synchronized (this) {
+            signal = terminal;
+            if ((signal == null) || !ready || terminated) {
+                return;
+            }
+
+            terminated = true;
+        }
+
+        if (signal == COMPLETED) {
+            downstream.onComplete();
+        } else {
+            downstream.onError(signal);
+        }
+    }
+
+    /**
+     * Returns the failure for an item violating the condition.
+     *
+     * @param item
+     *            the item violating the condition
+     *
+     * @return the failure to signal, or the exception thrown by the failure
+     *         factory if it failed to provide the failure
+     */
+    private Throwable failure(T item) {
+        try {
+            return Objects.requireNonNull(failure.apply(item), "Failure factory returned null.");
+        } catch (Throwable t) { // Must not throw to the publisher
+            return t;
+        }
+    }
+
+    /**
+     * Requests the missing items from the publisher if needed.
+     *
+     * <p>
+     * The requests are serialized, so that concurrent invocations can't
+     * request more items than the subscriber demands.
+     */
+    private void request() {
+        if (requesting.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            final Flow.Subscription subscription = upstream;
+            if ((subscription == null) || stopped) {
+                continue;
+            }
+
+            // Read in the opposite order than onNext updates the counters, so
+            // that a concurrent update can only make the missing demand lower
+            final long outstanding = pending.get();
+            final long required = demand.get();
+
+            if (required == Long.MAX_VALUE) {
+                if (outstanding != Long.MAX_VALUE) {
+                    pending.set(Long.MAX_VALUE);
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                continue;
+            }
+
+            final long missing = required - outstanding;
+            if ((0 < missing) && ((outstanding == 0) || (BATCH <= missing))) {
+                pending.addAndGet(missing);
+                subscription.request(missing);
+            }
+        } while (requesting.decrementAndGet() != 0);
+    }
+
+    /**
+     * Decrements a demand counter unless the demand is unbounded.
+     *
+     * @param counter
+     *            the counter to decrement. It must not be {@code null}.
+     *
+     * @return the decremented value
+     */
+    private static long decrement(AtomicLong counter) {
+        for (;;) {
+            final long current = counter.get();
+            if ((current == Long.MAX_VALUE) || counter.compareAndSet(current, current - 1)) {
+                return (current == Long.MAX_VALUE) ? current : current - 1;
+            }
+        }
+    }
+
+    /**
+     * Subscription for the subscriber of the processor.
+     */
+    private final class Subscription implements Flow.Subscription {
+
+        /**
+         * Creates a new instance.
+         */
+        Subscription() {
+            // Default constructor
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscription#request(long)
+         */
+        @Override
+        public void request(long n) {
+            if (n <= 0) { // Let the publisher signal the error properly
+                final Flow.Subscription subscription;
+                synchronized (CheckingProcessor.this) {
+                    subscription = upstream;
+                    if (subscription == null) {
+                        invalidRequest = n;
+                        return;
+                    }
+                }
+
+                subscription.request(n);
+                return;
+            }
+
+            for (;;) {
+                final long current = demand.get();
+                if (current == Long.MAX_VALUE) {
+                    return;
+                }
+
+                final long updated = current + n;
+                if (demand.compareAndSet(current, (updated < 0) ? Long.MAX_VALUE : updated)) {
+                    break;
+                }
+            }
+
+            CheckingProcessor.this.request();
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscription#cancel()
+         */
+        @Override
+        public void cancel() {
+            final Flow.Subscription subscription;
+            synchronized (CheckingProcessor.this) {
+                stopped = true;
+                terminated = true;
+                subscription = upstream;
+            }
+
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+
+    /**
+     * Subscription for a rejected subscriber.
+     */
+    private static final class Rejection implements Flow.Subscription {
+
+        /**
+         * Creates a new instance.
+         */
+        Rejection() {
+            // Default constructor
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscription#request(long)
+         */
+        @Override
+        public void request(long n) {
+            // Nothing to deliver
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscription#cancel()
+         */
+        @Override
+        public void cancel() {
+            // Nothing to cancel
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks.flow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import net.yetamine.checks.IntRule;
+import net.yetamine.checks.Rule;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link CheckingProcessor}.
+ */
+public final class TestCheckingProcessor {
+
+    /**
+     * Tests passing checks.
+     */
+    @Test
+    public void checkPassed() {
+        final CheckingProcessor<Integer> processor = CheckingProcessor.failing(v -> 0 <= v, IllegalArgumentException::new);
+        final Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+        processor.subscribe(recorder);
+
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>(Runnable::run, 16)) {
+            publisher.subscribe(processor);
+            IntStream.range(0, 1000).forEach(publisher::submit);
+        }
+
+        Assert.assertEquals(recorder.items, IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+        Assert.assertTrue(recorder.completed);
+        Assert.assertNull(recorder.error);
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test
+    public void checkFailed() {
+        final CheckingProcessor<Integer> processor = CheckingProcessor.failing(IntRule.argument(v -> 0 <= v, "Negative %d.")::test, IllegalStateException::new);
+        final Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+        processor.subscribe(recorder);
+
+        final Upstream upstream = new Upstream();
+        processor.onSubscribe(upstream);
+        processor.onNext(1);
+        processor.onNext(-2);
+        processor.onNext(3);
+        processor.onComplete();
+
+        Assert.assertEquals(recorder.items, Arrays.asList(1));
+        Assert.assertTrue(recorder.error instanceof IllegalStateException);
+        Assert.assertFalse(recorder.completed);
+        Assert.assertTrue(upstream.cancelled);
+    }
+
+    /**
+     * Tests failing checks with a rule.
+     */
+    @Test
+    public void checkFailedRule() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final CheckingProcessor<String> processor = CheckingProcessor.failing(Rule.argument(s -> (evaluations.incrementAndGet() == 0), "Empty string %s."));
+        final Recorder<String> recorder = new Recorder<>(1);
+        processor.subscribe(recorder);
+        processor.onSubscribe(new Upstream());
+        processor.onNext("");
+
+        Assert.assertTrue(recorder.error instanceof IllegalArgumentException);
+        Assert.assertEquals(recorder.error.getMessage(), "Empty string .");
+        Assert.assertEquals(evaluations.get(), 1);
+    }
+
+    /**
+     * Tests that the exceptions of the condition, of the failure factory and
+     * of the side channel are signalled to the subscriber instead of being
+     * thrown to the publisher.
+     */
+    @Test
+    public void checkThrowing() {
+        final IllegalStateException thrown = new IllegalStateException();
+
+        final List<CheckingProcessor<Integer>> processors = Arrays.asList(
+                CheckingProcessor.failing(v -> { throw thrown; }, IllegalArgumentException::new),
+                CheckingProcessor.failing(v -> false, () -> { throw thrown; }),
+                CheckingProcessor.rejecting(v -> false, v -> { throw thrown; }));
+
+        for (CheckingProcessor<Integer> processor : processors) {
+            final Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+            processor.subscribe(recorder);
+
+            final Upstream upstream = new Upstream();
+            processor.onSubscribe(upstream);
+            processor.onNext(1);
+            processor.onNext(2);
+
+            Assert.assertTrue(recorder.items.isEmpty());
+            Assert.assertSame(recorder.error, thrown);
+            Assert.assertTrue(upstream.cancelled);
+        }
+    }
+
+    /**
+     * Tests rejecting items with the demand of the subscriber.
+     */
+    @Test
+    public void checkRejected() {
+        final List<Integer> rejected = new ArrayList<>();
+        final CheckingProcessor<Integer> processor = CheckingProcessor.rejecting(v -> (v % 2) == 0, rejected::add);
+        final Recorder<Integer> recorder = new Recorder<>(3);
+        processor.subscribe(recorder);
+
+        final Upstream upstream = new Upstream();
+        processor.onSubscribe(upstream);
+        Assert.assertEquals(upstream.requests, Arrays.asList(3L));
+
+        processor.onNext(0);
+        processor.onNext(1); // Rejected, but an item still outstanding
+        Assert.assertEquals(upstream.requests, Arrays.asList(3L));
+        processor.onNext(2); // No item outstanding, replacing the rejected one
+        Assert.assertEquals(upstream.requests, Arrays.asList(3L, 1L));
+        processor.onNext(3); // Rejected and no item outstanding
+        Assert.assertEquals(upstream.requests, Arrays.asList(3L, 1L, 1L));
+        processor.onNext(4);
+
+        Assert.assertEquals(recorder.items, Arrays.asList(0, 2, 4));
+        Assert.assertEquals(rejected, Arrays.asList(1, 3));
+        Assert.assertEquals(upstream.requests, Arrays.asList(3L, 1L, 1L)); // No demand left
+
+        recorder.subscription.request(2);
+        Assert.assertEquals(upstream.requests, Arrays.asList(3L, 1L, 1L, 2L));
+    }
+
+    /**
+     * Tests requesting the replacements of rejected items in batches.
+     */
+    @Test
+    public void checkBatched() {
+        final CheckingProcessor<Integer> processor = CheckingProcessor.rejecting(v -> false, v -> {});
+        final Upstream upstream = new Upstream();
+        processor.onSubscribe(upstream);
+        processor.subscribe(new Recorder<>(100));
+        Assert.assertEquals(upstream.requests, Arrays.asList(100L));
+
+        IntStream.range(0, 100).forEach(processor::onNext);
+        Assert.assertEquals(upstream.requests, Arrays.asList(100L, 64L)); // 64 items still outstanding
+
+        IntStream.range(0, 64).forEach(processor::onNext);
+        Assert.assertEquals(upstream.requests, Arrays.asList(100L, 64L, 64L));
+    }
+
+    /**
+     * Tests unbounded demand.
+     */
+    @Test
+    public void checkUnbounded() {
+        final CheckingProcessor<Integer> processor = CheckingProcessor.rejecting(v -> (v % 2) == 0, v -> {});
+        final Upstream upstream = new Upstream();
+        processor.onSubscribe(upstream);
+        final Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+        processor.subscribe(recorder);
+
+        IntStream.range(0, 100).forEach(processor::onNext);
+        Assert.assertEquals(upstream.requests, Arrays.asList(Long.MAX_VALUE));
+        Assert.assertEquals(recorder.items.size(), 50);
+    }
+
+    /**
+     * Tests cancelling and subscribing another subscriber.
+     */
+    @Test
+    public void subscription() {
+        final CheckingProcessor<Integer> processor = CheckingProcessor.rejecting(v -> true, v -> {});
+        final Recorder<Integer> recorder = new Recorder<>(1);
+        processor.subscribe(recorder);
+
+        final Recorder<Integer> another = new Recorder<>(1);
+        processor.subscribe(another);
+        Assert.assertTrue(another.error instanceof IllegalStateException);
+
+        recorder.subscription.cancel();
+        final Upstream upstream = new Upstream();
+        processor.onSubscribe(upstream);
+        Assert.assertTrue(upstream.cancelled);
+        Assert.assertTrue(upstream.requests.isEmpty());
+    }
+
+    /**
+     * Tests that the completion before subscribing is delivered.
+     */
+    @Test
+    public void completedEarly() {
+        final CheckingProcessor<Integer> processor = CheckingProcessor.rejecting(v -> true, v -> {});
+        processor.onSubscribe(new Upstream());
+        processor.onComplete();
+
+        final Recorder<Integer> recorder = new Recorder<>(1);
+        processor.subscribe(recorder);
+        Assert.assertTrue(recorder.completed);
+    }
+
+    /**
+     * Records the signals from the tested processor.
+     *
+     * @param <T>
+     *            the type of the items
+     */
+    private static final class Recorder<T> implements Flow.Subscriber<T> {
+
+        /** Initial request. */
+        final long initial;
+        /** Received items. */
+        final List<T> items = new ArrayList<>();
+        /** Received subscription. */
+        Flow.Subscription subscription;
+        /** Received failure. */
+        Throwable error;
+        /** Indicates the completion. */
+        boolean completed;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param request
+         *            the initial request
+         */
+        Recorder(long request) {
+            initial = request;
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscriber#onSubscribe(java.util.concurrent.Flow.Subscription)
+         */
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            subscription = s;
+            s.request(initial);
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscriber#onNext(java.lang.Object)
+         */
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscriber#onError(java.lang.Throwable)
+         */
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscriber#onComplete()
+         */
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Records the requests from the tested processor.
+     */
+    private static final class Upstream implements Flow.Subscription {
+
+        /** Received requests. */
+        final List<Long> requests = new ArrayList<>();
+        /** Indicates the cancellation. */
+        boolean cancelled;
+
+        /**
+         * Creates a new instance.
+         */
+        Upstream() {
+            // Default constructor
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscription#request(long)
+         */
+        @Override
+        public void request(long n) {
+            requests.add(n);
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscription#cancel()
+         */
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -16,6 +16,10 @@
 
 package net.yetamine.checks;
 
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -104,7 +108,7 @@ public final class Argument {
             return (T) result;
         }
 
-        throw exceptionSupplier.get();
+        throw castFailure(exceptionSupplier);
     }
 
     // Regular checking methods
@@ -129,7 +133,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException();
+        throw Failures.illegalArgument();
     }
 
     /**
@@ -154,7 +158,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(message);
+        throw Failures.illegalArgument(message);
     }
 
     /**
@@ -181,7 +185,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(messageSupplier.get());
+        throw failure(messageSupplier);
     }
 
     /**
@@ -202,7 +206,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException();
+        throw Failures.illegalArgument(result);
     }
 
     /**
@@ -225,7 +229,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(message);
+        throw Failures.illegalArgument(result, message);
     }
 
     /**
@@ -250,7 +254,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(messageSupplier.get());
+        throw failure(result, messageSupplier);
     }
 
     /**
@@ -271,7 +275,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException();
+        throw Failures.illegalArgument(result);
     }
 
     /**
@@ -294,7 +298,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(message);
+        throw Failures.illegalArgument(result, message);
     }
 
     /**
@@ -319,7 +323,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(messageSupplier.get());
+        throw failure(result, messageSupplier);
     }
 
     /**
@@ -340,7 +344,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException();
+        throw Failures.illegalArgument(result);
     }
 
     /**
@@ -363,7 +367,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(message);
+        throw Failures.illegalArgument(result, message);
     }
 
     /**
@@ -388,7 +392,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(messageSupplier.get());
+        throw failure(result, messageSupplier);
     }
 
     /**
@@ -409,7 +413,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException();
+        throw Failures.illegalArgument(result);
     }
 
     /**
@@ -432,7 +436,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(message);
+        throw Failures.illegalArgument(result, message);
     }
 
     /**
@@ -457,7 +461,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(messageSupplier.get());
+        throw failure(result, messageSupplier);
     }
 
     /**
@@ -478,7 +482,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException();
+        throw Failures.illegalArgument(result);
     }
 
     /**
@@ -501,7 +505,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(message);
+        throw Failures.illegalArgument(result, message);
     }
 
     /**
@@ -526,7 +530,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(messageSupplier.get());
+        throw failure(result, messageSupplier);
     }
 
     /**
@@ -547,7 +551,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException();
+        throw Failures.illegalArgument(result);
     }
 
     /**
@@ -570,7 +574,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(message);
+        throw Failures.illegalArgument(result, message);
     }
 
     /**
@@ -595,7 +599,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(messageSupplier.get());
+        throw failure(result, messageSupplier);
     }
 
     /**
@@ -616,7 +620,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException();
+        throw Failures.illegalArgument(result);
     }
 
     /**
@@ -639,7 +643,7 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(message);
+        throw Failures.illegalArgument(result, message);
     }
 
     /**
@@ -664,6 +668,1658 @@ public final class Argument {
             return result;
         }
 
-        throw new IllegalArgumentException(messageSupplier.get());
+        throw failure(result, messageSupplier);
+    }
+
+    // Checking methods with message templates
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, int arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, long arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, double arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, Object arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, int arg1, int arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, long arg1, long arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, double arg1, double arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, Object arg1, Object arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, int arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, long arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, double arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, Object arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, int arg1, int arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, long arg1, long arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, double arg1, double arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, Object arg1, Object arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, int arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, long arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, double arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, Object arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, int arg1, int arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, long arg1, long arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, double arg1, double arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, Object arg1, Object arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double check(double result, boolean condition, String template, int arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double check(double result, boolean condition, String template, long arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double check(double result, boolean condition, String template, double arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double check(double result, boolean condition, String template, Object arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double check(double result, boolean condition, String template, int arg1, int arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double check(double result, boolean condition, String template, long arg1, long arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double check(double result, boolean condition, String template, double arg1, double arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the argument to check
+     *
+     * @throws LazyIllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double check(double result, boolean condition, String template, Object arg1, Object arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    // Primitive predicate checking methods
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * <p>
+     * The name of the method reflects the type of the condition, so that a
+     * lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int checkInt(int result, IntPredicate condition) {
+        if (condition.test(result)) {
+            return result;
+        }
+
+        throw Failures.illegalArgument(result);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * <p>
+     * The name of the method reflects the type of the condition, so that a
+     * lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param message
+     *            the message of the exception thrown when the check fails
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int checkInt(int result, IntPredicate condition, String message) {
+        if (condition.test(result)) {
+            return result;
+        }
+
+        throw Failures.illegalArgument(result, message);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * <p>
+     * The name of the method reflects the type of the condition, so that a
+     * lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageSupplier
+     *            the supplier of the message for the exception that is thrown
+     *            when the check fails. It must not be {@code null}.
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static int checkInt(int result, IntPredicate condition, Supplier<String> messageSupplier) {
+        return check(result, condition.test(result), messageSupplier); // Keeps the bytecode within MaxInlineSize
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * <p>
+     * The name of the method reflects the type of the condition, so that a
+     * lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long checkLong(long result, LongPredicate condition) {
+        if (condition.test(result)) {
+            return result;
+        }
+
+        throw Failures.illegalArgument(result);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * <p>
+     * The name of the method reflects the type of the condition, so that a
+     * lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param message
+     *            the message of the exception thrown when the check fails
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long checkLong(long result, LongPredicate condition, String message) {
+        if (condition.test(result)) {
+            return result;
+        }
+
+        throw Failures.illegalArgument(result, message);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * <p>
+     * The name of the method reflects the type of the condition, so that a
+     * lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageSupplier
+     *            the supplier of the message for the exception that is thrown
+     *            when the check fails. It must not be {@code null}.
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static long checkLong(long result, LongPredicate condition, Supplier<String> messageSupplier) {
+        return check(result, condition.test(result), messageSupplier); // Keeps the bytecode within MaxInlineSize
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * <p>
+     * The name of the method reflects the type of the condition, so that a
+     * lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double checkDouble(double result, DoublePredicate condition) {
+        if (condition.test(result)) {
+            return result;
+        }
+
+        throw Failures.illegalArgument(result);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * <p>
+     * The name of the method reflects the type of the condition, so that a
+     * lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param message
+     *            the message of the exception thrown when the check fails
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double checkDouble(double result, DoublePredicate condition, String message) {
+        if (condition.test(result)) {
+            return result;
+        }
+
+        throw Failures.illegalArgument(result, message);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition.
+     *
+     * <p>
+     * The name of the method reflects the type of the condition, so that a
+     * lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageSupplier
+     *            the supplier of the message for the exception that is thrown
+     *            when the check fails. It must not be {@code null}.
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the condition is not satisfied
+     */
+    public static double checkDouble(double result, DoublePredicate condition, Supplier<String> messageSupplier) {
+        return check(result, condition.test(result), messageSupplier); // Keeps the bytecode within MaxInlineSize
+    }
+
+    // Tiered checking methods
+
+    /**
+     * Checks an argument whether it satisfies a condition if
+     * {@link CheckLevel#NORMAL} checks are enabled.
+     *
+     * <p>
+     * When the checks are disabled, the condition is not evaluated at all.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param message
+     *            the message of the exception thrown when the check fails
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the check is enabled and the condition is not satisfied
+     */
+    public static <T> T checkNormal(T result, Predicate<? super T> condition, String message) {
+        if (!CheckLevel.NORMAL_ENABLED || condition.test(result)) {
+            return result;
+        }
+
+        throw Failures.illegalArgument(message);
+    }
+
+    /**
+     * Checks an argument whether it satisfies a condition if
+     * {@link CheckLevel#EXPENSIVE} checks are enabled.
+     *
+     * <p>
+     * When the checks are disabled, the condition is not evaluated at all.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the argument to check and returned
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param message
+     *            the message of the exception thrown when the check fails
+     *
+     * @return the argument to check
+     *
+     * @throws IllegalArgumentException
+     *             if the check is enabled and the condition is not satisfied
+     */
+    public static <T> T checkExpensive(T result, Predicate<? super T> condition, String message) {
+        if (!CheckLevel.EXPENSIVE_ENABLED || condition.test(result)) {
+            return result;
+        }
+
+        throw Failures.illegalArgument(message);
+    }
+
+    // Cold paths for failing checks
+
+    /**
+     * Creates the exception for a failing cast.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param exceptionSupplier
+     *            the supplier of the exception. It must not be {@code null}.
+     *
+     * @return the exception to throw
+     */
+    private static <X extends Throwable> X castFailure(Supplier<? extends X> exceptionSupplier) {
+        return Failures.observed(exceptionSupplier.get());
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param messageSupplier
+     *            the supplier of the message. It must not be {@code null}.
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(Supplier<String> messageSupplier) {
+        return Failures.illegalArgument(messageSupplier.get());
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(String template, int arg) {
+        return Failures.illegalArgument(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(String template, long arg) {
+        return Failures.illegalArgument(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(String template, double arg) {
+        return Failures.illegalArgument(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(String template, Object arg) {
+        return Failures.illegalArgument(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(String template, int arg1, int arg2) {
+        return Failures.illegalArgument(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(String template, long arg1, long arg2) {
+        return Failures.illegalArgument(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(String template, double arg1, double arg2) {
+        return Failures.illegalArgument(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(String template, Object arg1, Object arg2) {
+        return Failures.illegalArgument(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param messageSupplier
+     *            the supplier of the message. It must not be {@code null}.
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(long value, Supplier<String> messageSupplier) {
+        return Failures.illegalArgument(value, messageSupplier.get());
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param messageSupplier
+     *            the supplier of the message. It must not be {@code null}.
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(double value, Supplier<String> messageSupplier) {
+        return Failures.illegalArgument(value, messageSupplier.get());
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(long value, String template, int arg) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(long value, String template, long arg) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(long value, String template, double arg) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(long value, String template, Object arg) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(long value, String template, int arg1, int arg2) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(long value, String template, long arg1, long arg2) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(long value, String template, double arg1, double arg2) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(long value, String template, Object arg1, Object arg2) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(double value, String template, int arg) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(double value, String template, long arg) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(double value, String template, double arg) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(double value, String template, Object arg) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(double value, String template, int arg1, int arg2) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(double value, String template, long arg1, long arg2) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(double value, String template, double arg1, double arg2) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalArgumentException failure(double value, String template, Object arg1, Object arg2) {
+        return Failures.illegalArgument(value, DeferredMessage.of(template, arg1, arg2));
     }
 }
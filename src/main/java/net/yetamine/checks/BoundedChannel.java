@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A readable channel which limits the number of bytes that can be read from
+ * the underlying channel and, optionally, the rate of reading.
+ *
+ * <p>
+ * This class works like {@link BoundedInputStream}: it reads at most one byte
+ * over the limit from the underlying channel and throws
+ * {@link IllegalStateException} if the underlying channel has the byte. With
+ * a rate limit, the channel waits after reading, so that the average rate
+ * since the first read does not exceed the limit. This class is not
+ * thread-safe.
+ */
+public final class BoundedChannel implements ReadableByteChannel {
+
+    /** Underlying channel. */
+    private final ReadableByteChannel channel;
+    /** Limits of the channel. */
+    private final ByteQuota quota;
+
+    /**
+     * Creates a new instance with no rate limit.
+     *
+     * @param source
+     *            the underlying channel. It must not be {@code null}.
+     * @param limit
+     *            the maximal number of bytes to read. It must not be
+     *            negative.
+     */
+    public BoundedChannel(ReadableByteChannel source, long limit) {
+        this(source, limit, 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param source
+     *            the underlying channel. It must not be {@code null}.
+     * @param limit
+     *            the maximal number of bytes to read. It must not be
+     *            negative.
+     * @param rate
+     *            the maximal number of bytes to read per second, or 0 for no
+     *            rate limit. It must not be negative.
+     */
+    public BoundedChannel(ReadableByteChannel source, long limit, long rate) {
+        channel = Argument.check(source, source != null, "Channel must not be null.");
+        quota = new ByteQuota(limit, rate);
+    }
+
+    /**
+     * Returns the maximal number of bytes to read.
+     *
+     * @return the maximal number of bytes to read
+     */
+    public long limit() {
+        return quota.limit();
+    }
+
+    /**
+     * Returns the number of bytes read so far.
+     *
+     * @return the number of bytes read so far
+     */
+    public long count() {
+        return quota.count();
+    }
+
+    /**
+     * @see java.nio.channels.ReadableByteChannel#read(java.nio.ByteBuffer)
+     */
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        final int remaining = dst.remaining();
+        if (remaining == 0) {
+            return 0;
+        }
+
+        final int permitted = quota.permit(remaining);
+        final int limit = dst.limit();
+        dst.limit(dst.position() + permitted);
+
+        final int result;
+        try {
+            result = channel.read(dst);
+        } finally {
+            dst.limit(limit);
+        }
+
+        quota.consumed(result);
+        return result;
+    }
+
+    /**
+     * @see java.nio.channels.Channel#isOpen()
+     */
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    /**
+     * @see java.nio.channels.Channel#close()
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An input stream which limits the number of bytes that can be read from the
+ * underlying stream and, optionally, the rate of reading.
+ *
+ * <p>
+ * The stream reads at most one byte over the limit from the underlying stream.
+ * When the underlying stream has the byte, the stream throws
+ * {@link IllegalStateException}, like {@link StateCondition}, so that a too
+ * long input is rejected as soon as possible, without reading it whole:
+ *
+ * <pre>
+ * try (InputStream body = new BoundedInputStream(request.getInputStream(), MAX_BODY)) {
+ *     return parse(body); // Throws IllegalStateException if the body is too long
+ * }
+ * </pre>
+ *
+ * <p>
+ * Skipping reads the skipped bytes, because some streams can skip past their
+ * end, hence the limit applies to skipping exactly as to reading.
+ *
+ * <p>
+ * With a rate limit, the stream waits after reading, so that the average rate
+ * since the first read does not exceed the limit. This class does not support
+ * marking and it is not thread-safe.
+ */
+public final class BoundedInputStream extends FilterInputStream {
+
+    /** Maximal number of bytes to skip at once. */
+    private static final int SKIP_BUFFER_SIZE = 2048;
+
+    /** Limits of the stream. */
+    private final ByteQuota quota;
+
+    /**
+     * Creates a new instance with no rate limit.
+     *
+     * @param in
+     *            the underlying stream. It must not be {@code null}.
+     * @param limit
+     *            the maximal number of bytes to read. It must not be
+     *            negative.
+     */
+    public BoundedInputStream(InputStream in, long limit) {
+        this(in, limit, 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param in
+     *            the underlying stream. It must not be {@code null}.
+     * @param limit
+     *            the maximal number of bytes to read. It must not be
+     *            negative.
+     * @param rate
+     *            the maximal number of bytes to read per second, or 0 for no
+     *            rate limit. It must not be negative.
+     */
+    public BoundedInputStream(InputStream in, long limit, long rate) {
+        super(Argument.check(in, in != null, "Input stream must not be null."));
+        quota = new ByteQuota(limit, rate);
+    }
+
+    /**
+     * Returns the maximal number of bytes to read.
+     *
+     * @return the maximal number of bytes to read
+     */
+    public long limit() {
+        return quota.limit();
+    }
+
+    /**
+     * Returns the number of bytes read so far.
+     *
+     * @return the number of bytes read so far
+     */
+    public long count() {
+        return quota.count();
+    }
+
+    /**
+     * @see java.io.FilterInputStream#read()
+     */
+    @Override
+    public int read() throws IOException {
+        quota.permit(1);
+        final int result = in.read();
+        quota.consumed((result < 0) ? 0 : 1);
+        return result;
+    }
+
+    /**
+     * @see java.io.FilterInputStream#read(byte[], int, int)
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        IndexBounds.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+
+        final int result = in.read(b, off, quota.permit(len));
+        quota.consumed(result);
+        return result;
+    }
+
+    /**
+     * @see java.io.FilterInputStream#skip(long)
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+
+        // Read the bytes, since the stream might skip past its end
+        final int result = read(new byte[(int) Math.min(n, SKIP_BUFFER_SIZE)]);
+        return Math.max(result, 0);
+    }
+
+    /**
+     * @see java.io.FilterInputStream#available()
+     */
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(in.available(), quota.remaining());
+    }
+
+    /**
+     * @see java.io.FilterInputStream#markSupported()
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * @see java.io.FilterInputStream#mark(int)
+     */
+    @Override
+    public synchronized void mark(int readlimit) {
+        // Not supported
+    }
+
+    /**
+     * @see java.io.FilterInputStream#reset()
+     */
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("Marking not supported.");
+    }
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * A utility class for checking argument pre-conditions of all elements of
+ * primitive arrays.
+ *
+ * <p>
+ * The range checks of integral values scan arrays in loops that just-in-time
+ * compilers can vectorize, which is much faster for large arrays than checking
+ * each element with {@link Argument}. All checks report the index of the first
+ * violating element.
+ *
+ * <p>
+ * On Java 17 and newer, the range, finiteness and ordering checks use the
+ * Vector API when the {@code jdk.incubator.vector} module is available, e.g.,
+ * when the JVM runs with {@code --add-modules jdk.incubator.vector}. Otherwise
+ * they fall back to plain loops with the same results.
+ */
+public final class BulkArgument {
+
+    /** Template for a violated condition. */
+    private static final String CONDITION_VIOLATED = "Element at index %d violates the condition.";
+    /** Template for an element out of a range. */
+    private static final String OUT_OF_RANGE = "Element at index %d is out of the range [%d, %d].";
+    /** Template for an element out of a range of {@code double} values. */
+    private static final String OUT_OF_RANGE_DOUBLE = "Element at index %d is out of the range.";
+    /** Template for an element that is not sorted. */
+    private static final String UNSORTED = "Element at index %d is less than its predecessor.";
+    /** Template for an element that is not finite. */
+    private static final String NOT_FINITE = "Element at index %d is not finite.";
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private BulkArgument() {
+        throw new AssertionError();
+    }
+
+    // Checking methods
+
+    /**
+     * Checks that all elements of an array satisfy a condition.
+     *
+     * @param result
+     *            the array to check and return. It must not be
+     *            {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the array to check
+     *
+     * @throws IllegalArgumentException
+     *             if an element does not satisfy the condition
+     */
+    public static int[] checkAll(int[] result, IntPredicate condition) {
+        final int index = ArrayScans.indexOfViolation(result, condition);
+        if (index < 0) {
+            return result;
+        }
+
+        throw failure(CONDITION_VIOLATED, index);
+    }
+
+    /**
+     * Checks that all elements of an array satisfy a condition.
+     *
+     * @param result
+     *            the array to check and return. It must not be
+     *            {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the array to check
+     *
+     * @throws IllegalArgumentException
+     *             if an element does not satisfy the condition
+     */
+    public static long[] checkAll(long[] result, LongPredicate condition) {
+        final int index = ArrayScans.indexOfViolation(result, condition);
+        if (index < 0) {
+            return result;
+        }
+
+        throw failure(CONDITION_VIOLATED, index);
+    }
+
+    /**
+     * Checks that all elements of an array satisfy a condition.
+     *
+     * @param result
+     *            the array to check and return. It must not be
+     *            {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the array to check
+     *
+     * @throws IllegalArgumentException
+     *             if an element does not satisfy the condition
+     */
+    public static double[] checkAll(double[] result, DoublePredicate condition) {
+        final int index = ArrayScans.indexOfViolation(result, condition);
+        if (index < 0) {
+            return result;
+        }
+
+        throw failure(CONDITION_VIOLATED, index);
+    }
+
+    /**
+     * Checks that all elements of an array are within a range.
+     *
+     * @param result
+     *            the array to check and return. It must not be
+     *            {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the array to check
+     *
+     * @throws IllegalArgumentException
+     *             if an element is out of the range
+     */
+    public static int[] checkAllInRange(int[] result, int min, int max) {
+        final int index = ArrayScans.indexOutOfRange(result, min, max);
+        if (index < 0) {
+            return result;
+        }
+
+        throw failure(OUT_OF_RANGE, index, min, max);
+    }
+
+    /**
+     * Checks that all elements of an array are within a range.
+     *
+     * @param result
+     *            the array to check and return. It must not be
+     *            {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the array to check
+     *
+     * @throws IllegalArgumentException
+     *             if an element is out of the range
+     */
+    public static long[] checkAllInRange(long[] result, long min, long max) {
+        final int index = ArrayScans.indexOutOfRange(result, min, max);
+        if (index < 0) {
+            return result;
+        }
+
+        throw failure(OUT_OF_RANGE, index, min, max);
+    }
+
+    /**
+     * Checks that all elements of an array are within a range.
+     *
+     * @param result
+     *            the array to check and return. It must not be
+     *            {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the array to check
+     *
+     * @throws IllegalArgumentException
+     *             if an element is out of the range or it is NaN
+     */
+    public static double[] checkAllInRange(double[] result, double min, double max) {
+        final int index = ArrayScans.indexOutOfRange(result, min, max);
+        if (index < 0) {
+            return result;
+        }
+
+        throw failure(OUT_OF_RANGE_DOUBLE, index);
+    }
+
+    /**
+     * Checks that all elements of an array are finite, i.e., neither infinite
+     * nor NaN.
+     *
+     * @param result
+     *            the array to check and return. It must not be
+     *            {@code null}.
+     *
+     * @return the array to check
+     *
+     * @throws IllegalArgumentException
+     *             if an element is not finite
+     */
+    public static double[] checkAllFinite(double[] result) {
+        final int index = ArrayScans.indexOfNonFinite(result);
+        if (index < 0) {
+            return result;
+        }
+
+        throw failure(NOT_FINITE, index);
+    }
+
+    /**
+     * Checks that the elements of an array are sorted in ascending order,
+     * i.e., that no element is less than its predecessor.
+     *
+     * @param result
+     *            the array to check and return. It must not be
+     *            {@code null}.
+     *
+     * @return the array to check
+     *
+     * @throws IllegalArgumentException
+     *             if an element is less than its predecessor
+     */
+    public static int[] checkAllSorted(int[] result) {
+        final int index = ArrayScans.indexOfUnsorted(result);
+        if (index < 0) {
+            return result;
+        }
+
+        throw failure(UNSORTED, index);
+    }
+
+    /**
+     * Checks that the elements of an array are sorted in ascending order,
+     * i.e., that no element is less than its predecessor.
+     *
+     * @param result
+     *            the array to check and return. It must not be
+     *            {@code null}.
+     *
+     * @return the array to check
+     *
+     * @throws IllegalArgumentException
+     *             if an element is less than its predecessor
+     */
+    public static long[] checkAllSorted(long[] result) {
+        final int index = ArrayScans.indexOfUnsorted(result);
+        if (index < 0) {
+            return result;
+        }
+
+        throw failure(UNSORTED, index);
+    }
+
+    /**
+     * Checks that the elements of an array are sorted in ascending order,
+     * i.e., that no element is less than its predecessor; NaN is never sorted.
+     *
+     * @param result
+     *            the array to check and return. It must not be
+     *            {@code null}.
+     *
+     * @return the array to check
+     *
+     * @throws IllegalArgumentException
+     *             if an element is less than its predecessor
+     */
+    public static double[] checkAllSorted(double[] result) {
+        final int index = ArrayScans.indexOfUnsorted(result);
+        if (index < 0) {
+            return result;
+        }
+
+        throw failure(UNSORTED, index);
+    }
+
+    // Scanning methods
+
+    /**
+     * Finds the first element of an array that does not satisfy a condition.
+     *
+     * @param values
+     *            the array to scan. It must not be {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static int indexOfViolation(int[] values, IntPredicate condition) {
+        return ArrayScans.indexOfViolation(values, condition);
+    }
+
+    /**
+     * Finds the first element of an array that does not satisfy a condition.
+     *
+     * @param values
+     *            the array to scan. It must not be {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static int indexOfViolation(long[] values, LongPredicate condition) {
+        return ArrayScans.indexOfViolation(values, condition);
+    }
+
+    /**
+     * Finds the first element of an array that does not satisfy a condition.
+     *
+     * @param values
+     *            the array to scan. It must not be {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static int indexOfViolation(double[] values, DoublePredicate condition) {
+        return ArrayScans.indexOfViolation(values, condition);
+    }
+
+    /**
+     * Finds the first element of an array that is out of a range.
+     *
+     * @param values
+     *            the array to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static int indexOutOfRange(int[] values, int min, int max) {
+        return ArrayScans.indexOutOfRange(values, min, max);
+    }
+
+    /**
+     * Finds the first element of an array that is out of a range.
+     *
+     * @param values
+     *            the array to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static int indexOutOfRange(long[] values, long min, long max) {
+        return ArrayScans.indexOutOfRange(values, min, max);
+    }
+
+    /**
+     * Finds the first element of an array that is out of a range. NaN is
+     * always out of the range.
+     *
+     * @param values
+     *            the array to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static int indexOutOfRange(double[] values, double min, double max) {
+        return ArrayScans.indexOutOfRange(values, min, max);
+    }
+
+    /**
+     * Finds the first element of an array that is not finite.
+     *
+     * @param values
+     *            the array to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static int indexOfNonFinite(double[] values) {
+        return ArrayScans.indexOfNonFinite(values);
+    }
+
+    /**
+     * Finds the first element of an array that is less than its predecessor.
+     *
+     * @param values
+     *            the array to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static int indexOfUnsorted(int[] values) {
+        return ArrayScans.indexOfUnsorted(values);
+    }
+
+    /**
+     * Finds the first element of an array that is less than its predecessor.
+     *
+     * @param values
+     *            the array to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static int indexOfUnsorted(long[] values) {
+        return ArrayScans.indexOfUnsorted(values);
+    }
+
+    /**
+     * Finds the first element of an array that is less than its predecessor. NaN
+     * is never sorted.
+     *
+     * @param values
+     *            the array to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static int indexOfUnsorted(double[] values) {
+        return ArrayScans.indexOfUnsorted(values);
+    }
+
+    // Cold paths for failing checks
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param index
+     *            the index of the failing element
+     *
+     * @return the exception
+     */
+    private static IllegalArgumentException failure(String template, int index) {
+        return Failures.illegalArgument(index, DeferredMessage.of(template, index));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param index
+     *            the index of the failing element
+     * @param min
+     *            the lower bound of the range
+     * @param max
+     *            the upper bound of the range
+     *
+     * @return the exception
+     */
+    private static IllegalArgumentException failure(String template, long index, long min, long max) {
+        return Failures.illegalArgument(index, DeferredMessage.of(template, index, min, max));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implements the byte limit and the rate limit for {@link BoundedInputStream}
+ * and {@link BoundedChannel}.
+ */
+final class ByteQuota {
+
+    /** Template for describing exceeding the limit. */
+    private static final String EXCEEDED = "Exceeded the limit of %d bytes.";
+
+    /** Maximal number of bytes. */
+    private final long limit;
+    /** Maximal number of bytes per second, or 0 for no rate limit. */
+    private final long rate;
+    /** Time of the first transfer in nanoseconds. */
+    private long start;
+    /** Number of transferred bytes. */
+    private long count;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxBytes
+     *            the maximal number of bytes. It must not be negative.
+     * @param maxRate
+     *            the maximal number of bytes per second, or 0 for no rate
+     *            limit. It must not be negative.
+     */
+    public ByteQuota(long maxBytes, long maxRate) {
+        limit = Argument.check(maxBytes, 0 <= maxBytes, "Requiring a non-negative limit (given: %d).", maxBytes);
+        rate = Argument.check(maxRate, 0 <= maxRate, "Requiring a non-negative rate (given: %d).", maxRate);
+    }
+
+    /**
+     * Returns the maximal number of bytes.
+     *
+     * @return the maximal number of bytes
+     */
+    public long limit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of transferred bytes.
+     *
+     * @return the number of transferred bytes
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of bytes to request from the source, so that it is
+     * possible to detect exceeding the limit as soon as possible.
+     *
+     * @param length
+     *            the number of bytes that the caller requested
+     *
+     * @return the number of bytes to request, which is at most one byte over
+     *         the limit
+     *
+     * @throws IllegalStateException
+     *             if a previous transfer exceeded the limit already
+     */
+    public int permit(int length) {
+        if (limit < count) {
+            throw exceeded();
+        }
+
+        if ((rate != 0) && (count == 0)) {
+            start = System.nanoTime();
+        }
+
+        // Comparing the remainder first, which can't overflow unlike adding one
+        final long remaining = limit - count;
+        return (remaining < length) ? (int) (remaining + 1) : length;
+    }
+
+    /**
+     * Returns the number of bytes that can be transferred without exceeding
+     * the limit.
+     *
+     * @return the number of bytes that can be transferred
+     */
+    public long remaining() {
+        return Math.max(limit - count, 0);
+    }
+
+    /**
+     * Records transferred bytes.
+     *
+     * @param transferred
+     *            the number of transferred bytes, negative values are
+     *            ignored for the convenience of handling the end of a source
+     *
+     * @throws IllegalStateException
+     *             if the transfer exceeded the limit
+     * @throws InterruptedIOException
+     *             if interrupted while waiting for the rate limit
+     */
+    public void consumed(long transferred) throws InterruptedIOException {
+        if (transferred <= 0) {
+            return;
+        }
+
+        count += transferred;
+        if (limit < count) {
+            throw exceeded();
+        }
+
+        if (rate != 0) {
+            throttle();
+        }
+    }
+
+    /**
+     * Creates the exception for exceeding the limit.
+     *
+     * @return the exception
+     */
+    private IllegalStateException exceeded() {
+        return Failures.illegalState(count, DeferredMessage.of(EXCEEDED, limit));
+    }
+
+    /**
+     * Waits until the transferred bytes fit in the rate limit.
+     *
+     * @throws InterruptedIOException
+     *             if interrupted while waiting
+     */
+    private void throttle() throws InterruptedIOException {
+        // Using double to avoid overflow of huge counts
+        final long due = start + (long) ((double) count * TimeUnit.SECONDS.toNanos(1) / rate);
+        final long delay = due - System.nanoTime();
+        if (delay <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException t = new InterruptedIOException("Interrupted while waiting for the rate limit.");
+            t.initCause(e);
+            throw t;
+        }
+    }
+}
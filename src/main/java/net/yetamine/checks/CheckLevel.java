@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+/**
+ * Tiers of checks, which can be disabled separately by system properties.
+ *
+ * <p>
+ * Cheap checks usually remain always on, while expensive ones, e.g., checks
+ * scanning whole collections, might be too costly for the hottest services.
+ * The tiered checking methods, like {@link Argument#checkExpensive}, check
+ * their conditions only when their tier is enabled. The tiers are enabled by
+ * default and a tier can be disabled by setting its system property to
+ * {@code false}:
+ *
+ * <ul>
+ * <li>{@value #NORMAL_PROPERTY} disables {@link #NORMAL} and
+ * {@link #EXPENSIVE} checks,</li>
+ * <li>{@value #EXPENSIVE_PROPERTY} disables {@link #EXPENSIVE} checks.</li>
+ * </ul>
+ *
+ * <p>
+ * The properties are read just once when this class is initialized, and the
+ * results are kept in {@code static final} fields, so that the JIT compiler
+ * can treat them as constants and remove the disabled checks completely,
+ * including the evaluation of their conditions.
+ *
+ * <p>
+ * {@link #DIAGNOSTIC} checks are the exception: they are disabled by default
+ * and {@link DiagnosticSwitch} turns them on and off at runtime.
+ */
+public enum CheckLevel {
+
+    /** Checks that can't be disabled. */
+    ALWAYS,
+
+    /** Checks enabled unless {@value #NORMAL_PROPERTY} is {@code false}. */
+    NORMAL,
+
+    /** Checks enabled unless {@value #EXPENSIVE_PROPERTY} is {@code false}. */
+    EXPENSIVE,
+
+    /** Checks enabled by {@link DiagnosticSwitch} at runtime. */
+    DIAGNOSTIC;
+
+    /** Name of the system property controlling {@link #NORMAL} checks. */
+    public static final String NORMAL_PROPERTY = "net.yetamine.checks.normal";
+
+    /** Name of the system property controlling {@link #EXPENSIVE} checks. */
+    public static final String EXPENSIVE_PROPERTY = "net.yetamine.checks.expensive";
+
+    /** Indicates whether {@link #NORMAL} checks are enabled. */
+    static final boolean NORMAL_ENABLED = enabled(NORMAL_PROPERTY);
+
+    /** Indicates whether {@link #EXPENSIVE} checks are enabled. */
+    static final boolean EXPENSIVE_ENABLED = NORMAL_ENABLED && enabled(EXPENSIVE_PROPERTY);
+
+    /**
+     * Indicates whether the checks of this tier are enabled.
+     *
+     * @return {@code true} if the checks of this tier are enabled
+     */
+    public boolean isEnabled() {
+        switch (this) {
+            case NORMAL:
+                return NORMAL_ENABLED;
+
+            case EXPENSIVE:
+                return EXPENSIVE_ENABLED;
+
+            case DIAGNOSTIC:
+                return DiagnosticSwitch.isEnabled();
+
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Reads the system property controlling a tier.
+     *
+     * @param property
+     *            the name of the property. It must not be {@code null}.
+     *
+     * @return {@code false} if the property is set to {@code false}
+     */
+    private static boolean enabled(String property) {
+        return !"false".equalsIgnoreCase(System.getProperty(property));
+    }
+}
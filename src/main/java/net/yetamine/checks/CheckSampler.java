@@ -0,0 +1,200 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples checks, so that only a fraction of them is actually evaluated.
+ *
+ * <p>
+ * Some checks are too costly to evaluate on every call, e.g., deep invariant
+ * checks of caches, but still valuable in production. A sampler evaluates
+ * such a check on one of {@link #rate()} calls on average, which keeps the
+ * overhead at a fixed budget:
+ *
+ * <pre>
+ * private static final CheckSampler INVARIANTS = CheckSampler.of(100);
+ *
+ * Constraint.checkSampled(cache, Cache::isConsistent, IllegalStateException::new, INVARIANTS);
+ * </pre>
+ *
+ * <p>
+ * Each thread counts down its own gap to the next evaluated check, so that
+ * the threads do not share any state for choosing the samples. The gaps are
+ * drawn from a geometric distribution with {@link ThreadLocalRandom}, which
+ * makes every call sampled with the same probability and avoids skewing the
+ * sampling by periodic patterns of the calls. A thread adds its skipped checks
+ * to a {@link LongAdder} when it reaches the end of a gap, hence the count of
+ * the skipped checks lags behind by the current gaps of the threads.
+ *
+ * <p>
+ * Instances of this class are thread-safe. Because they keep some state for
+ * each thread using them, they should be long-lived, e.g., stored in static
+ * fields.
+ */
+public final class CheckSampler {
+
+    /** Average number of calls per one evaluated check. */
+    private final int rate;
+    /** Logarithm of the probability of skipping a check. */
+    private final double logSkip;
+    /** Number of skipped checks at the end of the gaps so far. */
+    private final LongAdder skipped = new LongAdder();
+    /** Gaps of the threads. */
+    private final ThreadLocal<Gap> gaps = ThreadLocal.withInitial(this::gap);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param rate
+     *            the average number of calls per one evaluated check
+     */
+    private CheckSampler(int rate) {
+        this.logSkip = Math.log1p(-1.0 / rate);
+        this.rate = rate;
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param rate
+     *            the average number of calls per one evaluated check. It
+     *            must be positive; 1 means evaluating every check.
+     *
+     * @return the new instance
+     */
+    public static CheckSampler of(int rate) {
+        return new CheckSampler(Argument.check(rate, 0 < rate, "Requiring a positive rate (given: %d).", rate));
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return String.format("CheckSampler[rate=%d, skipped=%d]", rate, skipped());
+    }
+
+    /**
+     * Decides whether to evaluate a check.
+     *
+     * @return {@code true} if the check shall be evaluated, {@code false} if
+     *         the check is skipped
+     */
+    public boolean sample() {
+        if (rate == 1) {
+            return true;
+        }
+
+        final Gap gap = gaps.get();
+        if (--gap.remaining > 0) {
+            return false;
+        }
+
+        return restart(gap);
+    }
+
+    /**
+     * Returns the average number of calls per one evaluated check.
+     *
+     * @return the rate of sampling
+     */
+    public int rate() {
+        return rate;
+    }
+
+    /**
+     * Returns the number of skipped checks.
+     *
+     * <p>
+     * The result does not include the checks skipped in the current gaps of
+     * the threads, which are added when the gaps end, and it is not an atomic
+     * snapshot when other threads use this instance concurrently.
+     *
+     * @return the number of skipped checks
+     */
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * Counts the skipped checks of an ended gap and starts a new gap.
+     *
+     * @param gap
+     *            the gap to restart. It must not be {@code null}.
+     *
+     * @return {@code true}
+     */
+    private boolean restart(Gap gap) {
+        skipped.add(gap.length - 1);
+        gap.start(length());
+        return true;
+    }
+
+    /**
+     * Makes a new gap.
+     *
+     * @return the new gap
+     */
+    private Gap gap() {
+        final Gap result = new Gap();
+        result.start(length());
+        return result;
+    }
+
+    /**
+     * Draws the length of a gap, i.e., the number of calls up to and including
+     * the next evaluated check.
+     *
+     * @return the length of a gap
+     */
+    private int length() {
+        final double u = ThreadLocalRandom.current().nextDouble(); // Never 1
+        return (int) Math.min(Integer.MAX_VALUE, 1 + (long) (Math.log1p(-u) / logSkip));
+    }
+
+    /**
+     * A gap between evaluated checks of a thread.
+     */
+    private static final class Gap {
+
+        /** Length of the gap. */
+        int length;
+        /** Remaining calls of the gap. */
+        int remaining;
+
+        /**
+         * Creates a new instance.
+         */
+        Gap() {
+            // Default constructor
+        }
+
+        /**
+         * Starts the gap again.
+         *
+         * @param value
+         *            the length of the gap
+         */
+        void start(int value) {
+            remaining = value;
+            length = value;
+        }
+    }
+}
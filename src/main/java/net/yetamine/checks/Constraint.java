@@ -16,6 +16,14 @@
 
 package net.yetamine.checks;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -51,7 +59,7 @@ public final class Constraint {
             return;
         }
 
-        throw exceptionSupplier.get();
+        throw failure(exceptionSupplier);
     }
 
     /**
@@ -75,12 +83,12 @@ public final class Constraint {
      *             if the condition result is {@code false}
      */
     public static <T, X extends Throwable> T check(T result, Predicate<? super T> condition, Supplier<? extends X> exceptionSupplier) throws X {
-        assert (exceptionSupplier != null) : "Exception supplier must not be null.";
+        assert (exceptionSupplier != null); // No message to keep the bytecode within MaxInlineSize
         if (condition.test(result)) {
             return result;
         }
 
-        throw exceptionSupplier.get();
+        throw failure(exceptionSupplier);
     }
 
     /**
@@ -109,7 +117,7 @@ public final class Constraint {
             return result;
         }
 
-        throw exceptionSupplier.get();
+        throw failure(exceptionSupplier);
     }
 
     /**
@@ -136,7 +144,7 @@ public final class Constraint {
             return result;
         }
 
-        throw exceptionSupplier.get();
+        throw failure(result, exceptionSupplier);
     }
 
     /**
@@ -163,7 +171,7 @@ public final class Constraint {
             return result;
         }
 
-        throw exceptionSupplier.get();
+        throw failure(result, exceptionSupplier);
     }
 
     /**
@@ -190,7 +198,7 @@ public final class Constraint {
             return result;
         }
 
-        throw exceptionSupplier.get();
+        throw failure(result, exceptionSupplier);
     }
 
     /**
@@ -217,7 +225,7 @@ public final class Constraint {
             return result;
         }
 
-        throw exceptionSupplier.get();
+        throw failure(result, exceptionSupplier);
     }
 
     /**
@@ -244,7 +252,7 @@ public final class Constraint {
             return result;
         }
 
-        throw exceptionSupplier.get();
+        throw failure(result, exceptionSupplier);
     }
 
     /**
@@ -271,7 +279,7 @@ public final class Constraint {
             return result;
         }
 
-        throw exceptionSupplier.get();
+        throw failure(result, exceptionSupplier);
     }
 
     /**
@@ -298,6 +306,650 @@ public final class Constraint {
             return result;
         }
 
-        throw exceptionSupplier.get();
+        throw failure(result, exceptionSupplier);
+    }
+
+    // Primitive predicate checking methods
+
+    /**
+     * Checks whether a condition for a value is satisfied.
+     *
+     * <p>
+     * This method is a primitive specialization of
+     * {@link #check(Object, Predicate, Supplier)}, which avoids boxing the
+     * value. The name of the method differs from the generic version, so that
+     * a lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     * @param result
+     *            the result of this method
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when the
+     *            condition is not met. It must not be {@code null}.
+     *
+     * @return the provided result
+     *
+     * @throws X
+     *             if the condition result is {@code false}
+     */
+    public static <X extends Throwable> int checkInt(int result, IntPredicate condition, Supplier<? extends X> exceptionSupplier) throws X {
+        return check(result, condition.test(result), exceptionSupplier); // Keeps the bytecode within MaxInlineSize
+    }
+
+    /**
+     * Checks whether a condition for a value is satisfied.
+     *
+     * <p>
+     * This method is a primitive specialization of
+     * {@link #check(Object, Predicate, Supplier)}, which avoids boxing the
+     * value. The name of the method differs from the generic version, so that
+     * a lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     * @param result
+     *            the result of this method
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when the
+     *            condition is not met. It must not be {@code null}.
+     *
+     * @return the provided result
+     *
+     * @throws X
+     *             if the condition result is {@code false}
+     */
+    public static <X extends Throwable> long checkLong(long result, LongPredicate condition, Supplier<? extends X> exceptionSupplier) throws X {
+        return check(result, condition.test(result), exceptionSupplier); // Keeps the bytecode within MaxInlineSize
+    }
+
+    /**
+     * Checks whether a condition for a value is satisfied.
+     *
+     * <p>
+     * This method is a primitive specialization of
+     * {@link #check(Object, Predicate, Supplier)}, which avoids boxing the
+     * value. The name of the method differs from the generic version, so that
+     * a lambda expression can be used as the condition without an ambiguity.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     * @param result
+     *            the result of this method
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when the
+     *            condition is not met. It must not be {@code null}.
+     *
+     * @return the provided result
+     *
+     * @throws X
+     *             if the condition result is {@code false}
+     */
+    public static <X extends Throwable> double checkDouble(double result, DoublePredicate condition, Supplier<? extends X> exceptionSupplier) throws X {
+        return check(result, condition.test(result), exceptionSupplier); // Keeps the bytecode within MaxInlineSize
+    }
+
+    // Checking methods for multiple elements
+
+    /**
+     * Checks whether all elements satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the common pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param <C>
+     *            the type of the collection
+     * @param <X>
+     *            the type of the exception to throw
+     * @param collection
+     *            the collection to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception which is thrown when the
+     *            condition is not met, which gets the index of the first
+     *            violating element in the encounter order. It must not be
+     *            {@code null}.
+     *
+     * @return the collection to check
+     *
+     * @throws X
+     *             if an element does not satisfy the condition
+     */
+    public static <T, C extends Collection<? extends T>, X extends Throwable> C checkAll(C collection, Predicate<? super T> condition, LongFunction<? extends X> exceptionFactory) throws X {
+        return checkAll(collection, condition, exceptionFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Checks whether all elements satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the given pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param <C>
+     *            the type of the collection
+     * @param <X>
+     *            the type of the exception to throw
+     * @param collection
+     *            the collection to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception which is thrown when the
+     *            condition is not met, which gets the index of the first
+     *            violating element in the encounter order. It must not be
+     *            {@code null}.
+     * @param pool
+     *            the pool to run the parallel tasks. It must not be
+     *            {@code null}.
+     *
+     * @return the collection to check
+     *
+     * @throws X
+     *             if an element does not satisfy the condition
+     */
+    public static <T, C extends Collection<? extends T>, X extends Throwable> C checkAll(C collection, Predicate<? super T> condition, LongFunction<? extends X> exceptionFactory, ForkJoinPool pool) throws X {
+        final long index = ParallelScans.indexOfViolation(collection.spliterator(), condition, pool);
+        if (index < 0) {
+            return collection;
+        }
+
+        throw failure(exceptionFactory, index);
+    }
+
+    /**
+     * Checks whether all elements satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the common pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param <X>
+     *            the type of the exception to throw
+     * @param array
+     *            the array to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception which is thrown when the
+     *            condition is not met, which gets the index of the first
+     *            violating element in the encounter order. It must not be
+     *            {@code null}.
+     *
+     * @return the array to check
+     *
+     * @throws X
+     *             if an element does not satisfy the condition
+     */
+    public static <T, X extends Throwable> T[] checkAll(T[] array, Predicate<? super T> condition, LongFunction<? extends X> exceptionFactory) throws X {
+        return checkAll(array, condition, exceptionFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Checks whether all elements satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the given pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param <X>
+     *            the type of the exception to throw
+     * @param array
+     *            the array to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception which is thrown when the
+     *            condition is not met, which gets the index of the first
+     *            violating element in the encounter order. It must not be
+     *            {@code null}.
+     * @param pool
+     *            the pool to run the parallel tasks. It must not be
+     *            {@code null}.
+     *
+     * @return the array to check
+     *
+     * @throws X
+     *             if an element does not satisfy the condition
+     */
+    public static <T, X extends Throwable> T[] checkAll(T[] array, Predicate<? super T> condition, LongFunction<? extends X> exceptionFactory, ForkJoinPool pool) throws X {
+        final long index = ParallelScans.indexOfViolation(Arrays.spliterator(array), condition, pool);
+        if (index < 0) {
+            return array;
+        }
+
+        throw failure(exceptionFactory, index);
+    }
+
+    /**
+     * Checks whether all elements satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the common pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param <X>
+     *            the type of the exception to throw
+     * @param source
+     *            the source of the elements to check, which is consumed. It must
+     *            not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception which is thrown when the
+     *            condition is not met, which gets the index of the first
+     *            violating element in the encounter order. It must not be
+     *            {@code null}.
+     *
+     * @throws X
+     *             if an element does not satisfy the condition
+     */
+    public static <T, X extends Throwable> void checkAll(Spliterator<? extends T> source, Predicate<? super T> condition, LongFunction<? extends X> exceptionFactory) throws X {
+        checkAll(source, condition, exceptionFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Checks whether all elements satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the given pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param <X>
+     *            the type of the exception to throw
+     * @param source
+     *            the source of the elements to check, which is consumed. It must
+     *            not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception which is thrown when the
+     *            condition is not met, which gets the index of the first
+     *            violating element in the encounter order. It must not be
+     *            {@code null}.
+     * @param pool
+     *            the pool to run the parallel tasks. It must not be
+     *            {@code null}.
+     *
+     * @throws X
+     *             if an element does not satisfy the condition
+     */
+    public static <T, X extends Throwable> void checkAll(Spliterator<? extends T> source, Predicate<? super T> condition, LongFunction<? extends X> exceptionFactory, ForkJoinPool pool) throws X {
+        final long index = ParallelScans.indexOfViolation(source, condition, pool);
+        if (index < 0) {
+            return;
+        }
+
+        throw failure(exceptionFactory, index);
+    }
+
+    /**
+     * Finds the index of the first element that does not satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the common pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param collection
+     *            the collection to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     *
+     * @return the index of the first violating element in the encounter
+     *         order, or -1 if all elements satisfy the condition
+     */
+    public static <T> long indexOfViolation(Collection<? extends T> collection, Predicate<? super T> condition) {
+        return ParallelScans.indexOfViolation(collection.spliterator(), condition, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Finds the index of the first element that does not satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the given pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param collection
+     *            the collection to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param pool
+     *            the pool to run the parallel tasks. It must not be
+     *            {@code null}.
+     *
+     * @return the index of the first violating element in the encounter
+     *         order, or -1 if all elements satisfy the condition
+     */
+    public static <T> long indexOfViolation(Collection<? extends T> collection, Predicate<? super T> condition, ForkJoinPool pool) {
+        return ParallelScans.indexOfViolation(collection.spliterator(), condition, pool);
+    }
+
+    /**
+     * Finds the index of the first element that does not satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the common pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param array
+     *            the array to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     *
+     * @return the index of the first violating element in the encounter
+     *         order, or -1 if all elements satisfy the condition
+     */
+    public static <T> long indexOfViolation(T[] array, Predicate<? super T> condition) {
+        return ParallelScans.indexOfViolation(Arrays.spliterator(array), condition, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Finds the index of the first element that does not satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the given pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param array
+     *            the array to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param pool
+     *            the pool to run the parallel tasks. It must not be
+     *            {@code null}.
+     *
+     * @return the index of the first violating element in the encounter
+     *         order, or -1 if all elements satisfy the condition
+     */
+    public static <T> long indexOfViolation(T[] array, Predicate<? super T> condition, ForkJoinPool pool) {
+        return ParallelScans.indexOfViolation(Arrays.spliterator(array), condition, pool);
+    }
+
+    /**
+     * Finds the index of the first element that does not satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the common pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param source
+     *            the source of the elements to check, which is consumed. It must
+     *            not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     *
+     * @return the index of the first violating element in the encounter
+     *         order, or -1 if all elements satisfy the condition
+     */
+    public static <T> long indexOfViolation(Spliterator<? extends T> source, Predicate<? super T> condition) {
+        return ParallelScans.indexOfViolation(source, condition, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Finds the index of the first element that does not satisfy a condition.
+     *
+     * <p>
+     * Large inputs are split into tasks running in the given pool, if the
+     * spliterator of the input supports it, and the first violation cancels
+     * the remaining tasks; the condition must therefore be thread-safe.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param source
+     *            the source of the elements to check, which is consumed. It must
+     *            not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param pool
+     *            the pool to run the parallel tasks. It must not be
+     *            {@code null}.
+     *
+     * @return the index of the first violating element in the encounter
+     *         order, or -1 if all elements satisfy the condition
+     */
+    public static <T> long indexOfViolation(Spliterator<? extends T> source, Predicate<? super T> condition, ForkJoinPool pool) {
+        return ParallelScans.indexOfViolation(source, condition, pool);
+    }
+
+    // Tiered checking methods
+
+    /**
+     * Checks whether a condition for an object is satisfied if
+     * {@link CheckLevel#NORMAL} checks are enabled.
+     *
+     * <p>
+     * When the checks are disabled, the condition is not evaluated at all.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param <X>
+     *            the type of the exception to throw
+     * @param result
+     *            the result of this method
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when the
+     *            condition is not met. It must not be {@code null}.
+     *
+     * @return the provided result
+     *
+     * @throws X
+     *             if the check is enabled and the condition result is
+     *             {@code false}
+     */
+    public static <T, X extends Throwable> T checkNormal(T result, Predicate<? super T> condition, Supplier<? extends X> exceptionSupplier) throws X {
+        if (!CheckLevel.NORMAL_ENABLED || condition.test(result)) {
+            return result;
+        }
+
+        throw failure(exceptionSupplier);
+    }
+
+    /**
+     * Checks whether a condition for an object is satisfied if
+     * {@link CheckLevel#EXPENSIVE} checks are enabled.
+     *
+     * <p>
+     * When the checks are disabled, the condition is not evaluated at all.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param <X>
+     *            the type of the exception to throw
+     * @param result
+     *            the result of this method
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when the
+     *            condition is not met. It must not be {@code null}.
+     *
+     * @return the provided result
+     *
+     * @throws X
+     *             if the check is enabled and the condition result is
+     *             {@code false}
+     */
+    public static <T, X extends Throwable> T checkExpensive(T result, Predicate<? super T> condition, Supplier<? extends X> exceptionSupplier) throws X {
+        if (!CheckLevel.EXPENSIVE_ENABLED || condition.test(result)) {
+            return result;
+        }
+
+        throw failure(exceptionSupplier);
+    }
+
+    /**
+     * Checks whether a condition for an object is satisfied if
+     * {@link CheckLevel#DIAGNOSTIC} checks are enabled.
+     *
+     * <p>
+     * When the checks are disabled, the condition is not evaluated at all.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param <X>
+     *            the type of the exception to throw
+     * @param result
+     *            the result of this method
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when the
+     *            condition is not met. It must not be {@code null}.
+     *
+     * @return the provided result
+     *
+     * @throws X
+     *             if the check is enabled and the condition result is
+     *             {@code false}
+     */
+    public static <T, X extends Throwable> T checkDiagnostic(T result, Predicate<? super T> condition, Supplier<? extends X> exceptionSupplier) throws X {
+        if (!DiagnosticSwitch.isEnabled() || condition.test(result)) {
+            return result;
+        }
+
+        throw failure(exceptionSupplier);
+    }
+
+    /**
+     * Checks whether a condition for an object is satisfied if the sampler
+     * chooses the check to be evaluated.
+     *
+     * <p>
+     * When the check is skipped, the condition is not evaluated at all.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param <X>
+     *            the type of the exception to throw
+     * @param result
+     *            the result of this method
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when the
+     *            condition is not met. It must not be {@code null}.
+     * @param sampler
+     *            the sampler choosing the checks to evaluate. It must not be
+     *            {@code null}.
+     *
+     * @return the provided result
+     *
+     * @throws X
+     *             if the check is evaluated and the condition result is
+     *             {@code false}
+     */
+    public static <T, X extends Throwable> T checkSampled(T result, Predicate<? super T> condition, Supplier<? extends X> exceptionSupplier, CheckSampler sampler) throws X {
+        if (!sampler.sample() || condition.test(result)) {
+            return result;
+        }
+
+        throw failure(exceptionSupplier);
+    }
+
+    // Cold paths for failing checks
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param exceptionSupplier
+     *            the supplier of the exception. It must not be {@code null}.
+     *
+     * @return the exception to throw
+     */
+    private static <X extends Throwable> X failure(Supplier<? extends X> exceptionSupplier) {
+        return Failures.observed(exceptionSupplier.get());
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param value
+     *            the checked value
+     * @param exceptionSupplier
+     *            the supplier of the exception. It must not be {@code null}.
+     *
+     * @return the exception to throw
+     */
+    private static <X extends Throwable> X failure(long value, Supplier<? extends X> exceptionSupplier) {
+        return Failures.observed(exceptionSupplier.get(), value);
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param value
+     *            the checked value
+     * @param exceptionSupplier
+     *            the supplier of the exception. It must not be {@code null}.
+     *
+     * @return the exception to throw
+     */
+    private static <X extends Throwable> X failure(double value, Supplier<? extends X> exceptionSupplier) {
+        return Failures.observed(exceptionSupplier.get(), value);
+    }
+
+    /**
+     * Creates the exception for a failing check of multiple elements.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param exceptionFactory
+     *            the factory of the exception. It must not be {@code null}.
+     * @param index
+     *            the index of the first violating element
+     *
+     * @return the exception to throw
+     */
+    private static <X extends Throwable> X failure(LongFunction<? extends X> exceptionFactory, long index) {
+        return Failures.observed(exceptionFactory.apply(index), index);
     }
 }
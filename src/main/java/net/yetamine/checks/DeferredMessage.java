@@ -0,0 +1,312 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IllegalFormatException;
+import java.util.List;
+
+/**
+ * A message template with its arguments, which formats the message on demand.
+ *
+ * <p>
+ * Primitive arguments are stored in their raw form, so that no boxing occurs
+ * until the message is formatted. Instances of this class are immutable, but
+ * they may refer to mutable objects passed as the template arguments.
+ */
+final class DeferredMessage {
+
+    /** Tag for {@code int} arguments. */
+    private static final char INT = 'I';
+    /** Tag for {@code long} arguments. */
+    private static final char LONG = 'J';
+    /** Tag for {@code double} arguments. */
+    private static final char DOUBLE = 'D';
+    /** Tag for reference arguments. */
+    private static final char OBJECT = 'L';
+
+    /** Template of the message. */
+    private final String template;
+    /** Number of the arguments. */
+    private final int arity;
+    /** Type tag of the arguments. */
+    private final char type;
+    /** Raw bits of the first primitive argument. */
+    private final long value1;
+    /** Raw bits of the second primitive argument. */
+    private final long value2;
+    /** Raw bits of the third primitive argument. */
+    private final long value3;
+    /** First reference argument. */
+    private final Object object1;
+    /** Second reference argument. */
+    private final Object object2;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arity
+     *            the number of the arguments
+     * @param type
+     *            the type tag of the arguments
+     * @param value1
+     *            the raw bits of the first primitive argument
+     * @param value2
+     *            the raw bits of the second primitive argument
+     * @param value3
+     *            the raw bits of the third primitive argument
+     * @param object1
+     *            the first reference argument
+     * @param object2
+     *            the second reference argument
+     */
+    private DeferredMessage(String template, int arity, char type, long value1, long value2, long value3, Object object1, Object object2) {
+        assert (template != null);
+        this.template = template;
+        this.arity = arity;
+        this.type = type;
+        this.value1 = value1;
+        this.value2 = value2;
+        this.value3 = value3;
+        this.object1 = object1;
+        this.object2 = object2;
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the template
+     *
+     * @return the new instance
+     */
+    public static DeferredMessage of(String template, int arg) {
+        return new DeferredMessage(template, 1, INT, arg, 0, 0, null, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the template
+     *
+     * @return the new instance
+     */
+    public static DeferredMessage of(String template, long arg) {
+        return new DeferredMessage(template, 1, LONG, arg, 0, 0, null, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the template
+     *
+     * @return the new instance
+     */
+    public static DeferredMessage of(String template, double arg) {
+        return new DeferredMessage(template, 1, DOUBLE, Double.doubleToRawLongBits(arg), 0, 0, null, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the template
+     *
+     * @return the new instance
+     */
+    public static DeferredMessage of(String template, Object arg) {
+        return new DeferredMessage(template, 1, OBJECT, 0, 0, 0, arg, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the template
+     * @param arg2
+     *            the second argument for the template
+     *
+     * @return the new instance
+     */
+    public static DeferredMessage of(String template, int arg1, int arg2) {
+        return new DeferredMessage(template, 2, INT, arg1, arg2, 0, null, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the template
+     * @param arg2
+     *            the second argument for the template
+     *
+     * @return the new instance
+     */
+    public static DeferredMessage of(String template, long arg1, long arg2) {
+        return new DeferredMessage(template, 2, LONG, arg1, arg2, 0, null, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the template
+     * @param arg2
+     *            the second argument for the template
+     *
+     * @return the new instance
+     */
+    public static DeferredMessage of(String template, double arg1, double arg2) {
+        return new DeferredMessage(template, 2, DOUBLE, Double.doubleToRawLongBits(arg1), Double.doubleToRawLongBits(arg2), 0, null, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the template
+     * @param arg2
+     *            the second argument for the template
+     *
+     * @return the new instance
+     */
+    public static DeferredMessage of(String template, Object arg1, Object arg2) {
+        return new DeferredMessage(template, 2, OBJECT, 0, 0, 0, arg1, arg2);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the template
+     * @param arg2
+     *            the second argument for the template
+     * @param arg3
+     *            the third argument for the template
+     *
+     * @return the new instance
+     */
+    public static DeferredMessage of(String template, long arg1, long arg2, long arg3) {
+        return new DeferredMessage(template, 3, LONG, arg1, arg2, arg3, null, null);
+    }
+
+    /**
+     * Formats the message.
+     *
+     * <p>
+     * If the template does not match its arguments, the result consists of the
+     * template and the arguments instead of failing, because the message is
+     * often formatted far from the check, e.g., in a logger.
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        final Object[] arguments = argumentArray();
+
+        try {
+            return String.format(template, arguments);
+        } catch (IllegalFormatException e) {
+            return template + ' ' + Arrays.toString(arguments);
+        }
+    }
+
+    /**
+     * Returns the template of the message.
+     *
+     * @return the template of the message
+     */
+    public String template() {
+        return template;
+    }
+
+    /**
+     * Returns the arguments of the template.
+     *
+     * @return the list of the arguments, boxing primitive arguments
+     */
+    public List<Object> arguments() {
+        return Collections.unmodifiableList(Arrays.asList(argumentArray()));
+    }
+
+    /**
+     * Returns a new array with the arguments of the template.
+     *
+     * @return the array of the arguments, boxing primitive arguments
+     */
+    private Object[] argumentArray() {
+        switch (arity) {
+            case 1:
+                return new Object[] { argument(value1, object1) };
+
+            case 2:
+                return new Object[] { argument(value1, object1), argument(value2, object2) };
+
+            default:
+                return new Object[] { argument(value1, object1), argument(value2, object2), argument(value3, null) };
+        }
+    }
+
+    /**
+     * Returns an argument in the boxed form.
+     *
+     * @param value
+     *            the raw bits of the primitive argument
+     * @param object
+     *            the reference argument
+     *
+     * @return the boxed argument
+     */
+    private Object argument(long value, Object object) {
+        switch (type) {
+            case INT:
+                return Integer.valueOf((int) value);
+
+            case LONG:
+                return Long.valueOf(value);
+
+            case DOUBLE:
+                return Double.valueOf(Double.longBitsToDouble(value));
+
+            default:
+                return object;
+        }
+    }
+}
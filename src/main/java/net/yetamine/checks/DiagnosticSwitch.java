@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.management.ManagementFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * A runtime switch of {@link CheckLevel#DIAGNOSTIC} checks.
+ *
+ * <p>
+ * Unlike the other tiers, which are fixed when {@link CheckLevel} is
+ * initialized, the diagnostic checks can be turned on and off while running,
+ * e.g., while diagnosing an incident. The state of the switch is the target of
+ * a {@link MutableCallSite}, which the JIT compiler treats as a constant, so
+ * that the checks do not read any volatile flag. Changing the state makes the
+ * JVM deoptimize and later recompile the code depending on the former state.
+ * Hence the switch is meant for rare changes, not for toggling often.
+ *
+ * <p>
+ * The switch is off by default, unless the system property
+ * {@value #ENABLED_PROPERTY} is set to {@code true}. The switch can be
+ * operated via JMX after {@link #register()}, which registers an MXBean
+ * with the name {@value #OBJECT_NAME}.
+ */
+public final class DiagnosticSwitch {
+
+    /** Name of the system property enabling the checks initially. */
+    public static final String ENABLED_PROPERTY = "net.yetamine.checks.diagnostic";
+
+    /** Name of the MXBean operating the switch. */
+    public static final String OBJECT_NAME = "net.yetamine.checks:type=DiagnosticSwitch";
+
+    /** Last state set, guarded by the class lock. */
+    private static boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /** Call site holding the state of the switch. */
+    private static final MutableCallSite STATE = new MutableCallSite(constant(enabled));
+
+    /** Invoker of the current target of {@link #STATE}. */
+    private static final MethodHandle ENABLED = STATE.dynamicInvoker();
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private DiagnosticSwitch() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the diagnostic checks are enabled.
+     *
+     * @return {@code true} if the diagnostic checks are enabled
+     */
+    public static boolean isEnabled() {
+        try {
+            return (boolean) ENABLED.invokeExact();
+        } catch (Throwable t) {
+            throw new AssertionError(t);
+        }
+    }
+
+    /**
+     * Turns the diagnostic checks on or off.
+     *
+     * <p>
+     * Changing the state is expensive, because it invalidates the compiled code
+     * depending on the former state. Setting the current state again does
+     * nothing though.
+     *
+     * @param value
+     *            {@code true} to enable the checks
+     */
+    public static synchronized void setEnabled(boolean value) {
+        if (enabled == value) {
+            return;
+        }
+
+        STATE.setTarget(constant(value));
+        MutableCallSite.syncAll(new MutableCallSite[] { STATE });
+        enabled = value;
+    }
+
+    /**
+     * Registers the MXBean operating the switch in the platform MBean server.
+     *
+     * <p>
+     * If the MXBean has been registered already, this method does nothing.
+     *
+     * @return the name of the MXBean
+     *
+     * @throws IllegalStateException
+     *             if the registration failed
+     */
+    public static ObjectName register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            try {
+                server.registerMBean(new StandardMBean(new Management(), DiagnosticSwitchMXBean.class, true), name);
+            } catch (InstanceAlreadyExistsException e) {
+                // Registered already
+            }
+
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Makes a method handle returning a constant state.
+     *
+     * @param value
+     *            the state to return
+     *
+     * @return the method handle
+     */
+    private static MethodHandle constant(boolean value) {
+        return MethodHandles.constant(boolean.class, value);
+    }
+
+    /**
+     * Implements the MXBean by delegating to the switch.
+     */
+    private static final class Management implements DiagnosticSwitchMXBean {
+
+        /**
+         * Creates a new instance.
+         */
+        public Management() {
+            // Default constructor
+        }
+
+        /**
+         * @see net.yetamine.checks.DiagnosticSwitchMXBean#isEnabled()
+         */
+        @Override
+        public boolean isEnabled() {
+            return DiagnosticSwitch.isEnabled();
+        }
+
+        /**
+         * @see net.yetamine.checks.DiagnosticSwitchMXBean#setEnabled(boolean)
+         */
+        @Override
+        public void setEnabled(boolean value) {
+            DiagnosticSwitch.setEnabled(value);
+        }
+    }
+}
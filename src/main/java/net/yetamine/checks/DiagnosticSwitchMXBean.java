@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+/**
+ * Management interface of {@link DiagnosticSwitch}.
+ */
+public interface DiagnosticSwitchMXBean {
+
+    /**
+     * Indicates whether the diagnostic checks are enabled.
+     *
+     * @return {@code true} if the diagnostic checks are enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns the diagnostic checks on or off.
+     *
+     * @param value
+     *            {@code true} to enable the checks
+     */
+    void setEnabled(boolean value);
+}
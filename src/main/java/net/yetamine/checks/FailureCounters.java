@@ -0,0 +1,266 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts failing checks per check site and per exception type.
+ *
+ * <p>
+ * The counting is enabled by the system property {@value #ENABLED_PROPERTY}
+ * set to {@code true}. The property is read just once when this class is
+ * initialized. When enabled, the failure paths of {@link Argument},
+ * {@link Constraint}, {@link IndexBounds}, {@link StateCondition} and of the
+ * other checks using the same exception factories find the check site, i.e.,
+ * the first caller outside of this library and of the platform, and increment
+ * the counter for the site and the exception type. The exceptions provided by the library are
+ * counted with their public types, e.g., {@link IllegalArgumentException}.
+ * The passing checks are never affected.
+ *
+ * <p>
+ * Finding the check site requires walking the stack, which makes the failing
+ * checks more expensive. The counters are {@link LongAdder} instances, so that
+ * they do not suffer from contention even when many threads fail at the same
+ * site concurrently.
+ */
+public final class FailureCounters {
+
+    /** Name of the system property enabling the counting. */
+    public static final String ENABLED_PROPERTY = "net.yetamine.checks.counters";
+
+    /** Indicates whether the counting is enabled. */
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /** Names of the classes of this library, which are never reported as check sites. */
+    private static final Set<String> LIBRARY_CLASSES = new HashSet<>(Arrays.asList(
+            Argument.class.getName(),
+            ArrayScans.class.getName(),
+            BoundedChannel.class.getName(),
+            BoundedInputStream.class.getName(),
+            BulkArgument.class.getName(),
+            ByteQuota.class.getName(),
+            CallSites.class.getName(),
+            Constraint.class.getName(),
+            DoubleRule.class.getName(),
+            FailureCounters.class.getName(),
+            FailureEvents.class.getName(),
+            Failures.class.getName(),
+            IndexBounds.class.getName(),
+            IntRule.class.getName(),
+            LongRule.class.getName(),
+            ParallelScans.class.getName(),
+            RangeChecks.class.getName(),
+            RecordValidator.class.getName(),
+            Rule.class.getName(),
+            ScalarScans.class.getName(),
+            StateCondition.class.getName(),
+            StreamConstraint.class.getName(),
+            Violations.class.getName()
+    ));
+
+    /** Prefixes of the names of the platform classes, which are never reported as check sites. */
+    private static final String[] PLATFORM_PREFIXES = { "java.", "javax.", "jdk.", "sun." };
+
+    /** Counters for the pairs of a site and an exception type. */
+    private static final ConcurrentMap<Key, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private FailureCounters() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the counting is enabled.
+     *
+     * @return {@code true} if the counting is enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the counts of the failures.
+     *
+     * <p>
+     * The result is not an atomic snapshot when some checks fail concurrently.
+     *
+     * @return a new map of the check sites to the counts of the failures per
+     *         exception type
+     */
+    public static Map<String, Map<Class<? extends Throwable>, Long>> snapshot() {
+        final Map<String, Map<Class<? extends Throwable>, Long>> result = new HashMap<>();
+        COUNTERS.forEach((key, counter) -> result.computeIfAbsent(key.site, site -> new HashMap<>()).put(key.type, counter.sum()));
+        result.replaceAll((site, counts) -> Collections.unmodifiableMap(counts));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the total count of the failures.
+     *
+     * @return the total count of the failures
+     */
+    public static long total() {
+        return COUNTERS.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Forgets all counts.
+     *
+     * <p>
+     * The failures counted concurrently with this method might get lost.
+     */
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    /**
+     * Counts a failure at the current check site.
+     *
+     * @param type
+     *            the type of the exception. It must not be {@code null}.
+     */
+    static void record(Class<? extends Throwable> type) {
+        final Key key = new Key(CallSites.caller(), type);
+        final LongAdder counter = COUNTERS.get(key); // Avoid locking when present
+        (counter != null ? counter : COUNTERS.computeIfAbsent(key, k -> new LongAdder())).increment();
+    }
+
+    /**
+     * Indicates whether a class belongs to the checks of this library.
+     *
+     * <p>
+     * The nested classes and lambda expressions of the check classes belong to
+     * the library as well.
+     *
+     * @param className
+     *            the name of the class. It must not be {@code null}.
+     *
+     * @return {@code true} if the class belongs to the checks of this library
+     */
+    static boolean isLibrary(String className) {
+        final int nested = className.indexOf('$');
+        return LIBRARY_CLASSES.contains((nested < 0) ? className : className.substring(0, nested));
+    }
+
+    /**
+     * Indicates whether a class belongs to the platform, e.g., to the stream
+     * pipelines that invoke the checks on behalf of the actual caller.
+     *
+     * @param className
+     *            the name of the class. It must not be {@code null}.
+     *
+     * @return {@code true} if the class belongs to the platform
+     */
+    static boolean isPlatform(String className) {
+        for (String prefix : PLATFORM_PREFIXES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Indicates whether a class may be reported as a check site.
+     *
+     * @param className
+     *            the name of the class. It must not be {@code null}.
+     *
+     * @return {@code true} if the class belongs neither to this library, nor
+     *         to the platform
+     */
+    static boolean isCaller(String className) {
+        return !isLibrary(className) && !isPlatform(className);
+    }
+
+    /**
+     * Describes a check site.
+     *
+     * @param className
+     *            the name of the class. It must not be {@code null}.
+     * @param methodName
+     *            the name of the method. It must not be {@code null}.
+     * @param line
+     *            the line number, or a negative number if unknown
+     *
+     * @return the description of the site
+     */
+    static String site(String className, String methodName, int line) {
+        return (line < 0) ? className + '.' + methodName : className + '.' + methodName + ':' + line;
+    }
+
+    /**
+     * A pair of a site and an exception type.
+     */
+    private static final class Key {
+
+        /** Check site. */
+        final String site;
+        /** Exception type. */
+        final Class<? extends Throwable> type;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param site
+         *            the check site. It must not be {@code null}.
+         * @param type
+         *            the exception type. It must not be {@code null}.
+         */
+        Key(String site, Class<? extends Throwable> type) {
+            this.site = site;
+            this.type = type;
+        }
+
+        /**
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (obj instanceof Key) {
+                final Key o = (Key) obj;
+                return site.equals(o.site) && (type == o.type);
+            }
+
+            return false;
+        }
+
+        /**
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode() {
+            return site.hashCode() * 31 + type.hashCode();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+/**
+ * Emits the events of failing checks for the Flight Recorder.
+ *
+ * <p>
+ * This class is a part of a multi-release archive and this implementation is
+ * used on Java 8, which lacks the {@code jdk.jfr} API, hence it never emits
+ * anything. Java 11 and newer use an implementation emitting the
+ * {@code net.yetamine.checks.CheckFailed} events.
+ */
+final class FailureEvents {
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private FailureEvents() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the events are recorded.
+     *
+     * @return {@code false}
+     */
+    public static boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * Emits an event of a failing check with no known checked value.
+     *
+     * @param type
+     *            the type of the exception. It must not be {@code null}.
+     * @param template
+     *            the message template, or {@code null} if not known
+     */
+    public static void failed(Class<? extends Throwable> type, String template) {
+        // Nothing to emit
+    }
+
+    /**
+     * Emits an event of a failing check.
+     *
+     * @param type
+     *            the type of the exception. It must not be {@code null}.
+     * @param template
+     *            the message template, or {@code null} if not known
+     * @param value
+     *            the checked value
+     */
+    public static void failed(Class<? extends Throwable> type, String template, long value) {
+        // Nothing to emit
+    }
+
+    /**
+     * Emits an event of a failing check.
+     *
+     * @param type
+     *            the type of the exception. It must not be {@code null}.
+     * @param template
+     *            the message template, or {@code null} if not known
+     * @param value
+     *            the checked value
+     */
+    public static void failed(Class<? extends Throwable> type, String template, double value) {
+        // Nothing to emit
+    }
+}
@@ -0,0 +1,775 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+/**
+ * A factory for the exceptions thrown by the failing checks.
+ *
+ * <p>
+ * The factory supports the stackless mode, which is enabled by the system
+ * property {@value #STACKLESS_PROPERTY} set to {@code true}. The property is
+ * read just once when this class is initialized. In the stackless mode, the
+ * exceptions skip filling in the stack trace, which makes them much cheaper
+ * when failures are expected to be frequent, e.g., when rejecting invalid
+ * input is a part of normal operation. The stackless exceptions are still
+ * instances of the same types as the regular exceptions.
+ *
+ * <p>
+ * All exceptions created by this factory are counted by
+ * {@link FailureCounters} when the counting is enabled, and they emit the
+ * events of {@link FailureEvents} when a Flight Recorder recording enables
+ * them.
+ */
+final class Failures {
+
+    /** Name of the system property enabling the stackless mode. */
+    public static final String STACKLESS_PROPERTY = "net.yetamine.checks.stackless";
+
+    /** Template for a rule that is not satisfied consistently. */
+    private static final String INCONSISTENT = "Rule '%s' not satisfied consistently by %s.";
+
+    /** Indicates whether the stackless mode is enabled. */
+    static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private Failures() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates a new exception with no message.
+     *
+     * @return the new exception
+     */
+    public static IllegalArgumentException illegalArgument() {
+        return illegalArgument((String) null);
+    }
+
+    /**
+     * Creates a new exception with no message for a checked value.
+     *
+     * @param value
+     *            the checked value
+     *
+     * @return the new exception
+     */
+    public static IllegalArgumentException illegalArgument(long value) {
+        return illegalArgument(value, (String) null);
+    }
+
+    /**
+     * Creates a new exception with no message for a checked value.
+     *
+     * @param value
+     *            the checked value
+     *
+     * @return the new exception
+     */
+    public static IllegalArgumentException illegalArgument(double value) {
+        return illegalArgument(value, (String) null);
+    }
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message
+     *            the message of the exception
+     *
+     * @return the new exception
+     */
+    public static IllegalArgumentException illegalArgument(String message) {
+        return observed(IllegalArgumentException.class, message, STACKLESS ? new StacklessIllegalArgumentException(message) : new IllegalArgumentException(message));
+    }
+
+    /**
+     * Creates a new exception for a checked value.
+     *
+     * @param value
+     *            the checked value
+     * @param message
+     *            the message of the exception
+     *
+     * @return the new exception
+     */
+    public static IllegalArgumentException illegalArgument(long value, String message) {
+        return observed(IllegalArgumentException.class, message, value, STACKLESS ? new StacklessIllegalArgumentException(message) : new IllegalArgumentException(message));
+    }
+
+    /**
+     * Creates a new exception for a checked value.
+     *
+     * @param value
+     *            the checked value
+     * @param message
+     *            the message of the exception
+     *
+     * @return the new exception
+     */
+    public static IllegalArgumentException illegalArgument(double value, String message) {
+        return observed(IllegalArgumentException.class, message, value, STACKLESS ? new StacklessIllegalArgumentException(message) : new IllegalArgumentException(message));
+    }
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message
+     *            the message of the exception. It must not be {@code null}.
+     *
+     * @return the new exception
+     */
+    public static IllegalArgumentException illegalArgument(DeferredMessage message) {
+        return observed(IllegalArgumentException.class, message.template(), STACKLESS ? new StacklessLazyIllegalArgumentException(message) : new LazyIllegalArgumentException(message));
+    }
+
+    /**
+     * Creates a new exception for a checked value.
+     *
+     * @param value
+     *            the checked value
+     * @param message
+     *            the message of the exception. It must not be {@code null}.
+     *
+     * @return the new exception
+     */
+    public static IllegalArgumentException illegalArgument(long value, DeferredMessage message) {
+        return observed(IllegalArgumentException.class, message.template(), value, STACKLESS ? new StacklessLazyIllegalArgumentException(message) : new LazyIllegalArgumentException(message));
+    }
+
+    /**
+     * Creates a new exception for a checked value.
+     *
+     * @param value
+     *            the checked value
+     * @param message
+     *            the message of the exception. It must not be {@code null}.
+     *
+     * @return the new exception
+     */
+    public static IllegalArgumentException illegalArgument(double value, DeferredMessage message) {
+        return observed(IllegalArgumentException.class, message.template(), value, STACKLESS ? new StacklessLazyIllegalArgumentException(message) : new LazyIllegalArgumentException(message));
+    }
+
+    /**
+     * Creates a new exception with no message.
+     *
+     * @return the new exception
+     */
+    public static IndexOutOfBoundsException indexOutOfBounds() {
+        return indexOutOfBounds((String) null);
+    }
+
+    /**
+     * Creates a new exception with no message for a checked value.
+     *
+     * @param value
+     *            the checked value
+     *
+     * @return the new exception
+     */
+    public static IndexOutOfBoundsException indexOutOfBounds(long value) {
+        return indexOutOfBounds(value, (String) null);
+    }
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message
+     *            the message of the exception
+     *
+     * @return the new exception
+     */
+    public static IndexOutOfBoundsException indexOutOfBounds(String message) {
+        return observed(IndexOutOfBoundsException.class, message, STACKLESS ? new StacklessIndexOutOfBoundsException(message) : new IndexOutOfBoundsException(message));
+    }
+
+    /**
+     * Creates a new exception for a checked value.
+     *
+     * @param value
+     *            the checked value
+     * @param message
+     *            the message of the exception
+     *
+     * @return the new exception
+     */
+    public static IndexOutOfBoundsException indexOutOfBounds(long value, String message) {
+        return observed(IndexOutOfBoundsException.class, message, value, STACKLESS ? new StacklessIndexOutOfBoundsException(message) : new IndexOutOfBoundsException(message));
+    }
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message
+     *            the message of the exception. It must not be {@code null}.
+     *
+     * @return the new exception
+     */
+    public static IndexOutOfBoundsException indexOutOfBounds(DeferredMessage message) {
+        return observed(IndexOutOfBoundsException.class, message.template(), STACKLESS ? new StacklessLazyIndexOutOfBoundsException(message) : new LazyIndexOutOfBoundsException(message));
+    }
+
+    /**
+     * Creates a new exception for a checked value.
+     *
+     * @param value
+     *            the checked value
+     * @param message
+     *            the message of the exception. It must not be {@code null}.
+     *
+     * @return the new exception
+     */
+    public static IndexOutOfBoundsException indexOutOfBounds(long value, DeferredMessage message) {
+        return observed(IndexOutOfBoundsException.class, message.template(), value, STACKLESS ? new StacklessLazyIndexOutOfBoundsException(message) : new LazyIndexOutOfBoundsException(message));
+    }
+
+    /**
+     * Creates a new exception for a checked value.
+     *
+     * @param value
+     *            the checked value
+     * @param message
+     *            the message of the exception. It must not be {@code null}.
+     *
+     * @return the new exception
+     */
+    public static IndexOutOfBoundsException indexOutOfBounds(double value, DeferredMessage message) {
+        return observed(IndexOutOfBoundsException.class, message.template(), value, STACKLESS ? new StacklessLazyIndexOutOfBoundsException(message) : new LazyIndexOutOfBoundsException(message));
+    }
+
+    /**
+     * Creates a new exception for an index out of the bounds of a range.
+     *
+     * @param index
+     *            the index
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the new exception
+     */
+    public static IndexOutOfBoundsException indexOutOfRange(long index, long length) {
+        return indexOutOfBounds(index, DeferredMessage.of("Index %d out of bounds for length %d", index, length));
+    }
+
+    /**
+     * Creates a new exception for a sub-range out of the bounds of a range.
+     *
+     * @param from
+     *            the lower bound (inclusive) of the sub-range
+     * @param to
+     *            the upper bound (exclusive) of the sub-range
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the new exception
+     */
+    public static IndexOutOfBoundsException fromToOutOfRange(long from, long to, long length) {
+        return indexOutOfBounds(from, DeferredMessage.of("Range [%d, %d) out of bounds for length %d", from, to, length));
+    }
+
+    /**
+     * Creates a new exception for a sub-range out of the bounds of a range.
+     *
+     * @param from
+     *            the lower bound (inclusive) of the sub-range
+     * @param size
+     *            the size of the sub-range
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the new exception
+     */
+    public static IndexOutOfBoundsException fromSizeOutOfRange(long from, long size, long length) {
+        return indexOutOfBounds(from, DeferredMessage.of("Range [%d, %<d + %d) out of bounds for length %d", from, size, length));
+    }
+
+    /**
+     * Creates a new exception for an offset which is not aligned.
+     *
+     * @param offset
+     *            the offset
+     * @param alignment
+     *            the required alignment
+     *
+     * @return the new exception
+     */
+    public static IllegalArgumentException misaligned(long offset, long alignment) {
+        return illegalArgument(offset, DeferredMessage.of("Offset %d not aligned to %d", offset, alignment));
+    }
+
+    /**
+     * Creates a new exception for a composed rule which finds no violated rule
+     * for a value that violated the composition before.
+     *
+     * @param rule
+     *            the composed rule. It must not be {@code null}.
+     * @param value
+     *            the value that violated the rule
+     *
+     * @return the new exception
+     */
+    public static IllegalStateException inconsistentRule(Object rule, Object value) {
+        return illegalState(DeferredMessage.of(INCONSISTENT, rule, value));
+    }
+
+    /**
+     * Creates a new exception for a composed rule which finds no violated rule
+     * for a value that violated the composition before.
+     *
+     * @param rule
+     *            the composed rule. It must not be {@code null}.
+     * @param value
+     *            the value that violated the rule
+     *
+     * @return the new exception
+     */
+    public static IllegalStateException inconsistentRule(Object rule, long value) {
+        return illegalState(value, DeferredMessage.of(INCONSISTENT, rule, Long.valueOf(value)));
+    }
+
+    /**
+     * Creates a new exception for a composed rule which finds no violated rule
+     * for a value that violated the composition before.
+     *
+     * @param rule
+     *            the composed rule. It must not be {@code null}.
+     * @param value
+     *            the value that violated the rule
+     *
+     * @return the new exception
+     */
+    public static IllegalStateException inconsistentRule(Object rule, double value) {
+        return illegalState(value, DeferredMessage.of(INCONSISTENT, rule, Double.valueOf(value)));
+    }
+
+    /**
+     * Creates a new exception with no message.
+     *
+     * @return the new exception
+     */
+    public static IllegalStateException illegalState() {
+        return illegalState((String) null);
+    }
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message
+     *            the message of the exception
+     *
+     * @return the new exception
+     */
+    public static IllegalStateException illegalState(String message) {
+        return observed(IllegalStateException.class, message, STACKLESS ? new StacklessIllegalStateException(message) : new IllegalStateException(message));
+    }
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message
+     *            the message of the exception. It must not be {@code null}.
+     *
+     * @return the new exception
+     */
+    public static IllegalStateException illegalState(DeferredMessage message) {
+        return observed(IllegalStateException.class, message.template(), STACKLESS ? new StacklessLazyIllegalStateException(message) : new LazyIllegalStateException(message));
+    }
+
+    /**
+     * Creates a new exception for a checked value.
+     *
+     * @param value
+     *            the checked value
+     * @param message
+     *            the message of the exception. It must not be {@code null}.
+     *
+     * @return the new exception
+     */
+    public static IllegalStateException illegalState(long value, DeferredMessage message) {
+        return observed(IllegalStateException.class, message.template(), value, STACKLESS ? new StacklessLazyIllegalStateException(message) : new LazyIllegalStateException(message));
+    }
+
+    /**
+     * Creates a new exception for a checked value.
+     *
+     * @param value
+     *            the checked value
+     * @param message
+     *            the message of the exception. It must not be {@code null}.
+     *
+     * @return the new exception
+     */
+    public static IllegalStateException illegalState(double value, DeferredMessage message) {
+        return observed(IllegalStateException.class, message.template(), value, STACKLESS ? new StacklessLazyIllegalStateException(message) : new LazyIllegalStateException(message));
+    }
+
+    /**
+     * Counts a failure with an exception from a custom supplier if
+     * {@link FailureCounters} are enabled and emits its event if
+     * {@link FailureEvents} are enabled.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param failure
+     *            the exception to return. It must not be {@code null}.
+     *
+     * @return the exception
+     */
+    public static <X extends Throwable> X observed(X failure) {
+        if (FailureCounters.ENABLED) {
+            FailureCounters.record(failure.getClass());
+        }
+
+        if (FailureEvents.isEnabled()) {
+            FailureEvents.failed(failure.getClass(), templateOf(failure));
+        }
+
+        return failure;
+    }
+
+    /**
+     * Counts a failure with an exception from a custom supplier if
+     * {@link FailureCounters} are enabled and emits its event if
+     * {@link FailureEvents} are enabled.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param failure
+     *            the exception to return. It must not be {@code null}.
+     * @param value
+     *            the checked value
+     *
+     * @return the exception
+     */
+    public static <X extends Throwable> X observed(X failure, long value) {
+        if (FailureCounters.ENABLED) {
+            FailureCounters.record(failure.getClass());
+        }
+
+        if (FailureEvents.isEnabled()) {
+            FailureEvents.failed(failure.getClass(), templateOf(failure), value);
+        }
+
+        return failure;
+    }
+
+    /**
+     * Counts a failure with an exception from a custom supplier if
+     * {@link FailureCounters} are enabled and emits its event if
+     * {@link FailureEvents} are enabled.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param failure
+     *            the exception to return. It must not be {@code null}.
+     * @param value
+     *            the checked value
+     *
+     * @return the exception
+     */
+    public static <X extends Throwable> X observed(X failure, double value) {
+        if (FailureCounters.ENABLED) {
+            FailureCounters.record(failure.getClass());
+        }
+
+        if (FailureEvents.isEnabled()) {
+            FailureEvents.failed(failure.getClass(), templateOf(failure), value);
+        }
+
+        return failure;
+    }
+
+    /**
+     * Returns the message template of an exception without formatting its
+     * message.
+     *
+     * <p>
+     * Only the lazy exceptions of this library provide their templates, since
+     * the message of any other exception might be expensive to get.
+     *
+     * @param failure
+     *            the exception. It must not be {@code null}.
+     *
+     * @return the message template, or {@code null} if not known
+     */
+    private static String templateOf(Throwable failure) {
+        if (failure instanceof LazyIllegalArgumentException) {
+            return ((LazyIllegalArgumentException) failure).getTemplate();
+        }
+
+        if (failure instanceof LazyIndexOutOfBoundsException) {
+            return ((LazyIndexOutOfBoundsException) failure).getTemplate();
+        }
+
+        if (failure instanceof LazyIllegalStateException) {
+            return ((LazyIllegalStateException) failure).getTemplate();
+        }
+
+        return null;
+    }
+
+    /**
+     * Counts a new failure if {@link FailureCounters} are enabled and emits its
+     * event if {@link FailureEvents} are enabled.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param type
+     *            the public type of the exception. It must not be
+     *            {@code null}.
+     * @param template
+     *            the message or its template
+     * @param failure
+     *            the exception to return
+     *
+     * @return the exception
+     */
+    private static <X extends Throwable> X observed(Class<? extends Throwable> type, String template, X failure) {
+        if (FailureCounters.ENABLED) {
+            FailureCounters.record(type);
+        }
+
+        if (FailureEvents.isEnabled()) {
+            FailureEvents.failed(type, template);
+        }
+
+        return failure;
+    }
+
+    /**
+     * Counts a new failure if {@link FailureCounters} are enabled and emits its
+     * event if {@link FailureEvents} are enabled.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param type
+     *            the public type of the exception. It must not be
+     *            {@code null}.
+     * @param template
+     *            the message or its template
+     * @param value
+     *            the checked value
+     * @param failure
+     *            the exception to return
+     *
+     * @return the exception
+     */
+    private static <X extends Throwable> X observed(Class<? extends Throwable> type, String template, long value, X failure) {
+        if (FailureCounters.ENABLED) {
+            FailureCounters.record(type);
+        }
+
+        if (FailureEvents.isEnabled()) {
+            FailureEvents.failed(type, template, value);
+        }
+
+        return failure;
+    }
+
+    /**
+     * Counts a new failure if {@link FailureCounters} are enabled and emits its
+     * event if {@link FailureEvents} are enabled.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param type
+     *            the public type of the exception. It must not be
+     *            {@code null}.
+     * @param template
+     *            the message or its template
+     * @param value
+     *            the checked value
+     * @param failure
+     *            the exception to return
+     *
+     * @return the exception
+     */
+    private static <X extends Throwable> X observed(Class<? extends Throwable> type, String template, double value, X failure) {
+        if (FailureCounters.ENABLED) {
+            FailureCounters.record(type);
+        }
+
+        if (FailureEvents.isEnabled()) {
+            FailureEvents.failed(type, template, value);
+        }
+
+        return failure;
+    }
+
+    /**
+     * Stackless variant of {@link IllegalArgumentException}.
+     */
+    private static final class StacklessIllegalArgumentException extends IllegalArgumentException {
+
+        /** Serialization version: 1 */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param message
+         *            the message
+         */
+        public StacklessIllegalArgumentException(String message) {
+            super(message);
+        }
+
+        /**
+         * @see java.lang.Throwable#fillInStackTrace()
+         */
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Stackless variant of {@link LazyIllegalArgumentException}.
+     */
+    private static final class StacklessLazyIllegalArgumentException extends LazyIllegalArgumentException {
+
+        /** Serialization version: 1 */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param message
+         *            the message. It must not be {@code null}.
+         */
+        public StacklessLazyIllegalArgumentException(DeferredMessage message) {
+            super(message);
+        }
+
+        /**
+         * @see java.lang.Throwable#fillInStackTrace()
+         */
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Stackless variant of {@link IndexOutOfBoundsException}.
+     */
+    private static final class StacklessIndexOutOfBoundsException extends IndexOutOfBoundsException {
+
+        /** Serialization version: 1 */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param message
+         *            the message
+         */
+        public StacklessIndexOutOfBoundsException(String message) {
+            super(message);
+        }
+
+        /**
+         * @see java.lang.Throwable#fillInStackTrace()
+         */
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Stackless variant of {@link LazyIndexOutOfBoundsException}.
+     */
+    private static final class StacklessLazyIndexOutOfBoundsException extends LazyIndexOutOfBoundsException {
+
+        /** Serialization version: 1 */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param message
+         *            the message. It must not be {@code null}.
+         */
+        public StacklessLazyIndexOutOfBoundsException(DeferredMessage message) {
+            super(message);
+        }
+
+        /**
+         * @see java.lang.Throwable#fillInStackTrace()
+         */
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Stackless variant of {@link IllegalStateException}.
+     */
+    private static final class StacklessIllegalStateException extends IllegalStateException {
+
+        /** Serialization version: 1 */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param message
+         *            the message
+         */
+        public StacklessIllegalStateException(String message) {
+            super(message);
+        }
+
+        /**
+         * @see java.lang.Throwable#fillInStackTrace()
+         */
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Stackless variant of {@link LazyIllegalStateException}.
+     */
+    private static final class StacklessLazyIllegalStateException extends LazyIllegalStateException {
+
+        /** Serialization version: 1 */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param message
+         *            the message. It must not be {@code null}.
+         */
+        public StacklessLazyIllegalStateException(DeferredMessage message) {
+            super(message);
+        }
+
+        /**
+         * @see java.lang.Throwable#fillInStackTrace()
+         */
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
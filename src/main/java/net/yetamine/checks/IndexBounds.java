@@ -16,6 +16,7 @@
 
 package net.yetamine.checks;
 
+import java.nio.Buffer;
 import java.util.function.Supplier;
 
 /**
@@ -50,7 +51,7 @@ public final class IndexBounds {
             return result;
         }
 
-        throw new IndexOutOfBoundsException();
+        throw Failures.indexOutOfBounds();
     }
 
     /**
@@ -75,7 +76,7 @@ public final class IndexBounds {
             return result;
         }
 
-        throw new IndexOutOfBoundsException(message);
+        throw Failures.indexOutOfBounds(message);
     }
 
     /**
@@ -102,7 +103,7 @@ public final class IndexBounds {
             return result;
         }
 
-        throw new IndexOutOfBoundsException(messageSupplier.get());
+        throw failure(messageSupplier);
     }
 
     /**
@@ -123,7 +124,7 @@ public final class IndexBounds {
             return result;
         }
 
-        throw new IndexOutOfBoundsException();
+        throw Failures.indexOutOfBounds(result);
     }
 
     /**
@@ -146,7 +147,7 @@ public final class IndexBounds {
             return result;
         }
 
-        throw new IndexOutOfBoundsException(message);
+        throw Failures.indexOutOfBounds(result, message);
     }
 
     /**
@@ -171,7 +172,7 @@ public final class IndexBounds {
             return result;
         }
 
-        throw new IndexOutOfBoundsException(messageSupplier.get());
+        throw failure(result, messageSupplier);
     }
 
     /**
@@ -192,7 +193,7 @@ public final class IndexBounds {
             return result;
         }
 
-        throw new IndexOutOfBoundsException();
+        throw Failures.indexOutOfBounds(result);
     }
 
     /**
@@ -215,7 +216,7 @@ public final class IndexBounds {
             return result;
         }
 
-        throw new IndexOutOfBoundsException(message);
+        throw Failures.indexOutOfBounds(result, message);
     }
 
     /**
@@ -240,6 +241,1370 @@ public final class IndexBounds {
             return result;
         }
 
-        throw new IndexOutOfBoundsException(messageSupplier.get());
+        throw failure(result, messageSupplier);
+    }
+
+    // Range checking methods
+
+    /**
+     * Checks whether an index is within the bounds of the range from 0
+     * (inclusive) to {@code length} (exclusive).
+     *
+     * <p>
+     * This method has the same semantics as {@code Objects.checkIndex}, which
+     * is available since Java 9 and which this method uses when available. The
+     * check uses a form that just-in-time compilers recognize as a range check,
+     * which allows them to eliminate redundant checks, e.g., when accessing
+     * arrays in loops.
+     *
+     * @param index
+     *            the index to check
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the index to check
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of the bounds, including the case when
+     *             {@code length} is negative
+     */
+    public static int checkIndex(int index, int length) {
+        return RangeChecks.checkIndex(index, length);
+    }
+
+    /**
+     * Checks whether the sub-range from {@code from} (inclusive) to {@code to}
+     * (exclusive) is within the bounds of the range from 0 (inclusive) to
+     * {@code length} (exclusive).
+     *
+     * <p>
+     * This method has the same semantics as {@code Objects.checkFromToIndex},
+     * which is available since Java 9 and which this method uses when available.
+     *
+     * @param from
+     *            the lower bound (inclusive) of the sub-range
+     * @param to
+     *            the upper bound (exclusive) of the sub-range
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the lower bound of the sub-range
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the sub-range is out of the bounds, including the case
+     *             when {@code length} is negative
+     */
+    public static int checkFromToIndex(int from, int to, int length) {
+        return RangeChecks.checkFromToIndex(from, to, length);
+    }
+
+    /**
+     * Checks whether the sub-range from {@code from} (inclusive) to
+     * {@code from + size} (exclusive) is within the bounds of the range from 0
+     * (inclusive) to {@code length} (exclusive).
+     *
+     * <p>
+     * This method has the same semantics as {@code Objects.checkFromIndexSize},
+     * which is available since Java 9 and which this method uses when available.
+     * The check can't overflow.
+     *
+     * @param from
+     *            the lower bound (inclusive) of the sub-range
+     * @param size
+     *            the size of the sub-range
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the lower bound of the sub-range
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the sub-range is out of the bounds, including the case
+     *             when {@code length} or {@code size} is negative
+     */
+    public static int checkFromIndexSize(int from, int size, int length) {
+        return RangeChecks.checkFromIndexSize(from, size, length);
+    }
+
+    /**
+     * Checks whether an index is within the bounds of the range from 0
+     * (inclusive) to {@code length} (exclusive).
+     *
+     * <p>
+     * This method has the same semantics as {@code Objects.checkIndex}, which
+     * is available for {@code long} values since Java 16.
+     *
+     * @param index
+     *            the index to check
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the index to check
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of the bounds, including the case when
+     *             {@code length} is negative
+     */
+    public static long checkIndex(long index, long length) {
+        return RangeChecks.checkIndex(index, length);
+    }
+
+    /**
+     * Checks whether the sub-range from {@code from} (inclusive) to {@code to}
+     * (exclusive) is within the bounds of the range from 0 (inclusive) to
+     * {@code length} (exclusive).
+     *
+     * <p>
+     * This method has the same semantics as {@code Objects.checkFromToIndex},
+     * which is available for {@code long} values since Java 16.
+     *
+     * @param from
+     *            the lower bound (inclusive) of the sub-range
+     * @param to
+     *            the upper bound (exclusive) of the sub-range
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the lower bound of the sub-range
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the sub-range is out of the bounds, including the case
+     *             when {@code length} is negative
+     */
+    public static long checkFromToIndex(long from, long to, long length) {
+        return RangeChecks.checkFromToIndex(from, to, length);
+    }
+
+    /**
+     * Checks whether the sub-range from {@code from} (inclusive) to
+     * {@code from + size} (exclusive) is within the bounds of the range from 0
+     * (inclusive) to {@code length} (exclusive).
+     *
+     * <p>
+     * This method has the same semantics as {@code Objects.checkFromIndexSize},
+     * which is available for {@code long} values since Java 16. The check can't
+     * overflow.
+     *
+     * @param from
+     *            the lower bound (inclusive) of the sub-range
+     * @param size
+     *            the size of the sub-range
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the lower bound of the sub-range
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the sub-range is out of the bounds, including the case
+     *             when {@code length} or {@code size} is negative
+     */
+    public static long checkFromIndexSize(long from, long size, long length) {
+        return RangeChecks.checkFromIndexSize(from, size, length);
+    }
+
+    /**
+     * Checks whether the region from {@code offset} (inclusive) to
+     * {@code offset + length} (exclusive) is within the limit of a buffer, so
+     * that the absolute methods of the buffer can access the region.
+     *
+     * <p>
+     * This method is equivalent to {@link #checkFromIndexSize(int, int, int)}
+     * with {@code buffer.limit()} as the length of the range, hence the check
+     * can't overflow.
+     *
+     * @param buffer
+     *            the buffer to check. It must not be {@code null}.
+     * @param offset
+     *            the offset of the region
+     * @param length
+     *            the length of the region
+     *
+     * @return the offset of the region
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the region is out of the limit, including the case when
+     *             {@code offset} or {@code length} is negative
+     */
+    public static int checkRegion(Buffer buffer, int offset, int length) {
+        return RangeChecks.checkFromIndexSize(offset, length, buffer.limit());
+    }
+
+    /**
+     * Checks whether the region from {@code offset} (inclusive) to
+     * {@code offset + length} (exclusive) is within the bounds of a memory
+     * block with the given capacity, e.g., a memory-mapped file or off-heap
+     * memory.
+     *
+     * <p>
+     * This method is equivalent to {@link #checkFromIndexSize(long, long, long)}
+     * and the check can't overflow, unlike the common {@code offset + length >
+     * capacity} expression.
+     *
+     * @param offset
+     *            the offset of the region
+     * @param length
+     *            the length of the region
+     * @param capacity
+     *            the capacity of the memory block
+     *
+     * @return the offset of the region
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the region is out of the bounds, including the case when
+     *             any of the arguments is negative
+     */
+    public static long checkRegion(long offset, long length, long capacity) {
+        return RangeChecks.checkFromIndexSize(offset, length, capacity);
+    }
+
+    /**
+     * Checks whether the region from {@code offset} (inclusive) to
+     * {@code offset + length} (exclusive) is within the bounds of the range
+     * from 0 (inclusive) to {@code capacity} (exclusive) and returns the end of
+     * the region.
+     *
+     * <p>
+     * This method computes the end and checks it in a single pass, like
+     * {@code Math.addExact} would, but with the single branch and the
+     * exception of {@link #checkFromIndexSize(int, int, int)}.
+     *
+     * @param offset
+     *            the offset of the region
+     * @param length
+     *            the length of the region
+     * @param capacity
+     *            the capacity containing the region
+     *
+     * @return the end of the region, i.e., {@code offset + length}
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the region is out of the bounds, including the case when
+     *             any of the arguments is negative
+     */
+    public static int checkRegionEnd(int offset, int length, int capacity) {
+        return RangeChecks.checkRegionEnd(offset, length, capacity);
+    }
+
+    /**
+     * Checks whether the region from {@code offset} (inclusive) to
+     * {@code offset + length} (exclusive) is within the bounds of the range
+     * from 0 (inclusive) to {@code capacity} (exclusive) and returns the end of
+     * the region.
+     *
+     * <p>
+     * This method computes the end and checks it in a single pass, like
+     * {@code Math.addExact} would, but with the single branch and the
+     * exception of {@link #checkFromIndexSize(long, long, long)}.
+     *
+     * @param offset
+     *            the offset of the region
+     * @param length
+     *            the length of the region
+     * @param capacity
+     *            the capacity containing the region
+     *
+     * @return the end of the region, i.e., {@code offset + length}
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the region is out of the bounds, including the case when
+     *             any of the arguments is negative
+     */
+    public static long checkRegionEnd(long offset, long length, long capacity) {
+        return RangeChecks.checkRegionEnd(offset, length, capacity);
+    }
+
+    /**
+     * Checks whether the region from {@code offset} (inclusive) to
+     * {@code offset + length} (exclusive) is within the bounds of the range
+     * from 0 (inclusive) to {@code capacity} (exclusive) and returns both the
+     * offset and the end of the region packed in a single value.
+     *
+     * <p>
+     * The result can be passed around without allocating any object and its
+     * parts can be retrieved with {@link #regionOffset(long)},
+     * {@link #regionEnd(long)} and {@link #regionLength(long)}.
+     *
+     * @param offset
+     *            the offset of the region
+     * @param length
+     *            the length of the region
+     * @param capacity
+     *            the capacity containing the region
+     *
+     * @return the packed region
+     *
+     * @throws IndexOutOfBoundsException
+     *             if the region is out of the bounds, including the case when
+     *             any of the arguments is negative
+     */
+    public static long checkRegionPacked(int offset, int length, int capacity) {
+        // Both parts are non-negative, hence no sign extension can spoil them
+        return ((long) offset << Integer.SIZE) | RangeChecks.checkRegionEnd(offset, length, capacity);
+    }
+
+    /**
+     * Returns the offset of a packed region.
+     *
+     * @param region
+     *            the region returned by
+     *            {@link #checkRegionPacked(int, int, int)}
+     *
+     * @return the offset of the region
+     */
+    public static int regionOffset(long region) {
+        return (int) (region >>> Integer.SIZE);
+    }
+
+    /**
+     * Returns the end (exclusive) of a packed region.
+     *
+     * @param region
+     *            the region returned by
+     *            {@link #checkRegionPacked(int, int, int)}
+     *
+     * @return the end of the region
+     */
+    public static int regionEnd(long region) {
+        return (int) region;
+    }
+
+    /**
+     * Returns the length of a packed region.
+     *
+     * @param region
+     *            the region returned by
+     *            {@link #checkRegionPacked(int, int, int)}
+     *
+     * @return the length of the region
+     */
+    public static int regionLength(long region) {
+        return regionEnd(region) - regionOffset(region);
+    }
+
+    /**
+     * Checks whether an offset is aligned to the given alignment.
+     *
+     * <p>
+     * Both conditions, the valid alignment and the aligned offset, are tested
+     * with a single branch.
+     *
+     * @param offset
+     *            the offset to check
+     * @param alignment
+     *            the alignment, which must be a positive power of two
+     *
+     * @return the offset to check
+     *
+     * @throws IllegalArgumentException
+     *             if the offset is not aligned, or if the alignment is not a
+     *             positive power of two
+     */
+    public static int checkAligned(int offset, int alignment) {
+        // The sign bit makes non-positive alignments fail in the same test
+        if (((alignment - 1L) & (alignment | offset | Long.MIN_VALUE)) == 0) {
+            return offset;
+        }
+
+        throw Failures.misaligned(offset, alignment);
+    }
+
+    /**
+     * Checks whether an offset is aligned to the given alignment.
+     *
+     * <p>
+     * Both conditions, the valid alignment and the aligned offset, are tested
+     * with a single branch.
+     *
+     * @param offset
+     *            the offset to check
+     * @param alignment
+     *            the alignment, which must be a positive power of two
+     *
+     * @return the offset to check
+     *
+     * @throws IllegalArgumentException
+     *             if the offset is not aligned, or if the alignment is not a
+     *             positive power of two
+     */
+    public static long checkAligned(long offset, int alignment) {
+        // The sign bit makes non-positive alignments fail in the same test
+        if (((alignment - 1L) & (alignment | offset | Long.MIN_VALUE)) == 0) {
+            return offset;
+        }
+
+        throw Failures.misaligned(offset, alignment);
+    }
+
+    // Checking methods with message templates
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, int arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, long arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, double arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, Object arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, int arg1, int arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, long arg1, long arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, double arg1, double arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static <T> T check(T result, boolean condition, String template, Object arg1, Object arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, int arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, long arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, double arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, Object arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, int arg1, int arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, long arg1, long arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, double arg1, double arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static int check(int result, boolean condition, String template, Object arg1, Object arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, int arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, long arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, double arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, Object arg) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, int arg1, int arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, long arg1, long arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, double arg1, double arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    /**
+     * Checks an index whether it satisfies a condition.
+     *
+     * @param result
+     *            the index to check and returned
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the index to check
+     *
+     * @throws LazyIndexOutOfBoundsException
+     *             if the condition is not satisfied
+     */
+    public static long check(long result, boolean condition, String template, Object arg1, Object arg2) {
+        if (condition) {
+            return result;
+        }
+
+        throw failure(result, template, arg1, arg2);
+    }
+
+    // Cold paths for failing checks
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param messageSupplier
+     *            the supplier of the message. It must not be {@code null}.
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(Supplier<String> messageSupplier) {
+        return Failures.indexOutOfBounds(messageSupplier.get());
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(String template, int arg) {
+        return Failures.indexOutOfBounds(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(String template, long arg) {
+        return Failures.indexOutOfBounds(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(String template, double arg) {
+        return Failures.indexOutOfBounds(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(String template, Object arg) {
+        return Failures.indexOutOfBounds(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(String template, int arg1, int arg2) {
+        return Failures.indexOutOfBounds(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(String template, long arg1, long arg2) {
+        return Failures.indexOutOfBounds(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(String template, double arg1, double arg2) {
+        return Failures.indexOutOfBounds(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(String template, Object arg1, Object arg2) {
+        return Failures.indexOutOfBounds(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param messageSupplier
+     *            the supplier of the message. It must not be {@code null}.
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(long value, Supplier<String> messageSupplier) {
+        return Failures.indexOutOfBounds(value, messageSupplier.get());
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(long value, String template, int arg) {
+        return Failures.indexOutOfBounds(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(long value, String template, long arg) {
+        return Failures.indexOutOfBounds(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(long value, String template, double arg) {
+        return Failures.indexOutOfBounds(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(long value, String template, Object arg) {
+        return Failures.indexOutOfBounds(value, DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(long value, String template, int arg1, int arg2) {
+        return Failures.indexOutOfBounds(value, DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(long value, String template, long arg1, long arg2) {
+        return Failures.indexOutOfBounds(value, DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(long value, String template, double arg1, double arg2) {
+        return Failures.indexOutOfBounds(value, DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param value
+     *            the checked value
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IndexOutOfBoundsException failure(long value, String template, Object arg1, Object arg2) {
+        return Failures.indexOutOfBounds(value, DeferredMessage.of(template, arg1, arg2));
     }
 }
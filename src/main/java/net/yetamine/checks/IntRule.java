@@ -0,0 +1,641 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * A reusable rule for checking an {@code int} value.
+ *
+ * <p>
+ * A rule bundles the condition, the template of the message and the factory
+ * of the exception, so that the same check repeated at many places does not
+ * need to repeat the lambdas for the condition and the exception. A rule is
+ * immutable and it is supposed to be created once and stored in a constant:
+ *
+ * <pre>
+ * private static final IntRule&lt;IllegalArgumentException&gt; POSITIVE = IntRule.argument(i -&gt; i &gt; 0, "Requiring a positive number (given: %d).");
+ *
+ * // Somewhere later
+ * POSITIVE.check(count);
+ * </pre>
+ *
+ * <p>
+ * The message template receives the checked value as its only argument and
+ * it is formatted only when the check fails.
+ *
+ * <p>
+ * The rules created by the factory methods delegate to the given condition.
+ * When a rule needs the best performance possible, it can rather inherit from
+ * this class and implement {@link #test(int)} directly. Because each such
+ * rule then has its own class, the compiler can resolve the condition call
+ * for a rule stored in a constant and inline it, which it might not do for
+ * a condition shared by many rules.
+ *
+ * @param <X>
+ *            the type of the exception to throw
+ */
+public abstract class IntRule<X extends Throwable> implements IntPredicate {
+
+    /** Template of the message for the exception. */
+    private final String template;
+    /** Factory of the exception for a failing value. */
+    private final IntFunction<? extends X> failure;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception to throw, which gets the
+     *            formatted message. It must not be {@code null}.
+     */
+    protected IntRule(String messageTemplate, Function<? super String, ? extends X> exceptionFactory) {
+        Objects.requireNonNull(exceptionFactory);
+        template = Objects.requireNonNull(messageTemplate);
+        failure = value -> exceptionFactory.apply(String.format(messageTemplate, value));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param exceptionFactory
+     *            the factory of the exception for a failing value. It must
+     *            not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message. It must not be {@code null}.
+     */
+    IntRule(IntFunction<? extends X> exceptionFactory, String messageTemplate) {
+        template = Objects.requireNonNull(messageTemplate);
+        failure = Objects.requireNonNull(exceptionFactory);
+    }
+
+    /**
+     * Creates a new instance for a composite rule, which must override
+     * {@link #failure(int)}.
+     *
+     * @param description
+     *            the description of the rule. It must not be {@code null}.
+     */
+    IntRule(String description) {
+        template = Objects.requireNonNull(description);
+        failure = null;
+    }
+
+    /**
+     * Creates a new rule.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception to throw, which gets the
+     *            formatted message. It must not be {@code null}.
+     *
+     * @return the new rule
+     */
+    public static <X extends Throwable> IntRule<X> of(IntPredicate condition, String messageTemplate, Function<? super String, ? extends X> exceptionFactory) {
+        Objects.requireNonNull(exceptionFactory);
+        return new Conditional<>(condition, messageTemplate, value -> exceptionFactory.apply(String.format(messageTemplate, value)));
+    }
+
+    /**
+     * Creates a new rule for checking arguments, which throws
+     * {@link IllegalArgumentException} like {@link Argument} does.
+     *
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     *
+     * @return the new rule
+     */
+    public static IntRule<IllegalArgumentException> argument(IntPredicate condition, String messageTemplate) {
+        return new Conditional<>(condition, messageTemplate, value -> Failures.illegalArgument(value, DeferredMessage.of(messageTemplate, value)));
+    }
+
+    /**
+     * Creates a new rule for checking indices, which throws
+     * {@link IndexOutOfBoundsException} like {@link IndexBounds} does.
+     *
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     *
+     * @return the new rule
+     */
+    public static IntRule<IndexOutOfBoundsException> index(IntPredicate condition, String messageTemplate) {
+        return new Conditional<>(condition, messageTemplate, value -> Failures.indexOutOfBounds(value, DeferredMessage.of(messageTemplate, value)));
+    }
+
+    /**
+     * Creates a new rule for checking state, which throws
+     * {@link IllegalStateException} like {@link StateCondition} does.
+     *
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     *
+     * @return the new rule
+     */
+    public static IntRule<IllegalStateException> state(IntPredicate condition, String messageTemplate) {
+        return new Conditional<>(condition, messageTemplate, value -> Failures.illegalState(value, DeferredMessage.of(messageTemplate, value)));
+    }
+
+    /**
+     * Creates a rule that is satisfied when all given rules are satisfied.
+     *
+     * <p>
+     * The rules are evaluated in the given order and the evaluation stops at
+     * the first violated rule, whose exception is thrown then. Nested
+     * compositions of this kind are flattened, so that the resulting rule
+     * evaluates all rules in a single loop regardless of how it was built.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     * @param rules
+     *            the rules to compose. It must not be {@code null} and it
+     *            must not contain {@code null} elements.
+     *
+     * @return the composed rule
+     */
+    @SafeVarargs
+    public static <X extends Throwable> IntRule<X> allOf(IntRule<? extends X>... rules) {
+        final List<IntRule<? extends X>> elements = new ArrayList<>(rules.length);
+        for (IntRule<? extends X> rule : rules) {
+            flatten(AllOf.class, rule, elements);
+        }
+
+        return new AllOf<>(toArray(elements));
+    }
+
+    /**
+     * Creates a rule that is satisfied when any of the given rules is
+     * satisfied.
+     *
+     * <p>
+     * The rules are evaluated in the given order and the evaluation stops at
+     * the first satisfied rule. When no rule is satisfied, the exception of
+     * the first rule is thrown. Nested compositions of this kind are
+     * flattened, so that the resulting rule evaluates all rules in a single
+     * loop regardless of how it was built.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     * @param rules
+     *            the rules to compose. It must not be {@code null}, it must
+     *            not be empty and it must not contain {@code null} elements.
+     *
+     * @return the composed rule
+     */
+    @SafeVarargs
+    public static <X extends Throwable> IntRule<X> anyOf(IntRule<? extends X>... rules) {
+        final List<IntRule<? extends X>> elements = new ArrayList<>(rules.length);
+        for (IntRule<? extends X> rule : rules) {
+            flatten(AnyOf.class, rule, elements);
+        }
+
+        Argument.check(elements, !elements.isEmpty(), "Requiring at least one rule.");
+        return new AnyOf<>(toArray(elements));
+    }
+
+    /**
+     * Creates a rule that is satisfied when the given rule is not satisfied.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     * @param rule
+     *            the rule to negate. It must not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception to throw, which gets the
+     *            formatted message. It must not be {@code null}.
+     *
+     * @return the new rule
+     */
+    public static <X extends Throwable> IntRule<X> not(IntRule<?> rule, String messageTemplate, Function<? super String, ? extends X> exceptionFactory) {
+        return of(rule.negate(), messageTemplate, exceptionFactory);
+    }
+
+    /**
+     * Returns the template of the message.
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    /**
+     * Tests whether the given value satisfies this rule.
+     *
+     * @param value
+     *            the value to test
+     *
+     * @return {@code true} if the value satisfies this rule
+     */
+    public abstract boolean test(int value);
+
+    /**
+     * Checks a value whether it satisfies this rule.
+     *
+     * @param value
+     *            the value to check and return
+     *
+     * @return the value
+     *
+     * @throws X
+     *             if the value does not satisfy this rule
+     */
+    public final int check(int value) throws X {
+        final int index = indexOfViolation(value);
+        if (index < 0) {
+            return value;
+        }
+
+        throw failure(value, index);
+    }
+
+    /**
+     * Creates a rule that is satisfied when both this rule and the given rule
+     * are satisfied; see {@link #allOf(IntRule...)} for details.
+     *
+     * @param other
+     *            the other rule. It must not be {@code null}.
+     *
+     * @return the composed rule
+     */
+    public final IntRule<X> and(IntRule<? extends X> other) {
+        return allOf(this, other);
+    }
+
+    /**
+     * Creates a rule that is satisfied when this rule or the given rule is
+     * satisfied; see {@link #anyOf(IntRule...)} for details.
+     *
+     * @param other
+     *            the other rule. It must not be {@code null}.
+     *
+     * @return the composed rule
+     */
+    public final IntRule<X> or(IntRule<? extends X> other) {
+        return anyOf(this, other);
+    }
+
+    /**
+     * Returns the index of the rule that the given value violates.
+     *
+     * <p>
+     * For a rule composed with {@link #allOf(IntRule...)}, the result is the
+     * index of the first violated rule in the flattened composition. For any
+     * other rule, the result is zero if the value violates the rule. This
+     * method does not allocate anything.
+     *
+     * @param value
+     *            the value to test
+     *
+     * @return the index of the violated rule, or -1 if the value satisfies
+     *         this rule
+     */
+    public int indexOfViolation(int value) {
+        return test(value) ? -1 : 0;
+    }
+
+    /**
+     * Creates the exception for a value violating this rule.
+     *
+     * <p>
+     * This method does not check the value, it just creates the exception that
+     * {@link #check(int)} would throw for the value, e.g., when the value
+     * has been tested already. A composed rule evaluates its rules again to
+     * find the violated one.
+     *
+     * @param value
+     *            the value violating this rule
+     *
+     * @return the exception to throw
+     *
+     * @throws IllegalStateException
+     *             if a composed rule finds no violated rule, which happens
+     *             when its conditions are not consistent
+     */
+    public X failure(int value) {
+        return failure.apply(value);
+    }
+
+    /**
+     * Creates the exception for a failing value, which violates the rule with
+     * the given index.
+     *
+     * @param value
+     *            the failing value
+     * @param index
+     *            the index of the violated rule as returned by
+     *            {@link #indexOfViolation(int)}
+     *
+     * @return the exception to throw
+     */
+    X failure(int value, int index) {
+        return failure(value);
+    }
+
+    /**
+     * A rule delegating to a condition.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     */
+    private static final class Conditional<X extends Throwable> extends IntRule<X> {
+
+        /** Condition to check. */
+        private final IntPredicate condition;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param predicate
+         *            the condition to check. It must not be {@code null}.
+         * @param messageTemplate
+         *            the template of the message. It must not be
+         *            {@code null}.
+         * @param exceptionFactory
+         *            the factory of the exception for a failing value. It
+         *            must not be {@code null}.
+         */
+        public Conditional(IntPredicate predicate, String messageTemplate, IntFunction<? extends X> exceptionFactory) {
+            super(exceptionFactory, messageTemplate);
+            condition = Objects.requireNonNull(predicate);
+        }
+
+        /**
+         * @see IntRule#test(int)
+         */
+        @Override
+        public boolean test(int value) {
+            return condition.test(value);
+        }
+    }
+
+    /**
+     * Flattens a rule for a composite.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     * @param composite
+     *            the type of the composite whose instances shall be
+     *            flattened. It must not be {@code null}.
+     * @param rule
+     *            the rule to flatten. It must not be {@code null}.
+     * @param result
+     *            the list to add the flattened rules to. It must not be
+     *            {@code null}.
+     */
+    private static <X extends Throwable> void flatten(Class<?> composite, IntRule<? extends X> rule, List<IntRule<? extends X>> result) {
+        if (composite.isInstance(rule)) {
+            for (IntRule<? extends X> element : ((Composite<? extends X>) rule).rules) {
+                result.add(element);
+            }
+        } else {
+            result.add(Objects.requireNonNull(rule));
+        }
+    }
+
+    /**
+     * Converts the rules to an array for a composite.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     * @param rules
+     *            the rules to convert. It must not be {@code null}.
+     *
+     * @return the array of the rules
+     */
+    private static <X extends Throwable> IntRule<? extends X>[] toArray(List<IntRule<? extends X>> rules) {
+        @SuppressWarnings("unchecked") // Safe as the array gets the rules only
+        final IntRule<? extends X>[] result = (IntRule<? extends X>[]) new IntRule<?>[rules.size()];
+        return rules.toArray(result);
+    }
+
+    /**
+     * A rule composed of other rules.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     */
+    private abstract static class Composite<X extends Throwable> extends IntRule<X> {
+
+        /** Composed rules. */
+        final IntRule<? extends X>[] rules;
+        /** Conditions of the composed rules, evaluated instead of the rules. */
+        final IntPredicate[] conditions;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param elements
+         *            the composed rules. It must not be {@code null}.
+         * @param operator
+         *            the name of the operator for the description. It must
+         *            not be {@code null}.
+         */
+        protected Composite(IntRule<? extends X>[] elements, String operator) {
+            super(describe(elements, operator));
+            conditions = conditions(elements);
+            rules = elements;
+        }
+
+        /**
+         * Unwraps the conditions of the rules, so that testing a rule needs
+         * no additional call to the rule itself.
+         *
+         * @param elements
+         *            the rules to unwrap. It must not be {@code null}.
+         *
+         * @return the conditions
+         */
+        private static IntPredicate[] conditions(IntRule<?>[] elements) {
+            final IntPredicate[] result = new IntPredicate[elements.length];
+            for (int i = 0; i < elements.length; i++) {
+                final IntRule<?> element = elements[i];
+                result[i] = (element instanceof Conditional) ? ((Conditional<?>) element).condition : element;
+            }
+
+            return result;
+        }
+
+        /**
+         * Describes the composition.
+         *
+         * @param elements
+         *            the composed rules. It must not be {@code null}.
+         * @param operator
+         *            the name of the operator. It must not be {@code null}.
+         *
+         * @return the description
+         */
+        private static String describe(Object[] elements, String operator) {
+            final StringBuilder result = new StringBuilder(operator).append('[');
+            for (int i = 0; i < elements.length; i++) {
+                if (0 < i) {
+                    result.append(", ");
+                }
+
+                result.append(elements[i]);
+            }
+
+            return result.append(']').toString();
+        }
+    }
+
+    /**
+     * A rule satisfied when all its rules are satisfied.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     */
+    private static final class AllOf<X extends Throwable> extends Composite<X> {
+
+        /**
+         * Creates a new instance.
+         *
+         * @param elements
+         *            the composed rules. It must not be {@code null}.
+         */
+        public AllOf(IntRule<? extends X>[] elements) {
+            super(elements, "allOf");
+        }
+
+        /**
+         * @see IntRule#test(int)
+         */
+        @Override
+        public boolean test(int value) {
+            for (IntPredicate condition : conditions) {
+                if (!condition.test(value)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * @see IntRule#indexOfViolation(int)
+         */
+        @Override
+        public int indexOfViolation(int value) {
+            final IntPredicate[] elements = conditions;
+            for (int i = 0; i < elements.length; i++) {
+                if (!elements[i].test(value)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * @see IntRule#failure(int)
+         */
+        @Override
+        public X failure(int value) {
+            // Evaluated again only when nested in another composite or when
+            // invoked directly, when the value might pass now
+            final int index = indexOfViolation(value);
+            if (index < 0) {
+                throw Failures.inconsistentRule(this, value);
+            }
+
+            return failure(value, index);
+        }
+
+        /**
+         * @see IntRule#failure(int, int)
+         */
+        @Override
+        X failure(int value, int index) {
+            return rules[index].failure(value);
+        }
+    }
+
+    /**
+     * A rule satisfied when any of its rules is satisfied.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     */
+    private static final class AnyOf<X extends Throwable> extends Composite<X> {
+
+        /**
+         * Creates a new instance.
+         *
+         * @param elements
+         *            the composed rules. It must not be {@code null} or
+         *            empty.
+         */
+        public AnyOf(IntRule<? extends X>[] elements) {
+            super(elements, "anyOf");
+        }
+
+        /**
+         * @see IntRule#test(int)
+         */
+        @Override
+        public boolean test(int value) {
+            for (IntPredicate condition : conditions) {
+                if (condition.test(value)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * @see IntRule#failure(int)
+         */
+        @Override
+        public X failure(int value) {
+            return rules[0].failure(value);
+        }
+    }
+}
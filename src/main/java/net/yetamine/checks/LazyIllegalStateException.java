@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link IllegalStateException} with a message formatted lazily from a template.
+ *
+ * <p>
+ * The template and its arguments are retained instead of the message, which is
+ * formatted when {@link #getMessage()} is invoked for the first time, hence an
+ * exception that is caught and handled without looking at its message never
+ * pays the cost of formatting. When serialized, the exception formats the
+ * message and serializes just the result and the template.
+ */
+public class LazyIllegalStateException extends IllegalStateException {
+
+    /** Serialization version: 1 */
+    private static final long serialVersionUID = 1L;
+
+    /** Template of the message. */
+    private final String template;
+    /** Deferred message; not available after deserialization. */
+    private final transient DeferredMessage deferred;
+    /** Formatted message, or {@code null} if not formatted yet. */
+    private String message;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param deferredMessage
+     *            the deferred message. It must not be {@code null}.
+     */
+    LazyIllegalStateException(DeferredMessage deferredMessage) {
+        template = deferredMessage.template();
+        deferred = deferredMessage;
+    }
+
+    /**
+     * @see java.lang.Throwable#getMessage()
+     */
+    @Override
+    public String getMessage() {
+        String result = message;
+
+        if ((result == null) && (deferred != null)) {
+            result = deferred.toString();
+            message = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the template of the message.
+     *
+     * @return the template of the message
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Returns the arguments of the message template.
+     *
+     * @return the arguments of the message template, or an empty list if the
+     *         arguments are not available anymore (which happens when this
+     *         instance is deserialized)
+     */
+    public List<Object> getArguments() {
+        return (deferred != null) ? deferred.arguments() : Collections.emptyList();
+    }
+
+    /**
+     * Formats the message before serializing this instance.
+     *
+     * @param out
+     *            the output stream
+     *
+     * @throws IOException
+     *             if the serialization fails
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.Spliterator;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Implements the parallel scans of large inputs for {@link Constraint}.
+ *
+ * <p>
+ * A scan splits the input into tasks of {@link #GRANULARITY} elements at
+ * least, which run in a {@link ForkJoinPool}. The tasks share the lowest index
+ * of a violating element found so far, and a task stops as soon as it can't
+ * find any lower index, so that the first violation cancels the remaining
+ * work early. Splitting the input requires a {@link Spliterator#SUBSIZED}
+ * spliterator, which keeps the indices of the elements exact; other inputs,
+ * as well as small inputs, are scanned sequentially. The sequential scan of
+ * a {@link Spliterator#SUBSIZED} spliterator splits it into chunks for bulk
+ * traversal, which is usually much faster than traversing single elements.
+ */
+final class ParallelScans {
+
+    /** Minimal number of elements for a task. */
+    static final long GRANULARITY = 1 << 13;
+    /** Maximal number of elements scanned without checking cancellation. */
+    static final long CHUNK = 1 << 10;
+    /** Mask of the indices when an unsplittable scan checks cancellation. */
+    static final long CANCELLATION_MASK = CHUNK - 1;
+    /** Value of the shared index when no violation was found. */
+    static final long NOT_FOUND = Long.MAX_VALUE;
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private ParallelScans() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Finds the index of the first element that does not satisfy a condition.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param source
+     *            the source of the elements. It must not be {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param pool
+     *            the pool to run the tasks. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1 if there is
+     *         no such element
+     */
+    public static <T> long indexOfViolation(Spliterator<T> source, Predicate<? super T> condition, ForkJoinPool pool) {
+        assert (condition != null) : "Condition must not be null.";
+        assert (pool != null) : "Pool must not be null.";
+
+        final AtomicLong found = new AtomicLong(NOT_FOUND);
+        final Scan<T> scan = new Scan<>(null, source, 0, condition, found);
+        if (source.hasCharacteristics(Spliterator.SUBSIZED) && (GRANULARITY < source.estimateSize())) {
+            pool.invoke(scan);
+        } else {
+            scan.scan(source, 0);
+        }
+
+        final long result = found.get();
+        return (result == NOT_FOUND) ? -1 : result;
+    }
+
+    /**
+     * A task scanning a part of the input.
+     *
+     * @param <T>
+     *            the type of the elements
+     */
+    private static final class Scan<T> extends CountedCompleter<Void> implements Consumer<T> {
+
+        /** Serialization version: 1 */
+        private static final long serialVersionUID = 1L;
+
+        /** Part of the input to scan. */
+        private final Spliterator<T> spliterator;
+        /** Index of the first element of the part. */
+        private final long origin;
+        /** Condition to check. */
+        private final Predicate<? super T> condition;
+        /** Lowest index of a violating element found so far. */
+        private final AtomicLong found;
+        /** Offset of the next element in the current chunk. */
+        private long offset;
+        /** Offset of the first violating element in the current chunk. */
+        private long violation;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param parent
+         *            the parent task, or {@code null} for the root
+         * @param part
+         *            the part of the input to scan. It must not be
+         *            {@code null}.
+         * @param index
+         *            the index of the first element of the part
+         * @param predicate
+         *            the condition to check. It must not be {@code null}.
+         * @param result
+         *            the lowest index of a violating element found so far. It
+         *            must not be {@code null}.
+         */
+        public Scan(Scan<T> parent, Spliterator<T> part, long index, Predicate<? super T> predicate, AtomicLong result) {
+            super(parent);
+            spliterator = part;
+            origin = index;
+            condition = predicate;
+            found = result;
+        }
+
+        /**
+         * @see java.util.concurrent.CountedCompleter#compute()
+         */
+        @Override
+        public void compute() {
+            Spliterator<T> current = spliterator;
+            for (Spliterator<T> prefix; (GRANULARITY < current.estimateSize()) && (origin < found.get()) && ((prefix = current.trySplit()) != null);) {
+                // Fork the suffix and continue with the prefix, which has lower indices
+                addToPendingCount(1);
+                new Scan<>(this, current, origin + prefix.estimateSize(), condition, found).fork();
+                current = prefix;
+            }
+
+            scan(current, origin);
+            tryComplete();
+        }
+
+        /**
+         * @see java.util.function.Consumer#accept(java.lang.Object)
+         */
+        @Override
+        public void accept(T t) {
+            if ((violation < 0) && !condition.test(t)) {
+                violation = offset;
+            }
+
+            ++offset;
+        }
+
+        /**
+         * Scans the elements sequentially.
+         *
+         * @param part
+         *            the elements to scan. It must not be {@code null}.
+         * @param index
+         *            the index of the first element
+         */
+        void scan(Spliterator<T> part, long index) {
+            if (part.hasCharacteristics(Spliterator.SUBSIZED)) {
+                scanChunks(part, index);
+                return;
+            }
+
+            for (long i = index;; i++) {
+                if (((i & CANCELLATION_MASK) == 0) && (found.get() < i)) {
+                    return; // A lower index has been found already
+                }
+
+                offset = 0;
+                violation = -1;
+                if (!part.tryAdvance(this)) {
+                    return;
+                }
+
+                if (violation == 0) {
+                    found.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Scans the elements sequentially in chunks, which allows using bulk
+         * traversal that is usually faster than traversing single elements.
+         *
+         * @param part
+         *            the elements to scan. It must not be {@code null} and it
+         *            must be {@link Spliterator#SUBSIZED}.
+         * @param index
+         *            the index of the first element
+         *
+         * @return {@code false} if the scan shall stop
+         */
+        private boolean scanChunks(Spliterator<T> part, long index) {
+            long position = index;
+            for (Spliterator<T> prefix; (CHUNK < part.estimateSize()) && ((prefix = part.trySplit()) != null);) {
+                final long size = prefix.estimateSize();
+                if (!scanChunks(prefix, position)) {
+                    return false;
+                }
+
+                position += size;
+            }
+
+            if (found.get() < position) {
+                return false; // A lower index has been found already
+            }
+
+            offset = 0;
+            violation = -1;
+            part.forEachRemaining(this);
+            if (violation < 0) {
+                return true;
+            }
+
+            found.accumulateAndGet(position + violation, Math::min);
+            return false;
+        }
+    }
+}
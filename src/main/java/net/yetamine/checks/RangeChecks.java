@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+/**
+ * Implements the range checks for {@link IndexBounds}.
+ *
+ * <p>
+ * This class is a part of a multi-release archive: this implementation works
+ * with Java 8, while the implementation for Java 9 and newer delegates to the
+ * intrinsic methods of {@code java.util.Objects}.
+ */
+final class RangeChecks {
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private RangeChecks() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Implements {@link IndexBounds#checkIndex(int, int)}.
+     *
+     * @param index
+     *            the index to check
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the index to check
+     */
+    public static int checkIndex(int index, int length) {
+        if ((length >= 0) && (Integer.compareUnsigned(index, length) < 0)) {
+            return index;
+        }
+
+        throw Failures.indexOutOfRange(index, length);
+    }
+
+    /**
+     * Implements {@link IndexBounds#checkFromToIndex(int, int, int)}.
+     *
+     * @param from
+     *            the lower bound (inclusive) of the sub-range
+     * @param to
+     *            the upper bound (exclusive) of the sub-range
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the lower bound of the sub-range
+     */
+    public static int checkFromToIndex(int from, int to, int length) {
+        if ((length >= 0) && (Integer.compareUnsigned(to, length) <= 0) && (Integer.compareUnsigned(from, to) <= 0)) {
+            return from;
+        }
+
+        throw Failures.fromToOutOfRange(from, to, length);
+    }
+
+    /**
+     * Implements {@link IndexBounds#checkFromIndexSize(int, int, int)}.
+     *
+     * @param from
+     *            the lower bound (inclusive) of the sub-range
+     * @param size
+     *            the size of the sub-range
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the lower bound of the sub-range
+     */
+    public static int checkFromIndexSize(int from, int size, int length) {
+        // Only the last test depends on 'from', the rest is often loop-invariant
+        final int limit = length - size;
+        if (((length | size | limit) >= 0) && (Integer.compareUnsigned(from, limit) <= 0)) {
+            return from;
+        }
+
+        throw Failures.fromSizeOutOfRange(from, size, length);
+    }
+
+    /**
+     * Implements {@link IndexBounds#checkIndex(long, long)}.
+     *
+     * @param index
+     *            the index to check
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the index to check
+     */
+    public static long checkIndex(long index, long length) {
+        if ((length >= 0) && (Long.compareUnsigned(index, length) < 0)) {
+            return index;
+        }
+
+        throw Failures.indexOutOfRange(index, length);
+    }
+
+    /**
+     * Implements {@link IndexBounds#checkFromToIndex(long, long, long)}.
+     *
+     * @param from
+     *            the lower bound (inclusive) of the sub-range
+     * @param to
+     *            the upper bound (exclusive) of the sub-range
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the lower bound of the sub-range
+     */
+    public static long checkFromToIndex(long from, long to, long length) {
+        if ((length >= 0) && (Long.compareUnsigned(to, length) <= 0) && (Long.compareUnsigned(from, to) <= 0)) {
+            return from;
+        }
+
+        throw Failures.fromToOutOfRange(from, to, length);
+    }
+
+    /**
+     * Implements {@link IndexBounds#checkFromIndexSize(long, long, long)}.
+     *
+     * @param from
+     *            the lower bound (inclusive) of the sub-range
+     * @param size
+     *            the size of the sub-range
+     * @param length
+     *            the upper bound (exclusive) of the range
+     *
+     * @return the lower bound of the sub-range
+     */
+    public static long checkFromIndexSize(long from, long size, long length) {
+        // Only the last test depends on 'from', the rest is often loop-invariant
+        final long limit = length - size;
+        if (((length | size | limit) >= 0) && (Long.compareUnsigned(from, limit) <= 0)) {
+            return from;
+        }
+
+        throw Failures.fromSizeOutOfRange(from, size, length);
+    }
+
+    /**
+     * Implements {@link IndexBounds#checkRegionEnd(int, int, int)}.
+     *
+     * @param offset
+     *            the offset of the region
+     * @param length
+     *            the length of the region
+     * @param capacity
+     *            the capacity containing the region
+     *
+     * @return the end of the region
+     */
+    public static int checkRegionEnd(int offset, int length, int capacity) {
+        if (((offset | length | capacity) >= 0) && (length <= capacity - offset)) {
+            return offset + length;
+        }
+
+        throw Failures.fromSizeOutOfRange(offset, length, capacity);
+    }
+
+    /**
+     * Implements {@link IndexBounds#checkRegionEnd(long, long, long)}.
+     *
+     * @param offset
+     *            the offset of the region
+     * @param length
+     *            the length of the region
+     * @param capacity
+     *            the capacity containing the region
+     *
+     * @return the end of the region
+     */
+    public static long checkRegionEnd(long offset, long length, long capacity) {
+        if (((offset | length | capacity) >= 0) && (length <= capacity - offset)) {
+            return offset + length;
+        }
+
+        throw Failures.fromSizeOutOfRange(offset, length, capacity);
+    }
+}
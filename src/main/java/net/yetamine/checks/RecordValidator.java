@@ -0,0 +1,607 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Validates binary data consisting of fixed-width records.
+ *
+ * <p>
+ * An instance declares a schema: the size of a record and the range checks of
+ * its {@code int} and {@code long} fields. The checks read the fields directly
+ * from a buffer, e.g., from a memory-mapped file, without copying records or
+ * allocating anything per record, and report the failures to a
+ * {@link Violations} instance. The code of a failure is the index of the
+ * failing check in the order of declaration, the position of a failure is the
+ * byte offset of the failing field in the validated file or region:
+ *
+ * <pre>
+ * final RecordValidator validator = RecordValidator.of(16)
+ *     .intRange(0, 0, 150)         // Code 0
+ *     .longRange(4, 0, MAX_AMOUNT) // Code 1
+ *     .intIndex(12, CATEGORIES);   // Code 2
+ *
+ * validator.validate(path, new Violations(100), ForkJoinPool.commonPool()).throwIfAny();
+ * </pre>
+ *
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ */
+public final class RecordValidator {
+
+    /** Code of the failure of a truncated record at the end of the data. */
+    public static final int TRUNCATED = -1;
+
+    /** Preferred size of a mapped region in bytes. */
+    private static final int REGION = 1 << 24;
+    /** Number of records in a block to scan before reporting failures. */
+    private static final int BLOCK = 256;
+
+    /** Size of a record in bytes. */
+    private final int recordSize;
+    /** Byte order of the fields. */
+    private final ByteOrder order;
+    /** Offsets of the checked fields within a record. */
+    private final int[] offsets;
+    /** Indicates {@code long} fields, the others are {@code int} fields. */
+    private final boolean[] wide;
+    /** Lower bounds (inclusive) of the fields. */
+    private final long[] mins;
+    /** Differences between the upper and lower bounds, as unsigned values. */
+    private final long[] spans;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param size
+     *            the size of a record
+     * @param byteOrder
+     *            the byte order of the fields
+     * @param fieldOffsets
+     *            the offsets of the checked fields
+     * @param fieldWide
+     *            the indicators of {@code long} fields
+     * @param fieldMins
+     *            the lower bounds of the fields
+     * @param fieldSpans
+     *            the differences of the bounds of the fields
+     */
+    private RecordValidator(int size, ByteOrder byteOrder, int[] fieldOffsets, boolean[] fieldWide, long[] fieldMins, long[] fieldSpans) {
+        recordSize = size;
+        order = byteOrder;
+        offsets = fieldOffsets;
+        wide = fieldWide;
+        mins = fieldMins;
+        spans = fieldSpans;
+    }
+
+    /**
+     * Creates a new instance with no checks and the big-endian byte order.
+     *
+     * @param recordSize
+     *            the size of a record in bytes. It must be positive.
+     *
+     * @return the new instance
+     */
+    public static RecordValidator of(int recordSize) {
+        Argument.check(recordSize, 0 < recordSize, "Requiring a positive record size (given: %d).", recordSize);
+        return new RecordValidator(recordSize, ByteOrder.BIG_ENDIAN, new int[0], new boolean[0], new long[0], new long[0]);
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder("RecordValidator[size=").append(recordSize);
+        result.append(", order=").append(order);
+        for (int i = 0; i < offsets.length; i++) {
+            result.append((i == 0) ? ": " : ", ");
+            result.append(wide[i] ? "long@" : "int@").append(offsets[i]);
+            result.append('[').append(mins[i]).append(", ").append(mins[i] + spans[i]).append(']');
+        }
+
+        return result.append(']').toString();
+    }
+
+    // Schema declaration
+
+    /**
+     * Returns the size of a record.
+     *
+     * @return the size of a record in bytes
+     */
+    public int recordSize() {
+        return recordSize;
+    }
+
+    /**
+     * Returns the number of declared checks.
+     *
+     * @return the number of declared checks
+     */
+    public int checks() {
+        return offsets.length;
+    }
+
+    /**
+     * Returns an instance with the same checks, but reading the fields in the
+     * given byte order.
+     *
+     * @param byteOrder
+     *            the byte order of the fields. It must not be {@code null}.
+     *
+     * @return an instance with the given byte order
+     */
+    public RecordValidator order(ByteOrder byteOrder) {
+        Argument.check(byteOrder, byteOrder != null, "Byte order must not be null.");
+        return new RecordValidator(recordSize, byteOrder, offsets, wide, mins, spans);
+    }
+
+    /**
+     * Returns an instance with an additional range check of an {@code int}
+     * field.
+     *
+     * @param offset
+     *            the offset of the field within a record
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range. It must not be
+     *            less than {@code min}.
+     *
+     * @return an instance with the additional check
+     */
+    public RecordValidator intRange(int offset, int min, int max) {
+        return field(offset, false, min, max);
+    }
+
+    /**
+     * Returns an instance with an additional range check of a {@code long}
+     * field.
+     *
+     * @param offset
+     *            the offset of the field within a record
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range. It must not be
+     *            less than {@code min}.
+     *
+     * @return an instance with the additional check
+     */
+    public RecordValidator longRange(int offset, long min, long max) {
+        return field(offset, true, min, max);
+    }
+
+    /**
+     * Returns an instance with an additional index check of an {@code int}
+     * field, which must be within the range from 0 (inclusive) to
+     * {@code length} (exclusive).
+     *
+     * @param offset
+     *            the offset of the field within a record
+     * @param length
+     *            the upper bound (exclusive) of the range. It must be
+     *            positive.
+     *
+     * @return an instance with the additional check
+     */
+    public RecordValidator intIndex(int offset, int length) {
+        Argument.check(length, 0 < length, "Requiring a positive length (given: %d).", length);
+        return field(offset, false, 0, length - 1);
+    }
+
+    /**
+     * Returns an instance with an additional index check of a {@code long}
+     * field, which must be within the range from 0 (inclusive) to
+     * {@code length} (exclusive).
+     *
+     * @param offset
+     *            the offset of the field within a record
+     * @param length
+     *            the upper bound (exclusive) of the range. It must be
+     *            positive.
+     *
+     * @return an instance with the additional check
+     */
+    public RecordValidator longIndex(int offset, long length) {
+        Argument.check(length, 0 < length, "Requiring a positive length (given: %d).", length);
+        return field(offset, true, 0, length - 1);
+    }
+
+    // Validation
+
+    /**
+     * Validates the records remaining in a buffer.
+     *
+     * <p>
+     * The records start at the position of the buffer, which this method does
+     * not change, and a trailing incomplete record fails with the
+     * {@link #TRUNCATED} code.
+     *
+     * @param records
+     *            the buffer with the records. It must not be {@code null}.
+     * @param base
+     *            the position of the first record to report, e.g., its
+     *            offset in a file
+     * @param violations
+     *            the violations to report the failures to. It must not be
+     *            {@code null}.
+     *
+     * @return the violations
+     */
+    public Violations validate(ByteBuffer records, long base, Violations violations) {
+        final ByteBuffer buffer = records.duplicate().order(order);
+        final int start = buffer.position();
+        final int end = buffer.limit();
+        final int count = (end - start) / recordSize;
+
+        int record = start;
+        for (int remaining = count; 0 < remaining; remaining -= BLOCK) {
+            final int block = Math.min(remaining, BLOCK);
+
+            if (!passes(buffer, record, block)) { // Report the failures in the order of their positions
+                for (int i = 0; i < block; i++, record += recordSize) {
+                    validateRecord(buffer, record, base + (record - start), violations);
+                }
+            } else {
+                record += block * recordSize;
+            }
+        }
+
+        if (record < end) {
+            violations.check(false, TRUNCATED, base + (record - start));
+        }
+
+        return violations;
+    }
+
+    /**
+     * Validates the records in a region of a file.
+     *
+     * <p>
+     * The region is mapped in parts, so that it may exceed the limits of a
+     * single buffer, and the records start at the beginning of the region.
+     * The positions of the failures are the offsets in the file.
+     *
+     * @param channel
+     *            the channel of the file. It must not be {@code null}.
+     * @param position
+     *            the position of the region in the file
+     * @param size
+     *            the size of the region
+     * @param violations
+     *            the violations to report the failures to. It must not be
+     *            {@code null}.
+     *
+     * @return the violations
+     *
+     * @throws IOException
+     *             if the file could not be mapped
+     */
+    public Violations validate(FileChannel channel, long position, long size, Violations violations) throws IOException {
+        final long end = IndexBounds.checkRegionEnd(position, size, channel.size());
+        final long region = regionSize();
+
+        for (long at = position; at < end; at += region) {
+            validateRegion(channel, at, Math.min(region, end - at), violations);
+        }
+
+        return violations;
+    }
+
+    /**
+     * Validates the records in a region of a file in parallel.
+     *
+     * <p>
+     * This method works like {@link #validate(FileChannel, long, long, Violations)},
+     * but it validates disjoint parts of the region in parallel. Each part
+     * collects its own failures, which are then appended to the given
+     * violations in the order of their positions.
+     *
+     * @param channel
+     *            the channel of the file. It must not be {@code null}.
+     * @param position
+     *            the position of the region in the file
+     * @param size
+     *            the size of the region
+     * @param violations
+     *            the violations to report the failures to. It must not be
+     *            {@code null}.
+     * @param pool
+     *            the pool to run the validation. It must not be
+     *            {@code null}.
+     *
+     * @return the violations
+     *
+     * @throws IOException
+     *             if the file could not be mapped
+     */
+    public Violations validate(FileChannel channel, long position, long size, Violations violations, ForkJoinPool pool) throws IOException {
+        final long end = IndexBounds.checkRegionEnd(position, size, channel.size());
+        final long region = regionSize();
+        final long parts = (size + region - 1) / region;
+
+        if (parts <= 1) { // Not worth forking
+            return validate(channel, position, size, violations);
+        }
+
+        try {
+            return violations.addAll(pool.invoke(new Parts(channel, position, end, region, 0, parts, violations.capacity())));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Validates the records in a file.
+     *
+     * @param file
+     *            the file to validate. It must not be {@code null}.
+     * @param violations
+     *            the violations to report the failures to. It must not be
+     *            {@code null}.
+     *
+     * @return the violations
+     *
+     * @throws IOException
+     *             if the file could not be opened or mapped
+     */
+    public Violations validate(Path file, Violations violations) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return validate(channel, 0, channel.size(), violations);
+        }
+    }
+
+    /**
+     * Validates the records in a file in parallel.
+     *
+     * @param file
+     *            the file to validate. It must not be {@code null}.
+     * @param violations
+     *            the violations to report the failures to. It must not be
+     *            {@code null}.
+     * @param pool
+     *            the pool to run the validation. It must not be
+     *            {@code null}.
+     *
+     * @return the violations
+     *
+     * @throws IOException
+     *             if the file could not be opened or mapped
+     */
+    public Violations validate(Path file, Violations violations, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return validate(channel, 0, channel.size(), violations, pool);
+        }
+    }
+
+    // Implementation
+
+    /**
+     * Returns an instance with an additional check of a field.
+     *
+     * @param offset
+     *            the offset of the field within a record
+     * @param isLong
+     *            {@code true} for a {@code long} field
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return an instance with the additional check
+     */
+    private RecordValidator field(int offset, boolean isLong, long min, long max) {
+        IndexBounds.checkFromIndexSize(offset, isLong ? Long.BYTES : Integer.BYTES, recordSize);
+        Argument.check(min, min <= max, "Requiring a non-empty range [%d, %d].", min, max);
+
+        final int count = offsets.length;
+        final int[] fieldOffsets = Arrays.copyOf(offsets, count + 1);
+        final boolean[] fieldWide = Arrays.copyOf(wide, count + 1);
+        final long[] fieldMins = Arrays.copyOf(mins, count + 1);
+        final long[] fieldSpans = Arrays.copyOf(spans, count + 1);
+        fieldOffsets[count] = offset;
+        fieldWide[count] = isLong;
+        fieldMins[count] = min;
+        fieldSpans[count] = max - min; // Correct as an unsigned value even if overflowing
+        return new RecordValidator(recordSize, order, fieldOffsets, fieldWide, fieldMins, fieldSpans);
+    }
+
+    /**
+     * Returns the size of a mapped region, which must contain only whole
+     * records and fit in a buffer.
+     *
+     * @return the size of a mapped region
+     */
+    private long regionSize() {
+        return (long) Math.max(1, REGION / recordSize) * recordSize;
+    }
+
+    /**
+     * Validates the records in a region of a file, which fits in a buffer.
+     *
+     * @param channel
+     *            the channel of the file. It must not be {@code null}.
+     * @param position
+     *            the position of the region in the file
+     * @param size
+     *            the size of the region
+     * @param violations
+     *            the violations to report the failures to. It must not be
+     *            {@code null}.
+     *
+     * @throws IOException
+     *             if the region could not be mapped
+     */
+    private void validateRegion(FileChannel channel, long position, long size, Violations violations) throws IOException {
+        assert (size <= Integer.MAX_VALUE);
+        validate(channel.map(FileChannel.MapMode.READ_ONLY, position, size), position, violations);
+    }
+
+    /**
+     * Tests whether all records in a block pass the checks.
+     *
+     * <p>
+     * The block is scanned field by field, so that each loop uses a single
+     * offset, bound and access width, and the loops accumulate the failures
+     * without branching.
+     *
+     * @param buffer
+     *            the buffer with the records, using the byte order of this
+     *            instance. It must not be {@code null}.
+     * @param from
+     *            the index of the first record of the block
+     * @param count
+     *            the number of the records in the block
+     *
+     * @return {@code true} if all records pass the checks
+     */
+    private boolean passes(ByteBuffer buffer, int from, int count) {
+        boolean failed = false;
+        for (int i = 0; i < offsets.length; i++) {
+            // Shifting the values by Long.MIN_VALUE turns unsigned comparisons to signed
+            final long min = mins[i] + Long.MIN_VALUE;
+            final long limit = spans[i] + Long.MIN_VALUE;
+            final int offset = offsets[i];
+
+            // Counting the records, the last increment of 'at' may overflow
+            if (wide[i]) {
+                for (int n = 0, at = from + offset; n < count; n++, at += recordSize) {
+                    failed |= (limit < buffer.getLong(at) - min);
+                }
+            } else {
+                for (int n = 0, at = from + offset; n < count; n++, at += recordSize) {
+                    failed |= (limit < buffer.getInt(at) - min);
+                }
+            }
+        }
+
+        return !failed;
+    }
+
+    /**
+     * Validates a single record.
+     *
+     * @param buffer
+     *            the buffer with the record, using the byte order of this
+     *            instance. It must not be {@code null}.
+     * @param record
+     *            the index of the record in the buffer
+     * @param position
+     *            the position of the record to report
+     * @param violations
+     *            the violations to report the failures to. It must not be
+     *            {@code null}.
+     */
+    private void validateRecord(ByteBuffer buffer, int record, long position, Violations violations) {
+        for (int i = 0; i < offsets.length; i++) {
+            final int offset = offsets[i];
+            final long value = wide[i] ? buffer.getLong(record + offset) : buffer.getInt(record + offset);
+            // Single unsigned comparison for both bounds
+            violations.check(Long.compareUnsigned(value - mins[i], spans[i]) <= 0, i, position + offset);
+        }
+    }
+
+    /**
+     * Validates a range of the parts of a region in parallel.
+     */
+    private final class Parts extends RecursiveTask<Violations> {
+
+        /** Serialization version: 1 */
+        private static final long serialVersionUID = 1L;
+
+        /** Channel of the file. */
+        private final transient FileChannel channel;
+        /** Position of the region. */
+        private final long position;
+        /** End of the region. */
+        private final long end;
+        /** Size of a part. */
+        private final long part;
+        /** First part to validate. */
+        private final long from;
+        /** Part after the last part to validate. */
+        private final long to;
+        /** Capacity of the violations of a part. */
+        private final int capacity;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param fileChannel
+         *            the channel of the file. It must not be {@code null}.
+         * @param regionPosition
+         *            the position of the region
+         * @param regionEnd
+         *            the end of the region
+         * @param partSize
+         *            the size of a part
+         * @param fromPart
+         *            the first part to validate
+         * @param toPart
+         *            the part after the last part to validate
+         * @param violationsCapacity
+         *            the capacity of the violations of a part
+         */
+        Parts(FileChannel fileChannel, long regionPosition, long regionEnd, long partSize, long fromPart, long toPart, int violationsCapacity) {
+            channel = fileChannel;
+            position = regionPosition;
+            end = regionEnd;
+            part = partSize;
+            from = fromPart;
+            to = toPart;
+            capacity = violationsCapacity;
+        }
+
+        /**
+         * @see java.util.concurrent.RecursiveTask#compute()
+         */
+        @Override
+        protected Violations compute() {
+            if (to - from == 1) {
+                final long at = position + from * part;
+                final Violations result = new Violations(capacity);
+
+                try {
+                    validateRegion(channel, at, Math.min(part, end - at), result);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                return result;
+            }
+
+            final long middle = (from + to) >>> 1;
+            final Parts suffix = new Parts(channel, position, end, part, middle, to, capacity);
+            suffix.fork();
+            final Parts prefix = new Parts(channel, position, end, part, from, middle, capacity);
+            return prefix.compute().addAll(suffix.join());
+        }
+    }
+}
@@ -0,0 +1,669 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A reusable rule for checking an object.
+ *
+ * <p>
+ * A rule bundles the condition, the template of the message and the factory
+ * of the exception, so that the same check repeated at many places does not
+ * need to repeat the lambdas for the condition and the exception. A rule is
+ * immutable and it is supposed to be created once and stored in a constant:
+ *
+ * <pre>
+ * private static final Rule&lt;String, IllegalArgumentException&gt; NOT_EMPTY = Rule.argument(s -&gt; !s.isEmpty(), "Requiring a non-empty string (given: '%s').");
+ *
+ * // Somewhere later
+ * NOT_EMPTY.check(name);
+ * </pre>
+ *
+ * <p>
+ * The message template receives the checked value as its only argument and
+ * it is formatted only when the check fails.
+ *
+ * <p>
+ * The rules created by the factory methods delegate to the given condition.
+ * When a rule needs the best performance possible, it can rather inherit from
+ * this class and implement {@link #test(Object)} directly. Because each such
+ * rule then has its own class, the compiler can resolve the condition call
+ * for a rule stored in a constant and inline it, which it might not do for
+ * a condition shared by many rules.
+ *
+ * @param <T>
+ *            the type of the values to check
+ * @param <X>
+ *            the type of the exception to throw
+ */
+public abstract class Rule<T, X extends Throwable> implements Predicate<T> {
+
+    /** Template of the message for the exception. */
+    private final String template;
+    /** Factory of the exception for a failing value. */
+    private final Function<? super T, ? extends X> failure;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception to throw, which gets the
+     *            formatted message. It must not be {@code null}.
+     */
+    protected Rule(String messageTemplate, Function<? super String, ? extends X> exceptionFactory) {
+        Objects.requireNonNull(exceptionFactory);
+        template = Objects.requireNonNull(messageTemplate);
+        failure = value -> exceptionFactory.apply(String.format(messageTemplate, value));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param exceptionFactory
+     *            the factory of the exception for a failing value. It must
+     *            not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message. It must not be {@code null}.
+     */
+    Rule(Function<? super T, ? extends X> exceptionFactory, String messageTemplate) {
+        template = Objects.requireNonNull(messageTemplate);
+        failure = Objects.requireNonNull(exceptionFactory);
+    }
+
+    /**
+     * Creates a new instance for a composite rule, which must override
+     * {@link #failure(Object)}.
+     *
+     * @param description
+     *            the description of the rule. It must not be {@code null}.
+     */
+    Rule(String description) {
+        template = Objects.requireNonNull(description);
+        failure = null;
+    }
+
+    /**
+     * Creates a new rule.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param <X>
+     *            the type of the exception to throw
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception to throw, which gets the
+     *            formatted message. It must not be {@code null}.
+     *
+     * @return the new rule
+     */
+    public static <T, X extends Throwable> Rule<T, X> of(Predicate<? super T> condition, String messageTemplate, Function<? super String, ? extends X> exceptionFactory) {
+        Objects.requireNonNull(exceptionFactory);
+        return new Conditional<>(condition, messageTemplate, value -> exceptionFactory.apply(String.format(messageTemplate, value)));
+    }
+
+    /**
+     * Creates a new rule for checking arguments, which throws
+     * {@link IllegalArgumentException} like {@link Argument} does.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     *
+     * @return the new rule
+     */
+    public static <T> Rule<T, IllegalArgumentException> argument(Predicate<? super T> condition, String messageTemplate) {
+        return new Conditional<>(condition, messageTemplate, value -> Failures.illegalArgument(DeferredMessage.of(messageTemplate, (Object) value)));
+    }
+
+    /**
+     * Creates a new rule for checking indices, which throws
+     * {@link IndexOutOfBoundsException} like {@link IndexBounds} does.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     *
+     * @return the new rule
+     */
+    public static <T> Rule<T, IndexOutOfBoundsException> index(Predicate<? super T> condition, String messageTemplate) {
+        return new Conditional<>(condition, messageTemplate, value -> Failures.indexOutOfBounds(DeferredMessage.of(messageTemplate, (Object) value)));
+    }
+
+    /**
+     * Creates a new rule for checking state, which throws
+     * {@link IllegalStateException} like {@link StateCondition} does.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     *
+     * @return the new rule
+     */
+    public static <T> Rule<T, IllegalStateException> state(Predicate<? super T> condition, String messageTemplate) {
+        return new Conditional<>(condition, messageTemplate, value -> Failures.illegalState(DeferredMessage.of(messageTemplate, (Object) value)));
+    }
+
+    /**
+     * Creates a rule that is satisfied when all given rules are satisfied.
+     *
+     * <p>
+     * The rules are evaluated in the given order and the evaluation stops at
+     * the first violated rule, whose exception is thrown then. Nested
+     * compositions of this kind are flattened, so that the resulting rule
+     * evaluates all rules in a single loop regardless of how it was built.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param <X>
+     *            the type of the exception to throw
+     * @param rules
+     *            the rules to compose. It must not be {@code null} and it
+     *            must not contain {@code null} elements.
+     *
+     * @return the composed rule
+     */
+    @SafeVarargs
+    public static <T, X extends Throwable> Rule<T, X> allOf(Rule<? super T, ? extends X>... rules) {
+        final List<Rule<? super T, ? extends X>> elements = new ArrayList<>(rules.length);
+        for (Rule<? super T, ? extends X> rule : rules) {
+            flatten(AllOf.class, rule, elements);
+        }
+
+        return new AllOf<>(toArray(elements));
+    }
+
+    /**
+     * Creates a rule that is satisfied when any of the given rules is
+     * satisfied.
+     *
+     * <p>
+     * The rules are evaluated in the given order and the evaluation stops at
+     * the first satisfied rule. When no rule is satisfied, the exception of
+     * the first rule is thrown. Nested compositions of this kind are
+     * flattened, so that the resulting rule evaluates all rules in a single
+     * loop regardless of how it was built.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param <X>
+     *            the type of the exception to throw
+     * @param rules
+     *            the rules to compose. It must not be {@code null}, it must
+     *            not be empty and it must not contain {@code null} elements.
+     *
+     * @return the composed rule
+     */
+    @SafeVarargs
+    public static <T, X extends Throwable> Rule<T, X> anyOf(Rule<? super T, ? extends X>... rules) {
+        final List<Rule<? super T, ? extends X>> elements = new ArrayList<>(rules.length);
+        for (Rule<? super T, ? extends X> rule : rules) {
+            flatten(AnyOf.class, rule, elements);
+        }
+
+        Argument.check(elements, !elements.isEmpty(), "Requiring at least one rule.");
+        return new AnyOf<>(toArray(elements));
+    }
+
+    /**
+     * Creates a rule that is satisfied when the given rule is not satisfied.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param <X>
+     *            the type of the exception to throw
+     * @param rule
+     *            the rule to negate. It must not be {@code null}.
+     * @param messageTemplate
+     *            the template of the message for the exception thrown when
+     *            the check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param exceptionFactory
+     *            the factory of the exception to throw, which gets the
+     *            formatted message. It must not be {@code null}.
+     *
+     * @return the new rule
+     */
+    public static <T, X extends Throwable> Rule<T, X> not(Rule<? super T, ?> rule, String messageTemplate, Function<? super String, ? extends X> exceptionFactory) {
+        return of(rule.negate(), messageTemplate, exceptionFactory);
+    }
+
+    /**
+     * Returns the template of the message.
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    /**
+     * Tests whether the given value satisfies this rule.
+     *
+     * @param value
+     *            the value to test
+     *
+     * @return {@code true} if the value satisfies this rule
+     */
+    public abstract boolean test(T value);
+
+    /**
+     * Checks a value whether it satisfies this rule.
+     *
+     * @param value
+     *            the value to check and return
+     *
+     * @return the value
+     *
+     * @throws X
+     *             if the value does not satisfy this rule
+     */
+    public final T check(T value) throws X {
+        final int index = indexOfViolation(value);
+        if (index < 0) {
+            return value;
+        }
+
+        throw failure(value, index);
+    }
+
+    /**
+     * Creates a rule that is satisfied when both this rule and the given rule
+     * are satisfied; see {@link #allOf(Rule...)} for details.
+     *
+     * @param other
+     *            the other rule. It must not be {@code null}.
+     *
+     * @return the composed rule
+     */
+    public final Rule<T, X> and(Rule<? super T, ? extends X> other) {
+        return allOf(this, other);
+    }
+
+    /**
+     * Creates a rule that is satisfied when this rule or the given rule is
+     * satisfied; see {@link #anyOf(Rule...)} for details.
+     *
+     * @param other
+     *            the other rule. It must not be {@code null}.
+     *
+     * @return the composed rule
+     */
+    public final Rule<T, X> or(Rule<? super T, ? extends X> other) {
+        return anyOf(this, other);
+    }
+
+    /**
+     * Returns the index of the rule that the given value violates.
+     *
+     * <p>
+     * For a rule composed with {@link #allOf(Rule...)}, the result is the
+     * index of the first violated rule in the flattened composition. For any
+     * other rule, the result is zero if the value violates the rule. This
+     * method does not allocate anything.
+     *
+     * @param value
+     *            the value to test
+     *
+     * @return the index of the violated rule, or -1 if the value satisfies
+     *         this rule
+     */
+    public int indexOfViolation(T value) {
+        return test(value) ? -1 : 0;
+    }
+
+    /**
+     * Creates the exception for a value violating this rule.
+     *
+     * <p>
+     * This method does not check the value, it just creates the exception that
+     * {@link #check(Object)} would throw for the value, e.g., when the value
+     * has been tested already. A composed rule evaluates its rules again to
+     * find the violated one.
+     *
+     * @param value
+     *            the value violating this rule
+     *
+     * @return the exception to throw
+     *
+     * @throws IllegalStateException
+     *             if a composed rule finds no violated rule, which happens
+     *             when its conditions are not consistent
+     */
+    public X failure(T value) {
+        return failure.apply(value);
+    }
+
+    /**
+     * Creates the exception for a failing value, which violates the rule with
+     * the given index.
+     *
+     * @param value
+     *            the failing value
+     * @param index
+     *            the index of the violated rule as returned by
+     *            {@link #indexOfViolation(Object)}
+     *
+     * @return the exception to throw
+     */
+    X failure(T value, int index) {
+        return failure(value);
+    }
+
+    /**
+     * A rule delegating to a condition.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param <X>
+     *            the type of the exception to throw
+     */
+    private static final class Conditional<T, X extends Throwable> extends Rule<T, X> {
+
+        /** Condition to check. */
+        private final Predicate<? super T> condition;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param predicate
+         *            the condition to check. It must not be {@code null}.
+         * @param messageTemplate
+         *            the template of the message. It must not be
+         *            {@code null}.
+         * @param exceptionFactory
+         *            the factory of the exception for a failing value. It
+         *            must not be {@code null}.
+         */
+        public Conditional(Predicate<? super T> predicate, String messageTemplate, Function<? super T, ? extends X> exceptionFactory) {
+            super(exceptionFactory, messageTemplate);
+            condition = Objects.requireNonNull(predicate);
+        }
+
+        /**
+         * @see Rule#test(java.lang.Object)
+         */
+        @Override
+        public boolean test(T value) {
+            return condition.test(value);
+        }
+    }
+
+    /**
+     * Flattens a rule for a composite.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param <X>
+     *            the type of the exception to throw
+     * @param composite
+     *            the type of the composite whose instances shall be
+     *            flattened. It must not be {@code null}.
+     * @param rule
+     *            the rule to flatten. It must not be {@code null}.
+     * @param result
+     *            the list to add the flattened rules to. It must not be
+     *            {@code null}.
+     */
+    private static <T, X extends Throwable> void flatten(Class<?> composite, Rule<? super T, ? extends X> rule, List<Rule<? super T, ? extends X>> result) {
+        if (composite.isInstance(rule)) {
+            for (Rule<? super T, ? extends X> element : ((Composite<? super T, ? extends X>) rule).rules) {
+                result.add(element);
+            }
+        } else {
+            result.add(Objects.requireNonNull(rule));
+        }
+    }
+
+    /**
+     * Converts the rules to an array for a composite.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param <X>
+     *            the type of the exception to throw
+     * @param rules
+     *            the rules to convert. It must not be {@code null}.
+     *
+     * @return the array of the rules
+     */
+    private static <T, X extends Throwable> Rule<? super T, ? extends X>[] toArray(List<Rule<? super T, ? extends X>> rules) {
+        @SuppressWarnings("unchecked") // Safe as the array gets the rules only
+        final Rule<? super T, ? extends X>[] result = (Rule<? super T, ? extends X>[]) new Rule<?, ?>[rules.size()];
+        return rules.toArray(result);
+    }
+
+    /**
+     * A rule composed of other rules.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param <X>
+     *            the type of the exception to throw
+     */
+    private abstract static class Composite<T, X extends Throwable> extends Rule<T, X> {
+
+        /** Composed rules. */
+        final Rule<? super T, ? extends X>[] rules;
+        /** Conditions of the composed rules, evaluated instead of the rules. */
+        final Predicate<? super T>[] conditions;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param elements
+         *            the composed rules. It must not be {@code null}.
+         * @param operator
+         *            the name of the operator for the description. It must
+         *            not be {@code null}.
+         */
+        protected Composite(Rule<? super T, ? extends X>[] elements, String operator) {
+            super(describe(elements, operator));
+            conditions = conditions(elements);
+            rules = elements;
+        }
+
+        /**
+         * Unwraps the conditions of the rules, so that testing a rule needs
+         * no additional call to the rule itself.
+         *
+         * @param elements
+         *            the rules to unwrap. It must not be {@code null}.
+         *
+         * @return the conditions
+         */
+        private static <T> Predicate<? super T>[] conditions(Rule<? super T, ?>[] elements) {
+            @SuppressWarnings("unchecked") // Safe as the array gets the conditions only
+            final Predicate<? super T>[] result = (Predicate<? super T>[]) new Predicate<?>[elements.length];
+            for (int i = 0; i < elements.length; i++) {
+                final Rule<? super T, ?> element = elements[i];
+                result[i] = (element instanceof Conditional) ? ((Conditional<? super T, ?>) element).condition : element;
+            }
+
+            return result;
+        }
+
+        /**
+         * Describes the composition.
+         *
+         * @param elements
+         *            the composed rules. It must not be {@code null}.
+         * @param operator
+         *            the name of the operator. It must not be {@code null}.
+         *
+         * @return the description
+         */
+        private static String describe(Object[] elements, String operator) {
+            final StringBuilder result = new StringBuilder(operator).append('[');
+            for (int i = 0; i < elements.length; i++) {
+                if (0 < i) {
+                    result.append(", ");
+                }
+
+                result.append(elements[i]);
+            }
+
+            return result.append(']').toString();
+        }
+    }
+
+    /**
+     * A rule satisfied when all its rules are satisfied.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param <X>
+     *            the type of the exception to throw
+     */
+    private static final class AllOf<T, X extends Throwable> extends Composite<T, X> {
+
+        /**
+         * Creates a new instance.
+         *
+         * @param elements
+         *            the composed rules. It must not be {@code null}.
+         */
+        public AllOf(Rule<? super T, ? extends X>[] elements) {
+            super(elements, "allOf");
+        }
+
+        /**
+         * @see Rule#test(java.lang.Object)
+         */
+        @Override
+        public boolean test(T value) {
+            for (Predicate<? super T> condition : conditions) {
+                if (!condition.test(value)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * @see Rule#indexOfViolation(java.lang.Object)
+         */
+        @Override
+        public int indexOfViolation(T value) {
+            final Predicate<? super T>[] elements = conditions;
+            for (int i = 0; i < elements.length; i++) {
+                if (!elements[i].test(value)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * @see Rule#failure(java.lang.Object)
+         */
+        @Override
+        public X failure(T value) {
+            // Evaluated again only when nested in another composite or when
+            // invoked directly, when the value might pass now
+            final int index = indexOfViolation(value);
+            if (index < 0) {
+                throw Failures.inconsistentRule(this, value);
+            }
+
+            return failure(value, index);
+        }
+
+        /**
+         * @see Rule#failure(java.lang.Object, int)
+         */
+        @Override
+        X failure(T value, int index) {
+            return rules[index].failure(value);
+        }
+    }
+
+    /**
+     * A rule satisfied when any of its rules is satisfied.
+     *
+     * @param <T>
+     *            the type of the values to check
+     * @param <X>
+     *            the type of the exception to throw
+     */
+    private static final class AnyOf<T, X extends Throwable> extends Composite<T, X> {
+
+        /**
+         * Creates a new instance.
+         *
+         * @param elements
+         *            the composed rules. It must not be {@code null} or
+         *            empty.
+         */
+        public AnyOf(Rule<? super T, ? extends X>[] elements) {
+            super(elements, "anyOf");
+        }
+
+        /**
+         * @see Rule#test(java.lang.Object)
+         */
+        @Override
+        public boolean test(T value) {
+            for (Predicate<? super T> condition : conditions) {
+                if (condition.test(value)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * @see Rule#failure(java.lang.Object)
+         */
+        @Override
+        public X failure(T value) {
+            return rules[0].failure(value);
+        }
+    }
+}
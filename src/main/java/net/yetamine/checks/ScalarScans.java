@@ -0,0 +1,283 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * Implements the scans of arrays for {@link ArrayScans} in plain Java.
+ *
+ * <p>
+ * The range scans of integral values process an array in blocks. The loop
+ * over a block has no branches and no early exit, it rather accumulates the
+ * sign bits of the distances from the bounds, which is a form that the
+ * just-in-time compiler vectorizes. Only a block with a violation is scanned
+ * again to find the exact index.
+ *
+ * <p>
+ * The scans of {@code double} values use plain loops with an early exit,
+ * because the compiler does not vectorize their block form either, while
+ * the plain loops perform better in such a case.
+ */
+final class ScalarScans {
+
+    /** Number of elements in a block. */
+    private static final int BLOCK = 256;
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private ScalarScans() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOfViolation(int[], IntPredicate)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfViolation(int[] values, IntPredicate condition) {
+        for (int i = 0; i < values.length; i++) {
+            if (!condition.test(values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOfViolation(long[], LongPredicate)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfViolation(long[] values, LongPredicate condition) {
+        for (int i = 0; i < values.length; i++) {
+            if (!condition.test(values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements
+     * {@link ArrayScans#indexOfViolation(double[], DoublePredicate)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfViolation(double[] values, DoublePredicate condition) {
+        for (int i = 0; i < values.length; i++) {
+            if (!condition.test(values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOutOfRange(int[], int, int)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOutOfRange(int[] values, int min, int max) {
+        if (max < min) {
+            return (values.length == 0) ? -1 : 0;
+        }
+
+        final int span = max - min; // Exact when taken as unsigned, since min <= max
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(from + BLOCK, values.length);
+
+            boolean outside = false;
+            for (int i = from; i < to; i++) {
+                // In the range exactly if the unsigned offset from min fits in the span
+                outside |= (Integer.compareUnsigned(values[i] - min, span) > 0);
+            }
+
+            if (outside) {
+                for (int i = from; i < to; i++) {
+                    if ((values[i] < min) || (max < values[i])) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOutOfRange(long[], long, long)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOutOfRange(long[] values, long min, long max) {
+        if (max < min) {
+            return (values.length == 0) ? -1 : 0;
+        }
+
+        final long span = max - min; // Exact when taken as unsigned, since min <= max
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(from + BLOCK, values.length);
+
+            boolean outside = false;
+            for (int i = from; i < to; i++) {
+                // In the range exactly if the unsigned offset from min fits in the span
+                outside |= (Long.compareUnsigned(values[i] - min, span) > 0);
+            }
+
+            if (outside) {
+                for (int i = from; i < to; i++) {
+                    if ((values[i] < min) || (max < values[i])) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements
+     * {@link ArrayScans#indexOutOfRange(double[], double, double)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOutOfRange(double[] values, double min, double max) {
+        for (int i = 0; i < values.length; i++) {
+            if (!((min <= values[i]) && (values[i] <= max))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOfNonFinite(double[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfNonFinite(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isFinite(values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOfUnsorted(int[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfUnsorted(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if ((values[i] < values[i - 1])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOfUnsorted(long[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfUnsorted(long[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if ((values[i] < values[i - 1])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOfUnsorted(double[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfUnsorted(double[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (!(values[i - 1] <= values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -16,6 +16,7 @@
 
 package net.yetamine.checks;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -44,7 +45,7 @@ public final class StateCondition {
             return;
         }
 
-        throw new IllegalStateException();
+        throw Failures.illegalState();
     }
 
     /**
@@ -63,7 +64,7 @@ public final class StateCondition {
             return;
         }
 
-        throw new IllegalStateException(message);
+        throw Failures.illegalState(message);
     }
 
     /**
@@ -84,6 +85,405 @@ public final class StateCondition {
             return;
         }
 
-        throw new IllegalStateException(messageSupplier.get());
+        throw failure(messageSupplier);
+    }
+
+    // Checking methods with message templates
+
+    /**
+     * Checks whether a state condition is satisfied.
+     *
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @throws LazyIllegalStateException
+     *             if the condition is not satisfied
+     */
+    public static void check(boolean condition, String template, int arg) {
+        if (condition) {
+            return;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks whether a state condition is satisfied.
+     *
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @throws LazyIllegalStateException
+     *             if the condition is not satisfied
+     */
+    public static void check(boolean condition, String template, long arg) {
+        if (condition) {
+            return;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks whether a state condition is satisfied.
+     *
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @throws LazyIllegalStateException
+     *             if the condition is not satisfied
+     */
+    public static void check(boolean condition, String template, double arg) {
+        if (condition) {
+            return;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks whether a state condition is satisfied.
+     *
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @throws LazyIllegalStateException
+     *             if the condition is not satisfied
+     */
+    public static void check(boolean condition, String template, Object arg) {
+        if (condition) {
+            return;
+        }
+
+        throw failure(template, arg);
+    }
+
+    /**
+     * Checks whether a state condition is satisfied.
+     *
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @throws LazyIllegalStateException
+     *             if the condition is not satisfied
+     */
+    public static void check(boolean condition, String template, int arg1, int arg2) {
+        if (condition) {
+            return;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks whether a state condition is satisfied.
+     *
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @throws LazyIllegalStateException
+     *             if the condition is not satisfied
+     */
+    public static void check(boolean condition, String template, long arg1, long arg2) {
+        if (condition) {
+            return;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks whether a state condition is satisfied.
+     *
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @throws LazyIllegalStateException
+     *             if the condition is not satisfied
+     */
+    public static void check(boolean condition, String template, double arg1, double arg2) {
+        if (condition) {
+            return;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    /**
+     * Checks whether a state condition is satisfied.
+     *
+     * @param condition
+     *            the condition to check
+     * @param template
+     *            the template of the message for the exception thrown when the
+     *            check fails, using {@link String#format(String, Object...)}
+     *            syntax. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @throws LazyIllegalStateException
+     *             if the condition is not satisfied
+     */
+    public static void check(boolean condition, String template, Object arg1, Object arg2) {
+        if (condition) {
+            return;
+        }
+
+        throw failure(template, arg1, arg2);
+    }
+
+    // Tiered checking methods
+
+    /**
+     * Checks whether a state condition is satisfied if
+     * {@link CheckLevel#NORMAL} checks are enabled.
+     *
+     * <p>
+     * When the checks are disabled, the condition is not evaluated at all.
+     *
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param message
+     *            the message of the exception thrown when the check fails
+     *
+     * @throws IllegalStateException
+     *             if the check is enabled and the condition is not satisfied
+     */
+    public static void checkNormal(BooleanSupplier condition, String message) {
+        if (!CheckLevel.NORMAL_ENABLED || condition.getAsBoolean()) {
+            return;
+        }
+
+        throw Failures.illegalState(message);
+    }
+
+    /**
+     * Checks whether a state condition is satisfied if
+     * {@link CheckLevel#EXPENSIVE} checks are enabled.
+     *
+     * <p>
+     * When the checks are disabled, the condition is not evaluated at all.
+     *
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param message
+     *            the message of the exception thrown when the check fails
+     *
+     * @throws IllegalStateException
+     *             if the check is enabled and the condition is not satisfied
+     */
+    public static void checkExpensive(BooleanSupplier condition, String message) {
+        if (!CheckLevel.EXPENSIVE_ENABLED || condition.getAsBoolean()) {
+            return;
+        }
+
+        throw Failures.illegalState(message);
+    }
+
+    /**
+     * Checks whether a state condition is satisfied if
+     * {@link CheckLevel#DIAGNOSTIC} checks are enabled.
+     *
+     * <p>
+     * When the checks are disabled, the condition is not evaluated at all.
+     *
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     * @param message
+     *            the message of the exception thrown when the check fails
+     *
+     * @throws IllegalStateException
+     *             if the check is enabled and the condition is not satisfied
+     */
+    public static void checkDiagnostic(BooleanSupplier condition, String message) {
+        if (!DiagnosticSwitch.isEnabled() || condition.getAsBoolean()) {
+            return;
+        }
+
+        throw Failures.illegalState(message);
+    }
+
+    // Cold paths for failing checks
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param messageSupplier
+     *            the supplier of the message. It must not be {@code null}.
+     *
+     * @return the exception to throw
+     */
+    private static IllegalStateException failure(Supplier<String> messageSupplier) {
+        return Failures.illegalState(messageSupplier.get());
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalStateException failure(String template, int arg) {
+        return Failures.illegalState(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalStateException failure(String template, long arg) {
+        return Failures.illegalState(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalStateException failure(String template, double arg) {
+        return Failures.illegalState(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg
+     *            the argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalStateException failure(String template, Object arg) {
+        return Failures.illegalState(DeferredMessage.of(template, arg));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalStateException failure(String template, int arg1, int arg2) {
+        return Failures.illegalState(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalStateException failure(String template, long arg1, long arg2) {
+        return Failures.illegalState(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalStateException failure(String template, double arg1, double arg2) {
+        return Failures.illegalState(DeferredMessage.of(template, arg1, arg2));
+    }
+
+    /**
+     * Creates the exception for a failing check.
+     *
+     * @param template
+     *            the template of the message. It must not be {@code null}.
+     * @param arg1
+     *            the first argument for the message template
+     * @param arg2
+     *            the second argument for the message template
+     *
+     * @return the exception to throw
+     */
+    private static IllegalStateException failure(String template, Object arg1, Object arg2) {
+        return Failures.illegalState(DeferredMessage.of(template, arg1, arg2));
     }
 }
@@ -0,0 +1,797 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A utility class for checking elements of streams lazily, when they are
+ * consumed.
+ *
+ * <p>
+ * The checks wrap spliterators: each element is checked like with
+ * {@link Constraint} or with a rule when the wrapping spliterator passes it
+ * further, so that the elements need not be materialized and checked in a
+ * separate pass. The wrapping spliterators split and report their size and
+ * characteristics exactly as their sources, therefore parallel streams keep
+ * working as before:
+ *
+ * <pre>
+ * StreamConstraint.checkInt(values, POSITIVE).map(...).sum();
+ * </pre>
+ *
+ * <p>
+ * Note that only the elements which a stream actually traverses are checked.
+ * For instance, {@code count()} of a sized stream may return the size without
+ * traversing (and checking) any element.
+ */
+public final class StreamConstraint {
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private StreamConstraint() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Wraps a spliterator, so that it checks each element when traversing it.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param source
+     *            the spliterator to wrap. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when an
+     *            element does not satisfy the condition. It must not be
+     *            {@code null}.
+     *
+     * @return the wrapping spliterator
+     */
+    public static <T> Spliterator<T> check(Spliterator<T> source, Predicate<? super T> condition, Supplier<? extends RuntimeException> exceptionSupplier) {
+        Objects.requireNonNull(condition);
+        Objects.requireNonNull(exceptionSupplier);
+        return new Checking<>(source, value -> Constraint.check(value, condition, exceptionSupplier));
+    }
+
+    /**
+     * Wraps a spliterator, so that it checks each element with a rule when
+     * traversing it.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param source
+     *            the spliterator to wrap. It must not be {@code null}.
+     * @param rule
+     *            the rule to check. It must not be {@code null}.
+     *
+     * @return the wrapping spliterator
+     */
+    public static <T> Spliterator<T> check(Spliterator<T> source, Rule<? super T, ? extends RuntimeException> rule) {
+        return new Checking<>(source, rule::check);
+    }
+
+    /**
+     * Returns a stream that checks each element when it is consumed.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param stream
+     *            the stream to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when an
+     *            element does not satisfy the condition. It must not be
+     *            {@code null}.
+     *
+     * @return the checking stream
+     */
+    public static <T> Stream<T> check(Stream<T> stream, Predicate<? super T> condition, Supplier<? extends RuntimeException> exceptionSupplier) {
+        return StreamSupport.stream(check(stream.spliterator(), condition, exceptionSupplier), stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns a stream that checks each element with a rule when it is
+     * consumed.
+     *
+     * @param <T>
+     *            the type of the elements
+     * @param stream
+     *            the stream to check. It must not be {@code null}.
+     * @param rule
+     *            the rule to check. It must not be {@code null}.
+     *
+     * @return the checking stream
+     */
+    public static <T> Stream<T> check(Stream<T> stream, Rule<? super T, ? extends RuntimeException> rule) {
+        return StreamSupport.stream(check(stream.spliterator(), rule), stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Wraps a spliterator, so that it checks each element when traversing it.
+     *
+     * @param source
+     *            the spliterator to wrap. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when an
+     *            element does not satisfy the condition. It must not be
+     *            {@code null}.
+     *
+     * @return the wrapping spliterator
+     */
+    public static Spliterator.OfInt checkInt(Spliterator.OfInt source, IntPredicate condition, Supplier<? extends RuntimeException> exceptionSupplier) {
+        Objects.requireNonNull(condition);
+        Objects.requireNonNull(exceptionSupplier);
+        return new CheckingInt(source, value -> Constraint.checkInt(value, condition, exceptionSupplier));
+    }
+
+    /**
+     * Wraps a spliterator, so that it checks each element with a rule when
+     * traversing it.
+     *
+     * @param source
+     *            the spliterator to wrap. It must not be {@code null}.
+     * @param rule
+     *            the rule to check. It must not be {@code null}.
+     *
+     * @return the wrapping spliterator
+     */
+    public static Spliterator.OfInt checkInt(Spliterator.OfInt source, IntRule<? extends RuntimeException> rule) {
+        return new CheckingInt(source, rule::check);
+    }
+
+    /**
+     * Returns a stream that checks each element when it is consumed.
+     *
+     * @param stream
+     *            the stream to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when an
+     *            element does not satisfy the condition. It must not be
+     *            {@code null}.
+     *
+     * @return the checking stream
+     */
+    public static IntStream checkInt(IntStream stream, IntPredicate condition, Supplier<? extends RuntimeException> exceptionSupplier) {
+        return StreamSupport.intStream(checkInt(stream.spliterator(), condition, exceptionSupplier), stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns a stream that checks each element with a rule when it is
+     * consumed.
+     *
+     * @param stream
+     *            the stream to check. It must not be {@code null}.
+     * @param rule
+     *            the rule to check. It must not be {@code null}.
+     *
+     * @return the checking stream
+     */
+    public static IntStream checkInt(IntStream stream, IntRule<? extends RuntimeException> rule) {
+        return StreamSupport.intStream(checkInt(stream.spliterator(), rule), stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Wraps a spliterator, so that it checks each element when traversing it.
+     *
+     * @param source
+     *            the spliterator to wrap. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when an
+     *            element does not satisfy the condition. It must not be
+     *            {@code null}.
+     *
+     * @return the wrapping spliterator
+     */
+    public static Spliterator.OfLong checkLong(Spliterator.OfLong source, LongPredicate condition, Supplier<? extends RuntimeException> exceptionSupplier) {
+        Objects.requireNonNull(condition);
+        Objects.requireNonNull(exceptionSupplier);
+        return new CheckingLong(source, value -> Constraint.checkLong(value, condition, exceptionSupplier));
+    }
+
+    /**
+     * Wraps a spliterator, so that it checks each element with a rule when
+     * traversing it.
+     *
+     * @param source
+     *            the spliterator to wrap. It must not be {@code null}.
+     * @param rule
+     *            the rule to check. It must not be {@code null}.
+     *
+     * @return the wrapping spliterator
+     */
+    public static Spliterator.OfLong checkLong(Spliterator.OfLong source, LongRule<? extends RuntimeException> rule) {
+        return new CheckingLong(source, rule::check);
+    }
+
+    /**
+     * Returns a stream that checks each element when it is consumed.
+     *
+     * @param stream
+     *            the stream to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when an
+     *            element does not satisfy the condition. It must not be
+     *            {@code null}.
+     *
+     * @return the checking stream
+     */
+    public static LongStream checkLong(LongStream stream, LongPredicate condition, Supplier<? extends RuntimeException> exceptionSupplier) {
+        return StreamSupport.longStream(checkLong(stream.spliterator(), condition, exceptionSupplier), stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns a stream that checks each element with a rule when it is
+     * consumed.
+     *
+     * @param stream
+     *            the stream to check. It must not be {@code null}.
+     * @param rule
+     *            the rule to check. It must not be {@code null}.
+     *
+     * @return the checking stream
+     */
+    public static LongStream checkLong(LongStream stream, LongRule<? extends RuntimeException> rule) {
+        return StreamSupport.longStream(checkLong(stream.spliterator(), rule), stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Wraps a spliterator, so that it checks each element when traversing it.
+     *
+     * @param source
+     *            the spliterator to wrap. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when an
+     *            element does not satisfy the condition. It must not be
+     *            {@code null}.
+     *
+     * @return the wrapping spliterator
+     */
+    public static Spliterator.OfDouble checkDouble(Spliterator.OfDouble source, DoublePredicate condition, Supplier<? extends RuntimeException> exceptionSupplier) {
+        Objects.requireNonNull(condition);
+        Objects.requireNonNull(exceptionSupplier);
+        return new CheckingDouble(source, value -> Constraint.checkDouble(value, condition, exceptionSupplier));
+    }
+
+    /**
+     * Wraps a spliterator, so that it checks each element with a rule when
+     * traversing it.
+     *
+     * @param source
+     *            the spliterator to wrap. It must not be {@code null}.
+     * @param rule
+     *            the rule to check. It must not be {@code null}.
+     *
+     * @return the wrapping spliterator
+     */
+    public static Spliterator.OfDouble checkDouble(Spliterator.OfDouble source, DoubleRule<? extends RuntimeException> rule) {
+        return new CheckingDouble(source, rule::check);
+    }
+
+    /**
+     * Returns a stream that checks each element when it is consumed.
+     *
+     * @param stream
+     *            the stream to check. It must not be {@code null}.
+     * @param condition
+     *            the condition predicate. It must not be {@code null}.
+     * @param exceptionSupplier
+     *            the supplier of the exception which is thrown when an
+     *            element does not satisfy the condition. It must not be
+     *            {@code null}.
+     *
+     * @return the checking stream
+     */
+    public static DoubleStream checkDouble(DoubleStream stream, DoublePredicate condition, Supplier<? extends RuntimeException> exceptionSupplier) {
+        return StreamSupport.doubleStream(checkDouble(stream.spliterator(), condition, exceptionSupplier), stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns a stream that checks each element with a rule when it is
+     * consumed.
+     *
+     * @param stream
+     *            the stream to check. It must not be {@code null}.
+     * @param rule
+     *            the rule to check. It must not be {@code null}.
+     *
+     * @return the checking stream
+     */
+    public static DoubleStream checkDouble(DoubleStream stream, DoubleRule<? extends RuntimeException> rule) {
+        return StreamSupport.doubleStream(checkDouble(stream.spliterator(), rule), stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * A spliterator checking the elements of another spliterator.
+     *
+     * @param <T>
+     *            the type of the elements
+     */
+    private static final class Checking<T> implements Spliterator<T> {
+
+        /** Source of the elements. */
+        private final Spliterator<T> source;
+        /** Check of each element. */
+        private final Consumer<? super T> check;
+        /** Consumer checking the elements for the current action. */
+        private final Relay relay = new Relay();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param spliterator
+         *            the source of the elements. It must not be
+         *            {@code null}.
+         * @param consumer
+         *            the check of each element. It must not be
+         *            {@code null}.
+         */
+        public Checking(Spliterator<T> spliterator, Consumer<? super T> consumer) {
+            source = Objects.requireNonNull(spliterator);
+            check = Objects.requireNonNull(consumer);
+        }
+
+        /**
+         * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            relay.action = Objects.requireNonNull(action);
+            return source.tryAdvance(relay);
+        }
+
+        /**
+         * @see java.util.Spliterator#forEachRemaining(java.util.function.Consumer)
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            relay.action = Objects.requireNonNull(action);
+            source.forEachRemaining(relay);
+        }
+
+        /**
+         * @see java.util.Spliterator#trySplit()
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            final Spliterator<T> split = source.trySplit();
+            return (split != null) ? new Checking<>(split, check) : null;
+        }
+
+        /**
+         * @see java.util.Spliterator#getComparator()
+         */
+        @Override
+        public Comparator<? super T> getComparator() {
+            return source.getComparator();
+        }
+
+        /**
+         * @see java.util.Spliterator#estimateSize()
+         */
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        /**
+         * @see java.util.Spliterator#getExactSizeIfKnown()
+         */
+        @Override
+        public long getExactSizeIfKnown() {
+            return source.getExactSizeIfKnown();
+        }
+
+        /**
+         * @see java.util.Spliterator#characteristics()
+         */
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        /**
+         * Consumer checking each element before passing it to the action.
+         */
+        private final class Relay implements Consumer<T> {
+
+            /** Action to pass the checked elements to. */
+            Consumer<? super T> action;
+
+            /**
+             * Creates a new instance.
+             */
+            Relay() {
+                // Default constructor
+            }
+
+            /**
+             * @see java.util.function.Consumer#accept(java.lang.Object)
+             */
+            @Override
+            public void accept(T t) {
+                check.accept(t);
+                action.accept(t);
+            }
+        }
+    }
+
+    /**
+     * A spliterator checking the elements of another spliterator.
+     */
+    private static final class CheckingInt implements Spliterator.OfInt {
+
+        /** Source of the elements. */
+        private final Spliterator.OfInt source;
+        /** Check of each element. */
+        private final IntConsumer check;
+        /** Consumer checking the elements for the current action. */
+        private final Relay relay = new Relay();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param spliterator
+         *            the source of the elements. It must not be
+         *            {@code null}.
+         * @param consumer
+         *            the check of each element. It must not be
+         *            {@code null}.
+         */
+        public CheckingInt(Spliterator.OfInt spliterator, IntConsumer consumer) {
+            source = Objects.requireNonNull(spliterator);
+            check = Objects.requireNonNull(consumer);
+        }
+
+        /**
+         * @see java.util.Spliterator.OfPrimitive#tryAdvance(java.lang.Object)
+         */
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            relay.action = Objects.requireNonNull(action);
+            return source.tryAdvance(relay);
+        }
+
+        /**
+         * @see java.util.Spliterator.OfPrimitive#forEachRemaining(java.lang.Object)
+         */
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            relay.action = Objects.requireNonNull(action);
+            source.forEachRemaining(relay);
+        }
+
+        /**
+         * @see java.util.Spliterator#trySplit()
+         */
+        @Override
+        public Spliterator.OfInt trySplit() {
+            final Spliterator.OfInt split = source.trySplit();
+            return (split != null) ? new CheckingInt(split, check) : null;
+        }
+
+        /**
+         * @see java.util.Spliterator#getComparator()
+         */
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return source.getComparator();
+        }
+
+        /**
+         * @see java.util.Spliterator#estimateSize()
+         */
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        /**
+         * @see java.util.Spliterator#getExactSizeIfKnown()
+         */
+        @Override
+        public long getExactSizeIfKnown() {
+            return source.getExactSizeIfKnown();
+        }
+
+        /**
+         * @see java.util.Spliterator#characteristics()
+         */
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        /**
+         * Consumer checking each element before passing it to the action.
+         */
+        private final class Relay implements IntConsumer {
+
+            /** Action to pass the checked elements to. */
+            IntConsumer action;
+
+            /**
+             * Creates a new instance.
+             */
+            Relay() {
+                // Default constructor
+            }
+
+            /**
+             * @see java.util.function.IntConsumer#accept(int)
+             */
+            @Override
+            public void accept(int value) {
+                check.accept(value);
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * A spliterator checking the elements of another spliterator.
+     */
+    private static final class CheckingLong implements Spliterator.OfLong {
+
+        /** Source of the elements. */
+        private final Spliterator.OfLong source;
+        /** Check of each element. */
+        private final LongConsumer check;
+        /** Consumer checking the elements for the current action. */
+        private final Relay relay = new Relay();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param spliterator
+         *            the source of the elements. It must not be
+         *            {@code null}.
+         * @param consumer
+         *            the check of each element. It must not be
+         *            {@code null}.
+         */
+        public CheckingLong(Spliterator.OfLong spliterator, LongConsumer consumer) {
+            source = Objects.requireNonNull(spliterator);
+            check = Objects.requireNonNull(consumer);
+        }
+
+        /**
+         * @see java.util.Spliterator.OfPrimitive#tryAdvance(java.lang.Object)
+         */
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            relay.action = Objects.requireNonNull(action);
+            return source.tryAdvance(relay);
+        }
+
+        /**
+         * @see java.util.Spliterator.OfPrimitive#forEachRemaining(java.lang.Object)
+         */
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            relay.action = Objects.requireNonNull(action);
+            source.forEachRemaining(relay);
+        }
+
+        /**
+         * @see java.util.Spliterator#trySplit()
+         */
+        @Override
+        public Spliterator.OfLong trySplit() {
+            final Spliterator.OfLong split = source.trySplit();
+            return (split != null) ? new CheckingLong(split, check) : null;
+        }
+
+        /**
+         * @see java.util.Spliterator#getComparator()
+         */
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return source.getComparator();
+        }
+
+        /**
+         * @see java.util.Spliterator#estimateSize()
+         */
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        /**
+         * @see java.util.Spliterator#getExactSizeIfKnown()
+         */
+        @Override
+        public long getExactSizeIfKnown() {
+            return source.getExactSizeIfKnown();
+        }
+
+        /**
+         * @see java.util.Spliterator#characteristics()
+         */
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        /**
+         * Consumer checking each element before passing it to the action.
+         */
+        private final class Relay implements LongConsumer {
+
+            /** Action to pass the checked elements to. */
+            LongConsumer action;
+
+            /**
+             * Creates a new instance.
+             */
+            Relay() {
+                // Default constructor
+            }
+
+            /**
+             * @see java.util.function.LongConsumer#accept(long)
+             */
+            @Override
+            public void accept(long value) {
+                check.accept(value);
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * A spliterator checking the elements of another spliterator.
+     */
+    private static final class CheckingDouble implements Spliterator.OfDouble {
+
+        /** Source of the elements. */
+        private final Spliterator.OfDouble source;
+        /** Check of each element. */
+        private final DoubleConsumer check;
+        /** Consumer checking the elements for the current action. */
+        private final Relay relay = new Relay();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param spliterator
+         *            the source of the elements. It must not be
+         *            {@code null}.
+         * @param consumer
+         *            the check of each element. It must not be
+         *            {@code null}.
+         */
+        public CheckingDouble(Spliterator.OfDouble spliterator, DoubleConsumer consumer) {
+            source = Objects.requireNonNull(spliterator);
+            check = Objects.requireNonNull(consumer);
+        }
+
+        /**
+         * @see java.util.Spliterator.OfPrimitive#tryAdvance(java.lang.Object)
+         */
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            relay.action = Objects.requireNonNull(action);
+            return source.tryAdvance(relay);
+        }
+
+        /**
+         * @see java.util.Spliterator.OfPrimitive#forEachRemaining(java.lang.Object)
+         */
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            relay.action = Objects.requireNonNull(action);
+            source.forEachRemaining(relay);
+        }
+
+        /**
+         * @see java.util.Spliterator#trySplit()
+         */
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            final Spliterator.OfDouble split = source.trySplit();
+            return (split != null) ? new CheckingDouble(split, check) : null;
+        }
+
+        /**
+         * @see java.util.Spliterator#getComparator()
+         */
+        @Override
+        public Comparator<? super Double> getComparator() {
+            return source.getComparator();
+        }
+
+        /**
+         * @see java.util.Spliterator#estimateSize()
+         */
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        /**
+         * @see java.util.Spliterator#getExactSizeIfKnown()
+         */
+        @Override
+        public long getExactSizeIfKnown() {
+            return source.getExactSizeIfKnown();
+        }
+
+        /**
+         * @see java.util.Spliterator#characteristics()
+         */
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        /**
+         * Consumer checking each element before passing it to the action.
+         */
+        private final class Relay implements DoubleConsumer {
+
+            /** Action to pass the checked elements to. */
+            DoubleConsumer action;
+
+            /**
+             * Creates a new instance.
+             */
+            Relay() {
+                // Default constructor
+            }
+
+            /**
+             * @see java.util.function.DoubleConsumer#accept(double)
+             */
+            @Override
+            public void accept(double value) {
+                check.accept(value);
+                action.accept(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.Arrays;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Collects failures of checks instead of throwing exceptions.
+ *
+ * <p>
+ * When validating many items, e.g., rows of an import, throwing on the first
+ * failure is expensive and reveals just the first problem. An instance of
+ * this class offers checking methods similar to the methods of the other
+ * classes of this package, but they record a failure as a pair of primitive
+ * values: a code, which identifies the failing check, and a position, which
+ * identifies the failing item. The failures are recorded in preallocated
+ * buffers, so that neither passing nor failing checks allocate anything, and
+ * the instance can be reused after {@link #clear()}:
+ *
+ * <pre>
+ * final Violations violations = new Violations(100);
+ * for (int row = 0; row &lt; rows.length; row++) {
+ *     violations.check(rows[row].id, Objects::nonNull, ID_MISSING, row);
+ *     violations.checkInt(rows[row].age, age -&gt; (0 &lt;= age), AGE_INVALID, row);
+ * }
+ *
+ * violations.throwIfAny();
+ * </pre>
+ *
+ * <p>
+ * When the buffers are full, further failures are only counted. Instances of
+ * this class are not thread-safe.
+ */
+public final class Violations {
+
+    /** Template for describing the failures. */
+    private static final String TEMPLATE = "Found %d violation(s), the first with code %d at position %d.";
+    /** Template for describing the failures when none could be recorded. */
+    private static final String TEMPLATE_COUNT = "Found %d violation(s).";
+
+    /** Codes of the recorded failures. */
+    private final int[] codes;
+    /** Positions of the recorded failures. */
+    private final long[] positions;
+    /** Number of all failures, including those not recorded. */
+    private long count;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity
+     *            the number of failures to record. It must not be negative.
+     */
+    public Violations(int capacity) {
+        Argument.check(capacity, 0 <= capacity, "Requiring a non-negative capacity (given: %d).", capacity);
+        positions = new long[capacity];
+        codes = new int[capacity];
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder("Violations[count=").append(count);
+        final int size = size();
+        for (int i = 0; i < size; i++) {
+            result.append((i == 0) ? ": " : ", ");
+            result.append(codes[i]).append('@').append(positions[i]);
+        }
+
+        if (size < count) {
+            result.append(", ...");
+        }
+
+        return result.append(']').toString();
+    }
+
+    // Checking methods
+
+    /**
+     * Checks a condition.
+     *
+     * @param condition
+     *            the condition to check
+     * @param code
+     *            the code to record if the condition is {@code false}
+     * @param position
+     *            the position to record if the condition is {@code false}
+     *
+     * @return the condition
+     */
+    public boolean check(boolean condition, int code, long position) {
+        if (condition) {
+            return true;
+        }
+
+        record(code, position);
+        return false;
+    }
+
+    /**
+     * Checks a value with a predicate.
+     *
+     * @param <T>
+     *            the type of the value
+     * @param value
+     *            the value to check
+     * @param predicate
+     *            the predicate to check. It must not be {@code null}.
+     * @param code
+     *            the code to record if the value does not satisfy the
+     *            predicate
+     * @param position
+     *            the position to record if the value does not satisfy the
+     *            predicate
+     *
+     * @return {@code true} if the value satisfies the predicate
+     */
+    public <T> boolean check(T value, Predicate<? super T> predicate, int code, long position) {
+        if (predicate.test(value)) {
+            return true;
+        }
+
+        record(code, position);
+        return false;
+    }
+
+    /**
+     * Checks a value with a predicate.
+     *
+     * @param value
+     *            the value to check
+     * @param predicate
+     *            the predicate to check. It must not be {@code null}.
+     * @param code
+     *            the code to record if the value does not satisfy the
+     *            predicate
+     * @param position
+     *            the position to record if the value does not satisfy the
+     *            predicate
+     *
+     * @return {@code true} if the value satisfies the predicate
+     */
+    public boolean checkInt(int value, IntPredicate predicate, int code, long position) {
+        if (predicate.test(value)) {
+            return true;
+        }
+
+        record(code, position);
+        return false;
+    }
+
+    /**
+     * Checks a value with a predicate.
+     *
+     * @param value
+     *            the value to check
+     * @param predicate
+     *            the predicate to check. It must not be {@code null}.
+     * @param code
+     *            the code to record if the value does not satisfy the
+     *            predicate
+     * @param position
+     *            the position to record if the value does not satisfy the
+     *            predicate
+     *
+     * @return {@code true} if the value satisfies the predicate
+     */
+    public boolean checkLong(long value, LongPredicate predicate, int code, long position) {
+        if (predicate.test(value)) {
+            return true;
+        }
+
+        record(code, position);
+        return false;
+    }
+
+    /**
+     * Checks a value with a predicate.
+     *
+     * @param value
+     *            the value to check
+     * @param predicate
+     *            the predicate to check. It must not be {@code null}.
+     * @param code
+     *            the code to record if the value does not satisfy the
+     *            predicate
+     * @param position
+     *            the position to record if the value does not satisfy the
+     *            predicate
+     *
+     * @return {@code true} if the value satisfies the predicate
+     */
+    public boolean checkDouble(double value, DoublePredicate predicate, int code, long position) {
+        if (predicate.test(value)) {
+            return true;
+        }
+
+        record(code, position);
+        return false;
+    }
+
+    /**
+     * Checks an index like {@link IndexBounds#checkIndex(long, long)}.
+     *
+     * @param index
+     *            the index to check
+     * @param length
+     *            the upper bound (exclusive) of the range
+     * @param code
+     *            the code to record if the index is out of bounds
+     * @param position
+     *            the position to record if the index is out of bounds
+     *
+     * @return {@code true} if the index is within the bounds
+     */
+    public boolean checkIndex(long index, long length, int code, long position) {
+        if ((0 <= index) && (index < length)) {
+            return true;
+        }
+
+        record(code, position);
+        return false;
+    }
+
+    // Results
+
+    /**
+     * Returns the number of all failures, including those not recorded.
+     *
+     * @return the number of all failures
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of recorded failures.
+     *
+     * @return the number of recorded failures
+     */
+    public int size() {
+        return (int) Math.min(count, codes.length);
+    }
+
+    /**
+     * Returns the maximal number of recorded failures.
+     *
+     * @return the maximal number of recorded failures
+     */
+    public int capacity() {
+        return codes.length;
+    }
+
+    /**
+     * Indicates whether no failure occurred.
+     *
+     * @return {@code true} if no failure occurred
+     */
+    public boolean isEmpty() {
+        return (count == 0);
+    }
+
+    /**
+     * Indicates whether some failures were counted, but not recorded.
+     *
+     * @return {@code true} if some failures were not recorded
+     */
+    public boolean isOverflowed() {
+        return (codes.length < count);
+    }
+
+    /**
+     * Returns the code of a recorded failure.
+     *
+     * @param i
+     *            the index of the failure in the order of recording. It
+     *            must be less than {@link #size()}.
+     *
+     * @return the code of the failure
+     */
+    public int code(int i) {
+        return codes[IndexBounds.checkIndex(i, size())];
+    }
+
+    /**
+     * Returns the position of a recorded failure.
+     *
+     * @param i
+     *            the index of the failure in the order of recording. It
+     *            must be less than {@link #size()}.
+     *
+     * @return the position of the failure
+     */
+    public long position(int i) {
+        return positions[IndexBounds.checkIndex(i, size())];
+    }
+
+    /**
+     * Returns the codes of the recorded failures.
+     *
+     * @return a new array with the codes of the recorded failures
+     */
+    public int[] codes() {
+        return Arrays.copyOf(codes, size());
+    }
+
+    /**
+     * Returns the positions of the recorded failures.
+     *
+     * @return a new array with the positions of the recorded failures
+     */
+    public long[] positions() {
+        return Arrays.copyOf(positions, size());
+    }
+
+    /**
+     * Forgets all failures, so that this instance can be reused.
+     *
+     * @return this instance
+     */
+    public Violations clear() {
+        count = 0;
+        return this;
+    }
+
+    /**
+     * Appends the failures of another instance, e.g., of an instance which
+     * collected the failures of a different part of the input in parallel.
+     *
+     * <p>
+     * The failures of the other instance are recorded while this instance has
+     * enough capacity, the rest is only counted.
+     *
+     * @param other
+     *            the instance to append. It must not be {@code null}.
+     *
+     * @return this instance
+     */
+    public Violations addAll(Violations other) {
+        final long total = other.count;
+        final int size = other.size();
+        for (int i = 0; i < size; i++) {
+            record(other.codes[i], other.positions[i]);
+        }
+
+        count += total - size; // Not recorded by the other instance
+        return this;
+    }
+
+    /**
+     * Throws {@link IllegalArgumentException} if any failure occurred.
+     *
+     * @throws IllegalArgumentException
+     *             if any failure occurred
+     */
+    public void throwIfAny() {
+        if (count != 0) {
+            throw failure();
+        }
+    }
+
+    /**
+     * Throws an exception if any failure occurred.
+     *
+     * @param <X>
+     *            the type of the exception to throw
+     * @param exceptionFactory
+     *            the factory of the exception to throw, which gets the
+     *            description of the failures. It must not be {@code null}.
+     *
+     * @throws X
+     *             if any failure occurred
+     */
+    public <X extends Throwable> void throwIfAny(Function<? super String, ? extends X> exceptionFactory) throws X {
+        assert (exceptionFactory != null); // No message to keep the bytecode within MaxInlineSize
+
+        if (count != 0) {
+            throw failure(exceptionFactory);
+        }
+    }
+
+    // Cold paths for failing checks
+
+    /**
+     * Records a failure.
+     *
+     * @param code
+     *            the code to record
+     * @param position
+     *            the position to record
+     */
+    private void record(int code, long position) {
+        if (count < codes.length) {
+            final int i = (int) count;
+            positions[i] = position;
+            codes[i] = code;
+        }
+
+        ++count;
+    }
+
+    /**
+     * Creates the exception for {@link #throwIfAny()}.
+     *
+     * @return the exception
+     */
+    private IllegalArgumentException failure() {
+        if (codes.length == 0) {
+            return Failures.illegalArgument(count, DeferredMessage.of(TEMPLATE_COUNT, count));
+        }
+
+        return Failures.illegalArgument(count, DeferredMessage.of(TEMPLATE, count, codes[0], positions[0]));
+    }
+
+    /**
+     * Creates the exception for {@link #throwIfAny(Function)}.
+     *
+     * @param <X>
+     *            the type of the exception
+     * @param exceptionFactory
+     *            the factory of the exception. It must not be {@code null}.
+     *
+     * @return the exception
+     */
+    private <X extends Throwable> X failure(Function<? super String, ? extends X> exceptionFactory) {
+        return exceptionFactory.apply(describe());
+    }
+
+    /**
+     * Describes the failures.
+     *
+     * @return the description
+     */
+    private String describe() {
+        if (codes.length == 0) {
+            return String.format(TEMPLATE_COUNT, count);
+        }
+
+        return String.format(TEMPLATE, count, codes[0], positions[0]);
+    }
+}
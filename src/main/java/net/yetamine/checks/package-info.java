@@ -36,6 +36,27 @@
  * </pre>
  *
  * <p>
+ * Methods with message templates provide a cheaper alternative to message
+ * suppliers: the template and its arguments are formatted only when the check
+ * fails, so that a passing check neither formats the message, nor needs any
+ * lambda capturing the checked value:
+ *
+ * <pre>
+ * bar(Argument.check(i, i &gt; 0, "Requiring a positive number (given: %d).", i));
+ * </pre>
+ *
+ * <p>
+ * When failing checks are a part of normal operation, e.g., when rejecting the
+ * invalid input, filling in the stack traces of the exceptions dominates the
+ * cost of the failures. Setting the system property
+ * {@code net.yetamine.checks.stackless} to {@code true} enables the stackless
+ * mode, in which {@link net.yetamine.checks.Argument},
+ * {@link net.yetamine.checks.IndexBounds} and
+ * {@link net.yetamine.checks.StateCondition} throw exceptions of the usual
+ * types, but without the stack traces. The property is read just once, when
+ * the library is initialized.
+ *
+ * <p>
  * To make the checks cheaper, the exception suppliers are not checked whether
  * not being {@code null}; all such cases are guarded with {@code assert}, so
  * that code defects could be still detected in a testing environment.
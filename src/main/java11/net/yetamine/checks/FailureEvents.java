@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emits the events of failing checks for the Flight Recorder.
+ *
+ * <p>
+ * This class is a part of a multi-release archive and this implementation is
+ * used on Java 11 and newer. It emits {@link CheckFailed} events, but only if
+ * a recording enables them; otherwise the failing checks do not allocate or
+ * compute anything for the events.
+ */
+final class FailureEvents {
+
+    /** Type of the events, which tells whether any recording enables them. */
+    private static final EventType TYPE = EventType.getEventType(CheckFailed.class);
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private FailureEvents() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the events are recorded.
+     *
+     * @return {@code true} if the events are recorded
+     */
+    public static boolean isEnabled() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * Emits an event of a failing check with no known checked value.
+     *
+     * @param type
+     *            the type of the exception. It must not be {@code null}.
+     * @param template
+     *            the message template, or {@code null} if not known
+     */
+    public static void failed(Class<? extends Throwable> type, String template) {
+        final CheckFailed event = new CheckFailed();
+        if (event.shouldCommit()) {
+            commit(event, type, template);
+        }
+    }
+
+    /**
+     * Emits an event of a failing check.
+     *
+     * @param type
+     *            the type of the exception. It must not be {@code null}.
+     * @param template
+     *            the message template, or {@code null} if not known
+     * @param value
+     *            the checked value
+     */
+    public static void failed(Class<? extends Throwable> type, String template, long value) {
+        final CheckFailed event = new CheckFailed();
+        if (event.shouldCommit()) {
+            event.valueKnown = true;
+            event.value = value;
+            event.doubleValue = value;
+            commit(event, type, template);
+        }
+    }
+
+    /**
+     * Emits an event of a failing check.
+     *
+     * @param type
+     *            the type of the exception. It must not be {@code null}.
+     * @param template
+     *            the message template, or {@code null} if not known
+     * @param value
+     *            the checked value
+     */
+    public static void failed(Class<? extends Throwable> type, String template, double value) {
+        final CheckFailed event = new CheckFailed();
+        if (event.shouldCommit()) {
+            event.valueKnown = true;
+            event.value = (long) value;
+            event.doubleValue = value;
+            commit(event, type, template);
+        }
+    }
+
+    /**
+     * Completes and commits an event.
+     *
+     * @param event
+     *            the event to commit. It must not be {@code null}.
+     * @param type
+     *            the type of the exception. It must not be {@code null}.
+     * @param template
+     *            the message template, or {@code null} if not known
+     */
+    private static void commit(CheckFailed event, Class<? extends Throwable> type, String template) {
+        event.exceptionType = type;
+        event.template = template;
+        event.site = CallSites.caller();
+        event.commit();
+    }
+
+    /**
+     * The event of a failing check.
+     *
+     * <p>
+     * The event carries the check site found by {@link CallSites}, hence its
+     * stack trace is disabled by default to avoid walking the stack twice. A
+     * recording can enable it with the {@code stackTrace} setting.
+     */
+    @Name("net.yetamine.checks.CheckFailed")
+    @Label("Check Failed")
+    @Category({ "Yetamine", "Checks" })
+    @Description("A check failed and threw an exception")
+    @StackTrace(false)
+    static final class CheckFailed extends Event {
+
+        /** Type of the exception. */
+        @Label("Exception Type")
+        Class<?> exceptionType;
+
+        /** Message template. */
+        @Label("Message Template")
+        @Description("The message template, or the message if it has no arguments; missing for exceptions from custom suppliers")
+        String template;
+
+        /** Indicates whether {@link #value} and {@link #doubleValue} are known. */
+        @Label("Value Known")
+        boolean valueKnown;
+
+        /** Checked value. */
+        @Label("Value")
+        @Description("The checked value, e.g., the index; truncated if it is a floating-point number")
+        long value;
+
+        /** Checked value as a floating-point number. */
+        @Label("Double Value")
+        @Description("The checked value as a double, exact if it is a floating-point number")
+        double doubleValue;
+
+        /** Site of the check. */
+        @Label("Check Site")
+        @Description("The first caller outside of the checks")
+        String site;
+
+        /**
+         * Creates a new instance.
+         */
+        CheckFailed() {
+            // Default constructor
+        }
+    }
+}
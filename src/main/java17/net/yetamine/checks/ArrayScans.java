@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * Implements the scans of arrays for {@link BulkArgument}.
+ *
+ * <p>
+ * This class is a part of a multi-release archive and this implementation is
+ * used on Java 17 and newer. When the {@code jdk.incubator.vector} module is
+ * present in the boot layer, e.g., when the JVM runs with the option
+ * {@code --add-modules jdk.incubator.vector}, the scans with fixed conditions
+ * delegate to {@link VectorScans}, otherwise all scans delegate to
+ * {@link ScalarScans}. Because the decision is a constant, the just-in-time
+ * compiler removes the unused branch and {@link VectorScans} is never loaded
+ * without the module.
+ */
+final class ArrayScans {
+
+    /** Name of the module providing the Vector API. */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    /** Indicates whether the Vector API is available. */
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private ArrayScans() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Implements {@link BulkArgument#indexOfViolation(int[], IntPredicate)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfViolation(int[] values, IntPredicate condition) {
+        return ScalarScans.indexOfViolation(values, condition);
+    }
+
+    /**
+     * Implements {@link BulkArgument#indexOfViolation(long[], LongPredicate)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfViolation(long[] values, LongPredicate condition) {
+        return ScalarScans.indexOfViolation(values, condition);
+    }
+
+    /**
+     * Implements
+     * {@link BulkArgument#indexOfViolation(double[], DoublePredicate)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param condition
+     *            the condition to check. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfViolation(double[] values, DoublePredicate condition) {
+        return ScalarScans.indexOfViolation(values, condition);
+    }
+
+    /**
+     * Implements {@link BulkArgument#indexOutOfRange(int[], int, int)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOutOfRange(int[] values, int min, int max) {
+        return VECTORIZED ? VectorScans.indexOutOfRange(values, min, max) : ScalarScans.indexOutOfRange(values, min, max);
+    }
+
+    /**
+     * Implements {@link BulkArgument#indexOutOfRange(long[], long, long)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOutOfRange(long[] values, long min, long max) {
+        return VECTORIZED ? VectorScans.indexOutOfRange(values, min, max) : ScalarScans.indexOutOfRange(values, min, max);
+    }
+
+    /**
+     * Implements
+     * {@link BulkArgument#indexOutOfRange(double[], double, double)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOutOfRange(double[] values, double min, double max) {
+        return VECTORIZED ? VectorScans.indexOutOfRange(values, min, max) : ScalarScans.indexOutOfRange(values, min, max);
+    }
+
+    /**
+     * Implements {@link BulkArgument#indexOfNonFinite(double[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfNonFinite(double[] values) {
+        return VECTORIZED ? VectorScans.indexOfNonFinite(values) : ScalarScans.indexOfNonFinite(values);
+    }
+
+    /**
+     * Implements {@link BulkArgument#indexOfUnsorted(int[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfUnsorted(int[] values) {
+        return VECTORIZED ? VectorScans.indexOfUnsorted(values) : ScalarScans.indexOfUnsorted(values);
+    }
+
+    /**
+     * Implements {@link BulkArgument#indexOfUnsorted(long[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfUnsorted(long[] values) {
+        return VECTORIZED ? VectorScans.indexOfUnsorted(values) : ScalarScans.indexOfUnsorted(values);
+    }
+
+    /**
+     * Implements {@link BulkArgument#indexOfUnsorted(double[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfUnsorted(double[] values) {
+        return VECTORIZED ? VectorScans.indexOfUnsorted(values) : ScalarScans.indexOfUnsorted(values);
+    }
+}
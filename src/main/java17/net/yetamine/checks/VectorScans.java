@@ -0,0 +1,271 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implements the scans of arrays for {@link ArrayScans} with the Vector API.
+ *
+ * <p>
+ * This class is a part of a multi-release archive and it must be loaded only
+ * when the {@code jdk.incubator.vector} module is available. Each scan tests
+ * whole vectors of the preferred species and finishes the remaining elements
+ * with a scalar loop. NaN fails the comparisons, so that it always violates
+ * the conditions of the {@code double} scans.
+ */
+final class VectorScans {
+
+    /** Species for {@code int} values. */
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    /** Species for {@code long} values. */
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    /** Species for {@code double} values. */
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private VectorScans() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOutOfRange(int[], int, int)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOutOfRange(int[] values, int min, int max) {
+        final int bound = INTS.loopBound(values.length);
+
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            final IntVector vector = IntVector.fromArray(INTS, values, i);
+            final VectorMask<Integer> passed = vector.compare(VectorOperators.GE, min).and(vector.compare(VectorOperators.LE, max));
+            if (!passed.allTrue()) {
+                return i + passed.not().firstTrue();
+            }
+        }
+
+        for (; i < values.length; i++) {
+            if (!((min <= values[i]) && (values[i] <= max))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOutOfRange(long[], long, long)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOutOfRange(long[] values, long min, long max) {
+        final int bound = LONGS.loopBound(values.length);
+
+        int i = 0;
+        for (; i < bound; i += LONGS.length()) {
+            final LongVector vector = LongVector.fromArray(LONGS, values, i);
+            final VectorMask<Long> passed = vector.compare(VectorOperators.GE, min).and(vector.compare(VectorOperators.LE, max));
+            if (!passed.allTrue()) {
+                return i + passed.not().firstTrue();
+            }
+        }
+
+        for (; i < values.length; i++) {
+            if (!((min <= values[i]) && (values[i] <= max))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOutOfRange(double[], double, double)}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     * @param min
+     *            the lower bound (inclusive) of the range
+     * @param max
+     *            the upper bound (inclusive) of the range
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOutOfRange(double[] values, double min, double max) {
+        final int bound = DOUBLES.loopBound(values.length);
+
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            final DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+            final VectorMask<Double> passed = vector.compare(VectorOperators.GE, min).and(vector.compare(VectorOperators.LE, max));
+            if (!passed.allTrue()) {
+                return i + passed.not().firstTrue();
+            }
+        }
+
+        for (; i < values.length; i++) {
+            if (!((min <= values[i]) && (values[i] <= max))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOfNonFinite(double[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfNonFinite(double[] values) {
+        final int bound = DOUBLES.loopBound(values.length);
+
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            final VectorMask<Double> passed = DoubleVector.fromArray(DOUBLES, values, i).test(VectorOperators.IS_FINITE);
+            if (!passed.allTrue()) {
+                return i + passed.not().firstTrue();
+            }
+        }
+
+        for (; i < values.length; i++) {
+            if (!Double.isFinite(values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOfUnsorted(int[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfUnsorted(int[] values) {
+        // Each step compares the elements with their successors
+        final int bound = INTS.loopBound(Math.max(values.length - 1, 0));
+
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            final IntVector current = IntVector.fromArray(INTS, values, i);
+            final IntVector next = IntVector.fromArray(INTS, values, i + 1);
+            final VectorMask<Integer> passed = current.compare(VectorOperators.LE, next);
+            if (!passed.allTrue()) {
+                return i + 1 + passed.not().firstTrue();
+            }
+        }
+
+        for (i = Math.max(i, 1); i < values.length; i++) {
+            if (!(values[i - 1] <= values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOfUnsorted(long[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfUnsorted(long[] values) {
+        // Each step compares the elements with their successors
+        final int bound = LONGS.loopBound(Math.max(values.length - 1, 0));
+
+        int i = 0;
+        for (; i < bound; i += LONGS.length()) {
+            final LongVector current = LongVector.fromArray(LONGS, values, i);
+            final LongVector next = LongVector.fromArray(LONGS, values, i + 1);
+            final VectorMask<Long> passed = current.compare(VectorOperators.LE, next);
+            if (!passed.allTrue()) {
+                return i + 1 + passed.not().firstTrue();
+            }
+        }
+
+        for (i = Math.max(i, 1); i < values.length; i++) {
+            if (!(values[i - 1] <= values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Implements {@link ArrayScans#indexOfUnsorted(double[])}.
+     *
+     * @param values
+     *            the values to scan. It must not be {@code null}.
+     *
+     * @return the index of the first violating element, or -1
+     */
+    public static int indexOfUnsorted(double[] values) {
+        // Each step compares the elements with their successors
+        final int bound = DOUBLES.loopBound(Math.max(values.length - 1, 0));
+
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            final DoubleVector current = DoubleVector.fromArray(DOUBLES, values, i);
+            final DoubleVector next = DoubleVector.fromArray(DOUBLES, values, i + 1);
+            final VectorMask<Double> passed = current.compare(VectorOperators.LE, next);
+            if (!passed.allTrue()) {
+                return i + 1 + passed.not().firstTrue();
+            }
+        }
+
+        for (i = Math.max(i, 1); i < values.length; i++) {
+            if (!(values[i - 1] <= values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
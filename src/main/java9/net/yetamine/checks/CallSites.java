@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+/**
+ * Finds the check sites for {@link FailureCounters}.
+ *
+ * <p>
+ * This class is a part of a multi-release archive and this implementation is
+ * used on Java 9 and newer. It uses {@link StackWalker}, which stops at the
+ * first frame outside of this library instead of capturing the whole stack
+ * trace.
+ */
+final class CallSites {
+
+    /** Description of an unknown site. */
+    static final String UNKNOWN = "unknown";
+
+    /** Walker of the stack. */
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    /**
+     * Prevents creating instances of this class.
+     */
+    private CallSites() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Finds the first caller outside of this library and of the platform.
+     *
+     * <p>
+     * The platform frames are skipped, so that a check invoked by a stream
+     * pipeline is reported at the site that runs the pipeline. When a pipeline
+     * runs in a pool thread, e.g., for a parallel stream, the thread might have
+     * no such caller and the site is {@link #UNKNOWN}.
+     *
+     * @return the description of the caller
+     */
+    public static String caller() {
+        return WALKER.walk(frames -> frames.filter(frame -> FailureCounters.isCaller(frame.getClassName())).findFirst())
+                .map(frame -> FailureCounters.site(frame.getClassName(), frame.getMethodName(), frame.getLineNumber()))
+                .orElse(UNKNOWN);
+    }
+}
@@ -140,6 +140,28 @@ public final class TestArgument {
         Assert.assertEquals(Argument.check(4L, true, () -> ""), 4L);
         Assert.assertEquals(Argument.check(1.0f, true, () -> ""), 1.0f);
         Assert.assertEquals(Argument.check(1.0, true, () -> ""), 1.0);
+
+        Assert.assertSame(Argument.check(o, true, "%d", 1), o);
+        Assert.assertSame(Argument.check(o, true, "%s %s", o, o), o);
+        Assert.assertEquals(Argument.check(3, true, "%d", 3), 3);
+        Assert.assertEquals(Argument.check(3, true, "%d %d", 3L, 4L), 3);
+        Assert.assertEquals(Argument.check(4L, true, "%f", 1.0), 4L);
+        Assert.assertEquals(Argument.check(4L, true, "%s %s", "a", "b"), 4L);
+        Assert.assertEquals(Argument.check(1.0, true, "%d", 1), 1.0);
+        Assert.assertEquals(Argument.check(1.0, true, "%f %f", 1.0, 2.0), 1.0);
+
+        Assert.assertEquals(Argument.checkInt(3, i -> i == 3), 3);
+        Assert.assertEquals(Argument.checkInt(3, i -> i == 3, ""), 3);
+        Assert.assertEquals(Argument.checkInt(3, i -> i == 3, () -> ""), 3);
+        Assert.assertEquals(Argument.checkLong(4L, l -> l == 4L), 4L);
+        Assert.assertEquals(Argument.checkLong(4L, l -> l == 4L, ""), 4L);
+        Assert.assertEquals(Argument.checkLong(4L, l -> l == 4L, () -> ""), 4L);
+        Assert.assertEquals(Argument.checkDouble(1.0, d -> d == 1.0), 1.0);
+        Assert.assertEquals(Argument.checkDouble(1.0, d -> d == 1.0, ""), 1.0);
+        Assert.assertEquals(Argument.checkDouble(1.0, d -> d == 1.0, () -> ""), 1.0);
+
+        Assert.assertSame(Argument.checkNormal(o, t -> t == o, ""), o);
+        Assert.assertSame(Argument.checkExpensive(o, t -> t == o, ""), o);
     }
 
     /**
@@ -258,7 +280,32 @@ public final class TestArgument {
             { "int",    (Runnable) () -> Argument.check(1, false, () -> "int")                },
             { "long",   (Runnable) () -> Argument.check(1L, false, () -> "long")              },
             { "float",  (Runnable) () -> Argument.check(10.f, false, () -> "float")           },
-            { "double", (Runnable) () -> Argument.check(10.f, false, () -> "double")          }
+            { "double", (Runnable) () -> Argument.check(10.f, false, () -> "double")          },
+
+            // Message templates
+            { "object 1",   (Runnable) () -> Argument.check(new Object(), false, "object %d", 1)         },
+            { "object 1 2", (Runnable) () -> Argument.check(new Object(), false, "object %d %d", 1, 2)   },
+            { "int 1",      (Runnable) () -> Argument.check(1, false, "int %d", 1)                       },
+            { "int 1 2",    (Runnable) () -> Argument.check(1, false, "int %d %d", 1, 2)                 },
+            { "long 1",     (Runnable) () -> Argument.check(1L, false, "long %d", 1L)                    },
+            { "long 1 2",   (Runnable) () -> Argument.check(1L, false, "long %d %d", 1L, 2L)             },
+            { "double 1.5", (Runnable) () -> Argument.check(1.0, false, "double %s", 1.5)                },
+            { "double a b", (Runnable) () -> Argument.check(1.0, false, "double %s %s", "a", "b")        },
+
+            // Primitive predicates
+            { null,     (Runnable) () -> Argument.checkInt(1, i -> false)                       },
+            { "int",    (Runnable) () -> Argument.checkInt(1, i -> false, "int")                },
+            { "int",    (Runnable) () -> Argument.checkInt(1, i -> false, () -> "int")          },
+            { null,     (Runnable) () -> Argument.checkLong(1L, l -> false)                     },
+            { "long",   (Runnable) () -> Argument.checkLong(1L, l -> false, "long")             },
+            { "long",   (Runnable) () -> Argument.checkLong(1L, l -> false, () -> "long")       },
+            { null,     (Runnable) () -> Argument.checkDouble(1.0, d -> false)                  },
+            { "double", (Runnable) () -> Argument.checkDouble(1.0, d -> false, "double")        },
+            { "double", (Runnable) () -> Argument.checkDouble(1.0, d -> false, () -> "double")  },
+
+            // Tiered checks, enabled by default
+            { "normal",     (Runnable) () -> Argument.checkNormal(1, i -> false, "normal")          },
+            { "expensive",  (Runnable) () -> Argument.checkExpensive(1, i -> false, "expensive")    }
             // @formatter:on
         };
     }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link ArrayScans}.
+ *
+ * <p>
+ * The scans must give the same results as {@link ScalarScans}, which is the
+ * reference implementation. When the tests run with the packaged archive on
+ * Java 17 and newer with the Vector API, they compare the vectorized scans
+ * with the reference.
+ */
+public final class TestArrayScans {
+
+    /** Maximal length of the tested arrays, covering several vectors. */
+    private static final int MAX_LENGTH = 130;
+    /** Number of arrays to test for each length. */
+    private static final int TRIALS = 20;
+
+    /**
+     * Tests scanning {@code int} arrays.
+     */
+    @Test
+    public void scanInts() {
+        final Random random = new Random(1);
+        final int[] extremes = { Integer.MIN_VALUE, Integer.MAX_VALUE, -101, 101, -100, 100 };
+
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            for (int trial = 0; trial < TRIALS; trial++) {
+                final int[] values = new int[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = random.nextInt(201) - 100;
+                }
+
+                if ((length > 0) && random.nextBoolean()) {
+                    values[random.nextInt(length)] = extremes[random.nextInt(extremes.length)];
+                }
+
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, -100, 100), ScalarScans.indexOutOfRange(values, -100, 100));
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, Integer.MIN_VALUE, 0), ScalarScans.indexOutOfRange(values, Integer.MIN_VALUE, 0));
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, Integer.MIN_VALUE + 1, Integer.MAX_VALUE), ScalarScans.indexOutOfRange(values, Integer.MIN_VALUE + 1, Integer.MAX_VALUE));
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, 1, 0), ScalarScans.indexOutOfRange(values, 1, 0));
+
+                Arrays.sort(values, 0, random.nextInt(length + 1)); // Any prefix sorted
+                Assert.assertEquals(ArrayScans.indexOfUnsorted(values), ScalarScans.indexOfUnsorted(values));
+            }
+        }
+    }
+
+    /**
+     * Tests scanning {@code long} arrays.
+     */
+    @Test
+    public void scanLongs() {
+        final Random random = new Random(2);
+        final long[] extremes = { Long.MIN_VALUE, Long.MAX_VALUE, -101, 101, -100, 100 };
+
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            for (int trial = 0; trial < TRIALS; trial++) {
+                final long[] values = new long[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = random.nextInt(201) - 100;
+                }
+
+                if ((length > 0) && random.nextBoolean()) {
+                    values[random.nextInt(length)] = extremes[random.nextInt(extremes.length)];
+                }
+
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, -100, 100), ScalarScans.indexOutOfRange(values, -100, 100));
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, Long.MIN_VALUE, 0), ScalarScans.indexOutOfRange(values, Long.MIN_VALUE, 0));
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, Long.MIN_VALUE + 1, Long.MAX_VALUE), ScalarScans.indexOutOfRange(values, Long.MIN_VALUE + 1, Long.MAX_VALUE));
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, 1, 0), ScalarScans.indexOutOfRange(values, 1, 0));
+
+                Arrays.sort(values, 0, random.nextInt(length + 1)); // Any prefix sorted
+                Assert.assertEquals(ArrayScans.indexOfUnsorted(values), ScalarScans.indexOfUnsorted(values));
+            }
+        }
+    }
+
+    /**
+     * Tests scanning {@code double} arrays.
+     */
+    @Test
+    public void scanDoubles() {
+        final Random random = new Random(3);
+        final double[] extremes = { Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0.0, -100.5, 100.5, Double.MAX_VALUE };
+
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            for (int trial = 0; trial < TRIALS; trial++) {
+                final double[] values = new double[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = random.nextDouble() * 200 - 100;
+                }
+
+                if ((length > 0) && random.nextBoolean()) {
+                    values[random.nextInt(length)] = extremes[random.nextInt(extremes.length)];
+                }
+
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, -100, 100), ScalarScans.indexOutOfRange(values, -100, 100));
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, 0.0, Double.POSITIVE_INFINITY), ScalarScans.indexOutOfRange(values, 0.0, Double.POSITIVE_INFINITY));
+                Assert.assertEquals(ArrayScans.indexOutOfRange(values, 1, 0), ScalarScans.indexOutOfRange(values, 1, 0));
+                Assert.assertEquals(ArrayScans.indexOfNonFinite(values), ScalarScans.indexOfNonFinite(values));
+
+                Arrays.sort(values, 0, random.nextInt(length + 1)); // Any prefix sorted
+                Assert.assertEquals(ArrayScans.indexOfUnsorted(values), ScalarScans.indexOfUnsorted(values));
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link BoundedChannel}.
+ */
+public final class TestBoundedChannel {
+
+    /**
+     * Tests reading within the limit.
+     *
+     * @throws IOException
+     *             if reading failed
+     */
+    @Test
+    public void readPassed() throws IOException {
+        try (BoundedChannel channel = new BoundedChannel(source(100), 100)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(60);
+            Assert.assertEquals(channel.read(buffer), 60);
+            Assert.assertEquals(buffer.limit(), 60);
+            buffer.clear();
+            Assert.assertEquals(channel.read(buffer), 40);
+            Assert.assertEquals(buffer.limit(), 60);
+            buffer.clear();
+            Assert.assertEquals(channel.read(buffer), -1);
+            Assert.assertEquals(channel.count(), 100);
+            Assert.assertEquals(channel.limit(), 100);
+            Assert.assertTrue(channel.isOpen());
+        }
+
+        try (BoundedChannel channel = new BoundedChannel(source(100), Long.MAX_VALUE)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(60);
+            Assert.assertEquals(channel.read(buffer), 60);
+            buffer.clear();
+            Assert.assertEquals(channel.read(buffer), 40);
+            buffer.clear();
+            Assert.assertEquals(channel.read(buffer), -1);
+            Assert.assertEquals(channel.count(), 100);
+        }
+    }
+
+    /**
+     * Tests reading over the limit.
+     *
+     * @throws IOException
+     *             if reading failed
+     */
+    @Test
+    public void readFailed() throws IOException {
+        try (BoundedChannel channel = new BoundedChannel(source(1000), 100)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(60);
+            Assert.assertEquals(channel.read(buffer), 60);
+            buffer.clear();
+            Assert.expectThrows(IllegalStateException.class, () -> channel.read(buffer));
+            Assert.assertEquals(buffer.limit(), 60);
+            Assert.assertEquals(channel.count(), 101);
+        }
+    }
+
+    /**
+     * Tests reading with a rate limit.
+     *
+     * @throws IOException
+     *             if reading failed
+     */
+    @Test
+    public void readThrottled() throws IOException {
+        final long start = System.nanoTime();
+        try (BoundedChannel channel = new BoundedChannel(source(2000), 2000, 10_000)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(100);
+            while (channel.read(buffer) != -1) {
+                buffer.clear();
+            }
+        }
+
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertTrue(190 <= elapsed, "Elapsed " + elapsed + " ms.");
+    }
+
+    /**
+     * Creates a source channel.
+     *
+     * @param size
+     *            the size of the content
+     *
+     * @return the source channel
+     */
+    private static ReadableByteChannel source(int size) {
+        return Channels.newChannel(new ByteArrayInputStream(new byte[size]));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link BoundedInputStream}.
+ */
+public final class TestBoundedInputStream {
+
+    /**
+     * Tests reading within the limit.
+     *
+     * @throws IOException
+     *             if reading failed
+     */
+    @Test
+    public void readPassed() throws IOException {
+        try (InputStream in = new BoundedInputStream(new ByteArrayInputStream(new byte[100]), 100)) {
+            Assert.assertEquals(in.read(new byte[60]), 60);
+            Assert.assertEquals(in.skip(30), 30);
+            Assert.assertEquals(in.read(), 0);
+            Assert.assertEquals(in.read(new byte[60]), 9);
+            Assert.assertEquals(in.read(new byte[60]), -1);
+            Assert.assertEquals(in.read(), -1);
+            Assert.assertEquals(((BoundedInputStream) in).count(), 100);
+        }
+
+        try (InputStream in = new BoundedInputStream(new ByteArrayInputStream(new byte[0]), 0)) {
+            Assert.assertEquals(in.read(), -1);
+        }
+
+        try (InputStream in = new BoundedInputStream(new ByteArrayInputStream(new byte[100]), Long.MAX_VALUE)) {
+            Assert.assertEquals(in.read(new byte[60]), 60);
+            Assert.assertEquals(in.skip(30), 30);
+            Assert.assertEquals(in.read(), 0);
+            Assert.assertEquals(in.read(new byte[60]), 9);
+            Assert.assertEquals(in.read(), -1);
+        }
+    }
+
+    /**
+     * Tests reading over the limit.
+     *
+     * @throws IOException
+     *             if reading failed
+     */
+    @Test
+    public void readFailed() throws IOException {
+        try (InputStream in = new BoundedInputStream(new ByteArrayInputStream(new byte[101]), 100)) {
+            final IllegalStateException e = Assert.expectThrows(IllegalStateException.class, () -> in.read(new byte[200]));
+            Assert.assertEquals(e.getMessage(), "Exceeded the limit of 100 bytes.");
+            Assert.expectThrows(IllegalStateException.class, in::read);
+        }
+
+        try (InputStream in = new BoundedInputStream(new ByteArrayInputStream(new byte[101]), 100)) {
+            Assert.assertEquals(in.skip(100), 100);
+            Assert.expectThrows(IllegalStateException.class, in::read);
+        }
+
+        try (InputStream in = new BoundedInputStream(new ByteArrayInputStream(new byte[101]), 100)) {
+            Assert.expectThrows(IllegalStateException.class, () -> in.skip(1000));
+        }
+
+        Assert.expectThrows(IllegalArgumentException.class, () -> new BoundedInputStream(new ByteArrayInputStream(new byte[0]), -1));
+        Assert.expectThrows(IllegalArgumentException.class, () -> new BoundedInputStream(new ByteArrayInputStream(new byte[0]), 1, -1));
+    }
+
+    /**
+     * Tests skipping a stream which can skip past its end.
+     *
+     * @throws IOException
+     *             if reading failed
+     */
+    @Test
+    public void skipPastEnd() throws IOException {
+        final InputStream source = new ByteArrayInputStream(new byte[10]) {
+
+            /**
+             * @see java.io.ByteArrayInputStream#skip(long)
+             */
+            @Override
+            public synchronized long skip(long n) {
+                super.skip(n);
+                return n; // Like FileInputStream, which can skip past the end
+            }
+        };
+
+        try (InputStream in = new BoundedInputStream(source, 100)) {
+            Assert.assertEquals(in.skip(1000), 10);
+            Assert.assertEquals(in.skip(1000), 0);
+            Assert.assertEquals(in.read(), -1);
+            Assert.assertEquals(((BoundedInputStream) in).count(), 10);
+        }
+    }
+
+    /**
+     * Tests the number of available bytes.
+     *
+     * @throws IOException
+     *             if reading failed
+     */
+    @Test
+    public void available() throws IOException {
+        try (InputStream in = new BoundedInputStream(new ByteArrayInputStream(new byte[100]), 50)) {
+            Assert.assertEquals(in.available(), 50);
+            Assert.assertEquals(in.read(new byte[40]), 40);
+            Assert.assertEquals(in.available(), 10);
+            Assert.assertEquals(in.skip(10), 10);
+            Assert.assertEquals(in.available(), 0);
+        }
+    }
+
+    /**
+     * Tests reading with a rate limit.
+     *
+     * @throws IOException
+     *             if reading failed
+     */
+    @Test
+    public void readThrottled() throws IOException {
+        final long start = System.nanoTime();
+        try (InputStream in = new BoundedInputStream(new ByteArrayInputStream(new byte[2000]), 2000, 10_000)) {
+            final byte[] buffer = new byte[100];
+            while (in.read(buffer) != -1) {
+                // Just consume
+            }
+        }
+
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertTrue(190 <= elapsed, "Elapsed " + elapsed + " ms.");
+    }
+}
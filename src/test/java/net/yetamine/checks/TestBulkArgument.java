@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link BulkArgument}.
+ */
+public final class TestBulkArgument {
+
+    /** Length of the arrays, spanning more blocks. */
+    private static final int LENGTH = 1000;
+
+    /**
+     * Tests passing checks.
+     */
+    @Test
+    public void checkPassed() {
+        final int[] ints = { 1, 2, 3 };
+        final long[] longs = { Long.MIN_VALUE, 0L, Long.MAX_VALUE };
+        final double[] doubles = { -1.0, 0.0, Double.MAX_VALUE };
+
+        Assert.assertSame(BulkArgument.checkAll(ints, i -> i > 0), ints);
+        Assert.assertSame(BulkArgument.checkAll(longs, l -> true), longs);
+        Assert.assertSame(BulkArgument.checkAll(doubles, Double::isFinite), doubles);
+        Assert.assertSame(BulkArgument.checkAllInRange(ints, 1, 3), ints);
+        Assert.assertSame(BulkArgument.checkAllInRange(longs, Long.MIN_VALUE, Long.MAX_VALUE), longs);
+        Assert.assertSame(BulkArgument.checkAllInRange(doubles, -1.0, Double.MAX_VALUE), doubles);
+        Assert.assertSame(BulkArgument.checkAllFinite(doubles), doubles);
+        final double[] empty = {};
+        Assert.assertSame(BulkArgument.checkAllFinite(empty), empty);
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void checkFailed1() {
+        try {
+            BulkArgument.checkAllInRange(new int[] { 1, 2, 5, 6 }, 1, 4);
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Element at index 2 is out of the range [1, 4].");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void checkFailed2() {
+        try {
+            BulkArgument.checkAllFinite(new double[] { 1.0, Double.NaN });
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Element at index 1 is not finite.");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void checkFailed3() {
+        try {
+            BulkArgument.checkAll(new long[] { 1L, 0L }, l -> l > 0);
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Element at index 1 violates the condition.");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests the range scans against the plain scans.
+     */
+    @Test
+    public void indexOutOfRange() {
+        final Random random = new Random(1);
+        for (int round = 0; round < 100; round++) {
+            final int[] ints = new int[LENGTH];
+            final long[] longs = new long[LENGTH];
+            final double[] doubles = new double[LENGTH];
+            for (int i = 0; i < LENGTH; i++) {
+                ints[i] = random.nextInt(1000);
+                longs[i] = random.nextInt(1000);
+                doubles[i] = random.nextInt(1000);
+            }
+
+            final int index = random.nextInt(LENGTH + 1) - 1;
+            if (0 <= index) {
+                ints[index] = random.nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+                longs[index] = random.nextBoolean() ? Long.MIN_VALUE : Long.MAX_VALUE;
+                doubles[index] = random.nextBoolean() ? Double.NaN : Double.NEGATIVE_INFINITY;
+            }
+
+            Assert.assertEquals(BulkArgument.indexOutOfRange(ints, 0, 999), index);
+            Assert.assertEquals(BulkArgument.indexOutOfRange(longs, 0, 999), index);
+            Assert.assertEquals(BulkArgument.indexOutOfRange(doubles, 0, 999), index);
+            Assert.assertEquals(BulkArgument.indexOfNonFinite(doubles), index);
+            Assert.assertEquals(BulkArgument.indexOfViolation(ints, i -> (0 <= i) && (i < 1000)), index);
+            Assert.assertEquals(BulkArgument.indexOfViolation(longs, l -> (0 <= l) && (l < 1000)), index);
+            Assert.assertEquals(BulkArgument.indexOfViolation(doubles, Double::isFinite), index);
+        }
+    }
+
+    /**
+     * Tests the range scans with extreme bounds.
+     */
+    @Test
+    public void indexOutOfExtremeRange() {
+        final long[] longs = { Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE };
+        Assert.assertEquals(BulkArgument.indexOutOfRange(longs, Long.MIN_VALUE, Long.MAX_VALUE), -1);
+        Assert.assertEquals(BulkArgument.indexOutOfRange(longs, Long.MIN_VALUE + 1, Long.MAX_VALUE), 0);
+        Assert.assertEquals(BulkArgument.indexOutOfRange(longs, Long.MIN_VALUE, Long.MAX_VALUE - 1), 4);
+        Assert.assertEquals(BulkArgument.indexOutOfRange(longs, 1L, 0L), 0);
+
+        final int[] ints = { Integer.MIN_VALUE, 0, Integer.MAX_VALUE };
+        Assert.assertEquals(BulkArgument.indexOutOfRange(ints, Integer.MIN_VALUE, Integer.MAX_VALUE), -1);
+        Assert.assertEquals(BulkArgument.indexOutOfRange(ints, Integer.MIN_VALUE, 0), 2);
+        Assert.assertEquals(BulkArgument.indexOutOfRange(ints, 1, 0), 0);
+
+        final double[] doubles = { -0.0, Double.MAX_VALUE, Double.POSITIVE_INFINITY };
+        Assert.assertEquals(BulkArgument.indexOutOfRange(doubles, 0.0, Double.POSITIVE_INFINITY), -1);
+        Assert.assertEquals(BulkArgument.indexOfNonFinite(doubles), 2);
+    }
+
+    /**
+     * Tests the ordering scans.
+     */
+    @Test
+    public void indexOfUnsorted() {
+        Assert.assertEquals(BulkArgument.indexOfUnsorted(new int[0]), -1);
+        Assert.assertEquals(BulkArgument.indexOfUnsorted(new long[] { 1L }), -1);
+        Assert.assertEquals(BulkArgument.indexOfUnsorted(new double[] { Double.NaN }), -1);
+        Assert.assertEquals(BulkArgument.indexOfUnsorted(new double[] { 1.0, Double.NaN }), 1);
+        Assert.assertEquals(BulkArgument.indexOfUnsorted(new double[] { Double.NaN, 1.0 }), 1);
+
+        final int[] ints = new int[LENGTH];
+        final long[] longs = new long[LENGTH];
+        final double[] doubles = new double[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            ints[i] = i / 2; // Duplicates are sorted
+            longs[i] = i / 2;
+            doubles[i] = i / 2;
+        }
+
+        Assert.assertSame(BulkArgument.checkAllSorted(ints), ints);
+        Assert.assertSame(BulkArgument.checkAllSorted(longs), longs);
+        Assert.assertSame(BulkArgument.checkAllSorted(doubles), doubles);
+
+        ints[700] = 0;
+        longs[700] = 0L;
+        doubles[700] = 0.0;
+        Assert.assertEquals(BulkArgument.indexOfUnsorted(ints), 700);
+        Assert.assertEquals(BulkArgument.indexOfUnsorted(longs), 700);
+        Assert.assertEquals(BulkArgument.indexOfUnsorted(doubles), 700);
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void checkFailed4() {
+        try {
+            BulkArgument.checkAllSorted(new int[] { 1, 2, 2, 1 });
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Element at index 3 is less than its predecessor.");
+            throw e;
+        }
+    }
+}
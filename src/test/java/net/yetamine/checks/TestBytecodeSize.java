@@ -0,0 +1,255 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the bytecode size of the public checking methods.
+ *
+ * <p>
+ * HotSpot inlines methods, which are not hot yet, only if their bytecode size
+ * does not exceed {@code MaxInlineSize} (35 bytes by default). Keeping the
+ * checking methods within this limit makes them inline even in deeply nested
+ * call chains, therefore any code that is not necessary for the passing check
+ * must be moved to the cold paths.
+ */
+public final class TestBytecodeSize {
+
+    /** Maximal bytecode size of a public checking method. */
+    private static final int MAX_SIZE = 35;
+
+    /** Names of the public methods that are not checking methods. */
+    private static final Set<String> EXCLUDED = new HashSet<>(Arrays.asList(
+            // Composing the rules, which happens when defining them
+            "allOf", "anyOf",
+            // Constructing, merging and describing the collected violations
+            "<init>", "addAll", "toString"
+    ));
+
+    /**
+     * Tests the bytecode size of the public checking methods, which are all
+     * public methods except for those listed in {@link #EXCLUDED}, so that,
+     * e.g., {@link Argument#cast(Object, boolean)} is guarded as well.
+     *
+     * @param type
+     *            the class to test. It must not be {@code null}.
+     *
+     * @throws IOException
+     *             if reading the class file fails
+     */
+    @Test(dataProvider = "classes")
+    public void testCheckSize(Class<?> type) throws IOException {
+        final List<String> violations = new ArrayList<>();
+
+        for (Map.Entry<String, Integer> method : publicMethodSizes(type).entrySet()) {
+            final String name = method.getKey();
+            if ((MAX_SIZE < method.getValue()) && !EXCLUDED.contains(name.substring(0, name.indexOf('(')))) {
+                violations.add(name + " (" + method.getValue() + " bytes)");
+            }
+        }
+
+        Assert.assertTrue(violations.isEmpty(), "Methods exceeding " + MAX_SIZE + " bytes: " + violations);
+    }
+
+    @SuppressWarnings("javadoc")
+    @DataProvider(name = "classes")
+    public static Object[][] classes() {
+        return new Object[][] {
+            // @formatter:off
+            { Argument.class        },
+            { BulkArgument.class    },
+            { Constraint.class      },
+            { DoubleRule.class      },
+            { IndexBounds.class     },
+            { IntRule.class         },
+            { LongRule.class        },
+            { Rule.class            },
+            { StateCondition.class  },
+            { Violations.class      }
+            // @formatter:on
+        };
+    }
+
+    /**
+     * Reads the class file of a class and returns the bytecode size of all its
+     * public methods.
+     *
+     * @param type
+     *            the class to read. It must not be {@code null}.
+     *
+     * @return the map of method names and descriptors to their bytecode sizes
+     *
+     * @throws IOException
+     *             if reading the class file fails
+     */
+    private static Map<String, Integer> publicMethodSizes(Class<?> type) throws IOException {
+        final String resource = type.getSimpleName() + ".class";
+
+        try (InputStream is = type.getResourceAsStream(resource)) {
+            Assert.assertNotNull(is, "Missing class file " + resource);
+            final DataInputStream in = new DataInputStream(is);
+
+            Assert.assertEquals(in.readInt(), 0xCAFEBABE);
+            in.readUnsignedShort(); // Minor version
+            in.readUnsignedShort(); // Major version
+
+            final String[] strings = readConstantPool(in);
+            in.readUnsignedShort(); // Access flags
+            in.readUnsignedShort(); // This class
+            in.readUnsignedShort(); // Super class
+            skip(in, 2 * in.readUnsignedShort()); // Interfaces
+
+            final int fields = in.readUnsignedShort();
+            for (int i = 0; i < fields; i++) {
+                skip(in, 6); // Access flags, name and descriptor
+                skipAttributes(in);
+            }
+
+            final Map<String, Integer> result = new LinkedHashMap<>();
+            final int methods = in.readUnsignedShort();
+            for (int i = 0; i < methods; i++) {
+                final int access = in.readUnsignedShort();
+                final String name = strings[in.readUnsignedShort()] + strings[in.readUnsignedShort()];
+
+                final int attributes = in.readUnsignedShort();
+                for (int j = 0; j < attributes; j++) {
+                    final String attribute = strings[in.readUnsignedShort()];
+                    final int length = in.readInt();
+
+                    if ("Code".equals(attribute) && Modifier.isPublic(access)) {
+                        in.readUnsignedShort(); // Max stack
+                        in.readUnsignedShort(); // Max locals
+                        final int size = in.readInt();
+                        result.put(name, size);
+                        skip(in, length - 8);
+                    } else {
+                        skip(in, length);
+                    }
+                }
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Reads the constant pool.
+     *
+     * @param in
+     *            the input to read. It must not be {@code null}.
+     *
+     * @return the array of UTF-8 constants indexed by their constant pool
+     *         indices, other constants are {@code null}
+     *
+     * @throws IOException
+     *             if reading fails
+     */
+    private static String[] readConstantPool(DataInputStream in) throws IOException {
+        final String[] result = new String[in.readUnsignedShort()];
+
+        for (int i = 1; i < result.length; i++) {
+            final int tag = in.readUnsignedByte();
+
+            switch (tag) {
+                case 1: // Utf8
+                    result[i] = in.readUTF();
+                    break;
+
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    skip(in, 2);
+                    break;
+
+                case 15: // MethodHandle
+                    skip(in, 3);
+                    break;
+
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    skip(in, 4);
+                    break;
+
+                case 5: // Long
+                case 6: // Double
+                    skip(in, 8);
+                    i++; // Takes two slots
+                    break;
+
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Skips attributes.
+     *
+     * @param in
+     *            the input to read. It must not be {@code null}.
+     *
+     * @throws IOException
+     *             if reading fails
+     */
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        final int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.readUnsignedShort(); // Name
+            skip(in, in.readInt());
+        }
+    }
+
+    /**
+     * Skips the given number of bytes.
+     *
+     * @param in
+     *            the input to read. It must not be {@code null}.
+     * @param count
+     *            the number of bytes to skip
+     *
+     * @throws IOException
+     *             if reading fails
+     */
+    private static void skip(DataInputStream in, int count) throws IOException {
+        in.readFully(new byte[count]);
+    }
+}
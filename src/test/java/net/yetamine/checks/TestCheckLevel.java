@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link CheckLevel}.
+ */
+public final class TestCheckLevel {
+
+    /**
+     * Tests the default state of the tiers.
+     */
+    @Test
+    public void enabledByDefault() {
+        Assert.assertTrue(CheckLevel.ALWAYS.isEnabled());
+        Assert.assertTrue(CheckLevel.NORMAL.isEnabled());
+        Assert.assertTrue(CheckLevel.EXPENSIVE.isEnabled());
+        Assert.assertFalse(CheckLevel.DIAGNOSTIC.isEnabled());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link CheckSampler}.
+ */
+public final class TestCheckSampler {
+
+    /**
+     * Tests that the rate 1 evaluates every check.
+     */
+    @Test
+    public void sampleAll() {
+        final CheckSampler sampler = CheckSampler.of(1);
+        for (int i = 0; i < 1_000; i++) {
+            Assert.assertTrue(sampler.sample());
+        }
+
+        Assert.assertEquals(sampler.rate(), 1);
+        Assert.assertEquals(sampler.skipped(), 0);
+    }
+
+    /**
+     * Tests that the samples match the rate and the skipped checks are counted
+     * up to the current gap.
+     */
+    @Test
+    public void sampleFraction() {
+        final CheckSampler sampler = CheckSampler.of(10);
+        final int calls = 100_000;
+
+        final int[] evaluated = { 0 };
+        for (int i = 0; i < calls; i++) {
+            Constraint.checkSampled(i, n -> ++evaluated[0] >= 0, IllegalStateException::new, sampler);
+        }
+
+        Assert.assertEquals(sampler.rate(), 10);
+        final long pending = calls - evaluated[0] - sampler.skipped();
+        Assert.assertTrue((0 <= pending) && (pending < 500), Long.toString(pending));
+        // Far beyond any reasonable deviation from the expected 10 000
+        Assert.assertTrue((8_000 < evaluated[0]) && (evaluated[0] < 12_000), Integer.toString(evaluated[0]));
+    }
+
+    /**
+     * Tests that an evaluated failing check throws.
+     */
+    @Test(expectedExceptions = { IllegalStateException.class })
+    public void checkSampledFailing() {
+        Constraint.checkSampled(1, n -> false, IllegalStateException::new, CheckSampler.of(1));
+    }
+
+    /**
+     * Tests an invalid rate.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void invalidRate() {
+        CheckSampler.of(0);
+    }
+}
@@ -16,6 +16,13 @@
 
 package net.yetamine.checks;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -191,4 +198,172 @@ public final class TestConstraint {
     public void checkFailing_D() throws FailingException {
         Constraint.check(1.0, false, FailingException::new);
     }
+
+    /**
+     * Tests passing checks with primitive predicates.
+     *
+     * @throws FailingException
+     *             if something fails
+     */
+    @Test
+    public void checkPrimitivePassed() throws FailingException {
+        Assert.assertEquals(Constraint.checkInt(1, i -> i > 0, FailingException::new), 1);
+        Assert.assertEquals(Constraint.checkLong(2L, l -> l > 0, FailingException::new), 2L);
+        Assert.assertEquals(Constraint.checkDouble(3.0, d -> d > 0, FailingException::new), 3.0);
+    }
+
+    /**
+     * Tests failing checks.
+     *
+     * @throws FailingException
+     *             if something fails
+     */
+    @Test(expectedExceptions = { FailingException.class })
+    public void checkPrimitiveFailing_I() throws FailingException {
+        Constraint.checkInt(1, i -> i < 0, FailingException::new);
+    }
+
+    /**
+     * Tests failing checks.
+     *
+     * @throws FailingException
+     *             if something fails
+     */
+    @Test(expectedExceptions = { FailingException.class })
+    public void checkPrimitiveFailing_L() throws FailingException {
+        Constraint.checkLong(1L, l -> l < 0, FailingException::new);
+    }
+
+    /**
+     * Tests failing checks.
+     *
+     * @throws FailingException
+     *             if something fails
+     */
+    @Test(expectedExceptions = { FailingException.class })
+    public void checkPrimitiveFailing_D() throws FailingException {
+        Constraint.checkDouble(1.0, d -> d < 0, FailingException::new);
+    }
+
+    /**
+     * Tests passing checks of multiple elements.
+     *
+     * @throws FailingException
+     *             if something fails
+     */
+    @Test
+    public void checkAllPassed() throws FailingException {
+        final List<Integer> list = new ArrayList<>(Collections.nCopies(100_000, 1));
+        final Integer[] array = list.toArray(new Integer[0]);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assert.assertSame(Constraint.checkAll(list, i -> i > 0, index -> new FailingException()), list);
+            Assert.assertSame(Constraint.checkAll(list, i -> i > 0, index -> new FailingException(), pool), list);
+            Assert.assertSame(Constraint.checkAll(array, i -> i > 0, index -> new FailingException()), array);
+            Assert.assertSame(Constraint.checkAll(array, i -> i > 0, index -> new FailingException(), pool), array);
+            Constraint.checkAll(list.spliterator(), i -> i > 0, index -> new FailingException());
+            Constraint.checkAll(list.spliterator(), i -> i > 0, index -> new FailingException(), pool);
+            Assert.assertEquals(Constraint.indexOfViolation(list, i -> i > 0), -1);
+            Assert.assertEquals(Constraint.indexOfViolation(Collections.emptyList(), i -> false), -1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests failing checks of multiple elements.
+     *
+     * @throws FailingException
+     *             if something fails
+     */
+    @Test(expectedExceptions = { FailingException.class })
+    public void checkAllFailing() throws FailingException {
+        final Integer[] array = new Integer[100_000];
+        Arrays.fill(array, 1);
+        array[99_999] = 0;
+        Constraint.checkAll(array, i -> i > 0, index -> new FailingException());
+    }
+
+    /**
+     * Tests that failing checks of multiple elements report the index of the
+     * first violating element.
+     */
+    @Test
+    public void checkAllIndex() {
+        final List<Integer> list = new ArrayList<>(Collections.nCopies(100_000, 1));
+        list.set(70_000, 0);
+        list.set(90_000, 0);
+        final Integer[] array = list.toArray(new Integer[0]);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final LongFunction<IllegalArgumentException> factory = index -> new IllegalArgumentException(Long.toString(index));
+            Assert.assertEquals(Assert.expectThrows(IllegalArgumentException.class, () -> Constraint.checkAll(list, i -> i > 0, factory)).getMessage(), "70000");
+            Assert.assertEquals(Assert.expectThrows(IllegalArgumentException.class, () -> Constraint.checkAll(list, i -> i > 0, factory, pool)).getMessage(), "70000");
+            Assert.assertEquals(Assert.expectThrows(IllegalArgumentException.class, () -> Constraint.checkAll(array, i -> i > 0, factory)).getMessage(), "70000");
+            Assert.assertEquals(Assert.expectThrows(IllegalArgumentException.class, () -> Constraint.checkAll(array, i -> i > 0, factory, pool)).getMessage(), "70000");
+            Assert.assertEquals(Assert.expectThrows(IllegalArgumentException.class, () -> Constraint.checkAll(list.spliterator(), i -> i > 0, factory)).getMessage(), "70000");
+            Assert.assertEquals(Assert.expectThrows(IllegalArgumentException.class, () -> Constraint.checkAll(list.spliterator(), i -> i > 0, factory, pool)).getMessage(), "70000");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests passing tiered checks.
+     *
+     * @throws FailingException
+     *             if something fails
+     */
+    @Test
+    public void checkTieredPassed() throws FailingException {
+        final Object o = new Object();
+        Assert.assertSame(Constraint.checkNormal(o, t -> t == o, FailingException::new), o);
+        Assert.assertSame(Constraint.checkExpensive(o, t -> t == o, FailingException::new), o);
+    }
+
+    /**
+     * Tests failing tiered checks, which are enabled by default.
+     */
+    @Test
+    public void checkTieredFailing() {
+        Assert.expectThrows(FailingException.class, () -> Constraint.checkNormal(1, i -> false, FailingException::new));
+        Assert.expectThrows(FailingException.class, () -> Constraint.checkExpensive(1, i -> false, FailingException::new));
+    }
+
+    /**
+     * Tests that the first violation is found.
+     */
+    @Test
+    public void indexOfViolation() {
+        final List<Integer> list = new ArrayList<>(Collections.nCopies(200_000, 1));
+        list.set(30_000, 0);
+        list.set(70_000, 0);
+        list.set(199_999, 0);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 20; i++) {
+                Assert.assertEquals(Constraint.indexOfViolation(list, n -> n > 0), 30_000);
+                Assert.assertEquals(Constraint.indexOfViolation(list, n -> n > 0, pool), 30_000);
+                Assert.assertEquals(Constraint.indexOfViolation(list.toArray(new Integer[0]), n -> n > 0, pool), 30_000);
+                Assert.assertEquals(Constraint.indexOfViolation(list.spliterator(), n -> n > 0, pool), 30_000);
+            }
+
+            // Not SUBSIZED, hence scanned sequentially
+            Assert.assertEquals(Constraint.indexOfViolation(list.stream().filter(n -> true).spliterator(), n -> n > 0, pool), 30_000);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that a failing condition propagates its exception.
+     */
+    @Test(expectedExceptions = { UnsupportedOperationException.class })
+    public void indexOfViolationThrowing() {
+        final List<Integer> list = new ArrayList<>(Collections.nCopies(100_000, 1));
+        Constraint.indexOfViolation(list, n -> {
+            throw new UnsupportedOperationException();
+        });
+    }
 }
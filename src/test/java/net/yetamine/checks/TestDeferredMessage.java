@@ -0,0 +1,178 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link DeferredMessage} and the exceptions using it.
+ */
+public final class TestDeferredMessage {
+
+    /**
+     * Tests formatting of all argument kinds.
+     */
+    @Test
+    public void testFormatting() {
+        Assert.assertEquals(DeferredMessage.of("%d", 1).toString(), "1");
+        Assert.assertEquals(DeferredMessage.of("%d", 2L).toString(), "2");
+        Assert.assertEquals(DeferredMessage.of("%s", 1.5).toString(), "1.5");
+        Assert.assertEquals(DeferredMessage.of("%s", "a").toString(), "a");
+        Assert.assertEquals(DeferredMessage.of("%d %d", 1, 2).toString(), "1 2");
+        Assert.assertEquals(DeferredMessage.of("%d %d", Long.MIN_VALUE, Long.MAX_VALUE).toString(), Long.MIN_VALUE + " " + Long.MAX_VALUE);
+        Assert.assertEquals(DeferredMessage.of("%s %s", -0.0, Double.NaN).toString(), "-0.0 NaN");
+        Assert.assertEquals(DeferredMessage.of("%s %s", "a", null).toString(), "a null");
+    }
+
+    /**
+     * Tests the template and arguments access.
+     */
+    @Test
+    public void testAccess() {
+        final DeferredMessage m = DeferredMessage.of("%d %d", 1L, 2L);
+        Assert.assertEquals(m.template(), "%d %d");
+        Assert.assertEquals(m.arguments(), Arrays.asList(1L, 2L));
+    }
+
+    /**
+     * Tests formatting a template which does not match its arguments.
+     */
+    @Test
+    public void testMismatch() {
+        Assert.assertEquals(DeferredMessage.of("Value %d", 1.5).toString(), "Value %d [1.5]");
+        Assert.assertEquals(DeferredMessage.of("Range %d %d %d", 1L, 2L).toString(), "Range %d %d %d [1, 2]");
+
+        final LazyIllegalStateException e = new LazyIllegalStateException(DeferredMessage.of("State %x", "closed"));
+        Assert.assertEquals(e.getMessage(), "State %x [closed]");
+        Assert.assertTrue(e.toString().endsWith("State %x [closed]"));
+    }
+
+    /**
+     * Tests that the message is formatted lazily.
+     */
+    @Test
+    public void testLaziness() {
+        final StringBuilder argument = new StringBuilder("before");
+        final LazyIllegalArgumentException e = new LazyIllegalArgumentException(DeferredMessage.of("%s", argument));
+        argument.replace(0, argument.length(), "after");
+        Assert.assertEquals(e.getMessage(), "after");
+        argument.replace(0, argument.length(), "changed");
+        Assert.assertEquals(e.getMessage(), "after"); // Formatted just once
+        Assert.assertEquals(e.getTemplate(), "%s");
+        Assert.assertEquals(e.getArguments(), Arrays.asList(argument));
+    }
+
+    /**
+     * Tests the exception types thrown by the checks.
+     */
+    @Test
+    public void testExceptions() {
+        try {
+            Argument.check(1, false, "Argument %d", 1);
+            Assert.fail();
+        } catch (LazyIllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Argument 1");
+        }
+
+        try {
+            IndexBounds.check(1, false, "Index %d", 1);
+            Assert.fail();
+        } catch (LazyIndexOutOfBoundsException e) {
+            Assert.assertEquals(e.getMessage(), "Index 1");
+        }
+
+        try {
+            StateCondition.check(false, "State %d", 1);
+            Assert.fail();
+        } catch (LazyIllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "State 1");
+        }
+    }
+
+    /**
+     * Tests serialization of the exceptions.
+     *
+     * @throws Exception
+     *             if something fails
+     */
+    @Test
+    public void testSerialization() throws Exception {
+        final Object unserializable = new Object() {
+            @Override
+            public String toString() {
+                return "object";
+            }
+        };
+
+        final LazyIllegalStateException e = new LazyIllegalStateException(DeferredMessage.of("%s %s", unserializable, 1));
+        final LazyIllegalStateException d = deserialize(serialize(e), LazyIllegalStateException.class);
+        Assert.assertEquals(d.getMessage(), "object 1");
+        Assert.assertEquals(d.getTemplate(), "%s %s");
+        Assert.assertTrue(d.getArguments().isEmpty());
+    }
+
+    /**
+     * Serializes an object.
+     *
+     * @param o
+     *            the object to serialize
+     *
+     * @return the serialized form
+     *
+     * @throws IOException
+     *             if the serialization fails
+     */
+    private static byte[] serialize(Object o) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(o);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes an object.
+     *
+     * @param <T>
+     *            the type of the object
+     * @param bytes
+     *            the serialized form
+     * @param type
+     *            the type of the object
+     *
+     * @return the deserialized object
+     *
+     * @throws IOException
+     *             if the deserialization fails
+     * @throws ClassNotFoundException
+     *             if the class of the object is not available
+     */
+    private static <T> T deserialize(byte[] bytes, Class<T> type) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return type.cast(in.readObject());
+        }
+    }
+}
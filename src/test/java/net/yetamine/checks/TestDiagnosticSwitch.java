@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link DiagnosticSwitch}.
+ */
+public final class TestDiagnosticSwitch {
+
+    /**
+     * Turns the switch off after each test.
+     */
+    @AfterMethod
+    public void reset() {
+        DiagnosticSwitch.setEnabled(false);
+    }
+
+    /**
+     * Tests turning the checks on and off.
+     */
+    @Test
+    public void toggle() {
+        final int[] evaluated = { 0 };
+
+        Assert.assertFalse(DiagnosticSwitch.isEnabled());
+        StateCondition.checkDiagnostic(() -> ++evaluated[0] < 0, "Skipped");
+        Assert.assertEquals(evaluated[0], 0);
+
+        DiagnosticSwitch.setEnabled(true);
+        Assert.assertTrue(DiagnosticSwitch.isEnabled());
+        Assert.assertTrue(CheckLevel.DIAGNOSTIC.isEnabled());
+        Assert.expectThrows(IllegalStateException.class, () -> StateCondition.checkDiagnostic(() -> ++evaluated[0] < 0, "Failed"));
+        Assert.assertEquals(evaluated[0], 1);
+        final Object o = new Object();
+        Assert.expectThrows(UnsupportedOperationException.class, () -> Constraint.checkDiagnostic(o, t -> false, UnsupportedOperationException::new));
+        Assert.assertSame(Constraint.checkDiagnostic(o, t -> t == o, UnsupportedOperationException::new), o);
+
+        DiagnosticSwitch.setEnabled(false);
+        Assert.assertFalse(DiagnosticSwitch.isEnabled());
+        Assert.assertSame(Constraint.checkDiagnostic(o, t -> false, UnsupportedOperationException::new), o);
+    }
+
+    /**
+     * Tests operating the switch via JMX.
+     *
+     * @throws Exception
+     *             if something fails
+     */
+    @Test
+    public void management() throws Exception {
+        final ObjectName name = DiagnosticSwitch.register();
+        Assert.assertEquals(DiagnosticSwitch.register(), name);
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        Assert.assertEquals(server.getAttribute(name, "Enabled"), Boolean.FALSE);
+        server.setAttribute(name, new Attribute("Enabled", Boolean.TRUE));
+        Assert.assertTrue(DiagnosticSwitch.isEnabled());
+        Assert.assertEquals(server.getAttribute(name, "Enabled"), Boolean.TRUE);
+    }
+}
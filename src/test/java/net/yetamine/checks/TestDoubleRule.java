@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link DoubleRule}.
+ */
+public final class TestDoubleRule {
+
+    /** Rule for testing. */
+    private static final DoubleRule<IllegalArgumentException> POSITIVE = DoubleRule.argument(v -> v > 0, "Negative %s");
+
+    /**
+     * A rule implemented by inheritance.
+     */
+    private static final class Negative extends DoubleRule<IllegalStateException> {
+
+        /**
+         * Creates a new instance.
+         */
+        public Negative() {
+            super("Positive %s", IllegalStateException::new);
+        }
+
+        /**
+         * @see net.yetamine.checks.DoubleRule#test(double)
+         */
+        @Override
+        public boolean test(double value) {
+            return (value < 0);
+        }
+    }
+
+    /**
+     * Tests passing checks.
+     */
+    @Test
+    public void checkPassed() {
+        Assert.assertEquals(POSITIVE.check(1.0), 1.0);
+        Assert.assertEquals(new Negative().check(-1.0), -1.0);
+        Assert.assertEquals(DoubleRule.state(v -> true, "").check(1.0), 1.0);
+        Assert.assertEquals(DoubleRule.index(v -> true, "").check(1.0), 1.0);
+        Assert.assertEquals(DoubleRule.of(v -> true, "", IllegalStateException::new).check(1.0), 1.0);
+        Assert.assertTrue(POSITIVE.test(1.0));
+        Assert.assertEquals(POSITIVE.toString(), "Negative %s");
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void checkFailed1() {
+        try {
+            POSITIVE.check(-1.0);
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Negative -1.0");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalStateException.class })
+    public void checkFailed2() {
+        try {
+            new Negative().check(1.0);
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "Positive 1.0");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IndexOutOfBoundsException.class })
+    public void checkFailed3() {
+        DoubleRule.index(v -> false, "").check(1.0);
+    }
+
+    /**
+     * Tests composed rules.
+     */
+    @Test
+    public void checkComposed() {
+        final DoubleRule<IllegalArgumentException> small = DoubleRule.argument(v -> v < 100, "Big");
+        final DoubleRule<IllegalArgumentException> odd = DoubleRule.argument(v -> v != 2, "Two");
+        final DoubleRule<IllegalArgumentException> all = POSITIVE.and(small).and(odd);
+        Assert.assertEquals(all.check(1.0), 1.0);
+        Assert.assertEquals(all.indexOfViolation(1.0), -1);
+        Assert.assertEquals(all.indexOfViolation(-1.0), 0);
+        Assert.assertEquals(all.indexOfViolation(200.0), 1);
+        Assert.assertEquals(all.indexOfViolation(2), 2);
+        Assert.assertEquals(all.toString(), "allOf[Negative %s, Big, Two]");
+
+        try {
+            all.check(200.0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Big");
+        }
+
+        final DoubleRule<IllegalArgumentException> any = DoubleRule.anyOf(DoubleRule.not(small, "Small", IllegalArgumentException::new), POSITIVE);
+        Assert.assertEquals(any.check(200.0), 200.0);
+        Assert.assertEquals(any.check(50.0), 50.0);
+        Assert.assertEquals(any.indexOfViolation(-1.0), 0);
+
+        try {
+            any.check(-1.0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Small");
+        }
+    }
+
+    /**
+     * Tests composing no rules.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void checkComposedEmpty() {
+        Assert.assertTrue(DoubleRule.allOf().test(-1.0));
+        DoubleRule.anyOf();
+    }
+
+    /**
+     * Tests that a composed rule evaluates its rules once when failing.
+     */
+    @Test
+    public void checkComposedOnce() {
+        final int[] calls = { 0 };
+        final DoubleRule<IllegalArgumentException> flaky = DoubleRule.argument(v -> 0 < calls[0]++, "Flaky");
+
+        try {
+            DoubleRule.allOf(POSITIVE, flaky).check(1.0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Flaky");
+        }
+
+        Assert.assertEquals(calls[0], 1);
+
+        calls[0] = 0; // Nested, so that the failure must be evaluated again
+        try {
+            DoubleRule.anyOf(DoubleRule.allOf(POSITIVE, flaky)).check(1.0);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().endsWith(" not satisfied consistently by 1.0."));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link FailureCounters}.
+ */
+public final class TestFailureCounters {
+
+    /**
+     * Tests that the counting is disabled by default.
+     */
+    @Test
+    public void disabledByDefault() {
+        Assert.assertFalse(FailureCounters.isEnabled());
+    }
+
+    /**
+     * Tests counting the failures per site and type.
+     */
+    @Test
+    public void record() {
+        FailureCounters.reset();
+        for (int i = 0; i < 3; i++) {
+            recordAtSameSite(IllegalStateException.class);
+        }
+
+        recordAtSameSite(IllegalArgumentException.class);
+
+        final Map<String, Map<Class<? extends Throwable>, Long>> snapshot = FailureCounters.snapshot();
+        Assert.assertEquals(snapshot.size(), 1);
+        final Map.Entry<String, Map<Class<? extends Throwable>, Long>> site = snapshot.entrySet().iterator().next();
+        Assert.assertTrue(site.getKey().startsWith(TestFailureCounters.class.getName() + ".recordAtSameSite:"), site.getKey());
+        Assert.assertEquals(site.getValue().get(IllegalStateException.class), Long.valueOf(3));
+        Assert.assertEquals(site.getValue().get(IllegalArgumentException.class), Long.valueOf(1));
+        Assert.assertEquals(FailureCounters.total(), 4);
+
+        FailureCounters.reset();
+        Assert.assertTrue(FailureCounters.snapshot().isEmpty());
+        Assert.assertEquals(FailureCounters.total(), 0);
+    }
+
+    /**
+     * Counts a failure, always at the same site.
+     *
+     * @param type
+     *            the type of the exception. It must not be {@code null}.
+     */
+    private static void recordAtSameSite(Class<? extends Throwable> type) {
+        FailureCounters.record(type);
+    }
+
+    /**
+     * Tests recognizing the classes of this library.
+     */
+    @Test
+    public void isLibrary() {
+        Assert.assertTrue(FailureCounters.isLibrary(Argument.class.getName()));
+        Assert.assertTrue(FailureCounters.isLibrary(Constraint.class.getName() + "$Nested"));
+        Assert.assertTrue(FailureCounters.isLibrary(Rule.class.getName() + "$$Lambda$1/0x1234"));
+        Assert.assertFalse(FailureCounters.isLibrary("net.yetamine.checks.flow.CheckingProcessor"));
+        Assert.assertFalse(FailureCounters.isLibrary(TestFailureCounters.class.getName()));
+        Assert.assertFalse(FailureCounters.isLibrary(TestFailureCounters.class.getName() + "$Nested"));
+        Assert.assertFalse(FailureCounters.isLibrary(Object.class.getName()));
+    }
+
+    /**
+     * Tests recognizing the callers.
+     */
+    @Test
+    public void isCaller() {
+        Assert.assertTrue(FailureCounters.isCaller(TestFailureCounters.class.getName()));
+        Assert.assertFalse(FailureCounters.isCaller(Argument.class.getName()));
+        Assert.assertFalse(FailureCounters.isCaller("java.util.stream.ReferencePipeline$3$1"));
+        Assert.assertFalse(FailureCounters.isCaller("jdk.internal.reflect.DirectMethodHandleAccessor"));
+    }
+
+    /**
+     * Tests that a check in a stream pipeline is reported at the site running
+     * the pipeline.
+     */
+    @Test
+    public void streamSite() {
+        FailureCounters.reset();
+        Stream.of(IllegalStateException.class).forEach(FailureCounters::record);
+
+        final Map<String, Map<Class<? extends Throwable>, Long>> snapshot = FailureCounters.snapshot();
+        Assert.assertEquals(snapshot.size(), 1);
+        final String site = snapshot.keySet().iterator().next();
+        Assert.assertTrue(site.startsWith(TestFailureCounters.class.getName() + ".streamSite:"), site);
+        FailureCounters.reset();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link Failures}.
+ */
+public final class TestFailures {
+
+    /**
+     * Tests the types of the exceptions and their stack traces, which must be
+     * present unless the stackless mode is enabled.
+     */
+    @Test
+    public void testExceptions() {
+        final DeferredMessage message = DeferredMessage.of("%d", 1);
+
+        verify(Failures.illegalArgument(), IllegalArgumentException.class);
+        verify(Failures.illegalArgument("message"), IllegalArgumentException.class);
+        verify(Failures.illegalArgument(message), LazyIllegalArgumentException.class);
+        verify(Failures.indexOutOfBounds(), IndexOutOfBoundsException.class);
+        verify(Failures.indexOutOfBounds("message"), IndexOutOfBoundsException.class);
+        verify(Failures.indexOutOfBounds(message), LazyIndexOutOfBoundsException.class);
+        verify(Failures.illegalState(), IllegalStateException.class);
+        verify(Failures.illegalState("message"), IllegalStateException.class);
+        verify(Failures.illegalState(message), LazyIllegalStateException.class);
+    }
+
+    /**
+     * Verifies an exception.
+     *
+     * @param e
+     *            the exception to verify
+     * @param type
+     *            the expected type of the exception
+     */
+    private static void verify(RuntimeException e, Class<?> type) {
+        Assert.assertTrue(type.isInstance(e));
+        Assert.assertEquals(e.getStackTrace().length == 0, Failures.STACKLESS);
+    }
+}
@@ -16,6 +16,7 @@
 
 package net.yetamine.checks;
 
+import java.nio.ByteBuffer;
 import java.util.function.Supplier;
 
 import org.testng.Assert;
@@ -43,6 +44,10 @@ public final class TestIndexBounds {
         Assert.assertSame(IndexBounds.check(o, true), o);
         Assert.assertSame(IndexBounds.check(o, true, ""), o);
         Assert.assertSame(IndexBounds.check(o, true, () -> ""), o);
+
+        Assert.assertEquals(IndexBounds.check(7, true, "%d", 7), 7);
+        Assert.assertEquals(IndexBounds.check(8L, true, "%d %d", 8L, 9L), 8L);
+        Assert.assertSame(IndexBounds.check(o, true, "%s", o), o);
     }
 
     /**
@@ -147,6 +152,45 @@ public final class TestIndexBounds {
         }
     }
 
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IndexOutOfBoundsException.class })
+    public void checkFailed4_I() {
+        try {
+            IndexBounds.check(4, false, "Index %d out of bounds [0, %d)", 4, 3);
+        } catch (IndexOutOfBoundsException e) {
+            Assert.assertEquals(e.getMessage(), "Index 4 out of bounds [0, 3)");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IndexOutOfBoundsException.class })
+    public void checkFailed4_L() {
+        try {
+            IndexBounds.check(4L, false, "Index %d out of bounds", 4L);
+        } catch (IndexOutOfBoundsException e) {
+            Assert.assertEquals(e.getMessage(), "Index 4 out of bounds");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IndexOutOfBoundsException.class })
+    public void checkFailed4_O() {
+        try {
+            IndexBounds.check(null, false, "Index %s out of bounds", "x");
+        } catch (IndexOutOfBoundsException e) {
+            Assert.assertEquals(e.getMessage(), "Index x out of bounds");
+            throw e;
+        }
+    }
+
     /**
      * Tests missing supplier.
      *
@@ -224,4 +268,216 @@ public final class TestIndexBounds {
         final Supplier<String> s = null;
         IndexBounds.check(null, true, s);
     }
+
+    /**
+     * Tests index checks against the reference implementation.
+     */
+    @Test
+    public void checkIndex() {
+        final int[] values = { Integer.MIN_VALUE, -2, -1, 0, 1, 2, 3, Integer.MAX_VALUE - 1, Integer.MAX_VALUE };
+
+        for (int index : values) {
+            for (int length : values) {
+                final boolean valid = (0 <= index) && (index < length);
+                Assert.assertEquals(passes(() -> IndexBounds.checkIndex(index, length)), valid);
+                Assert.assertEquals(passes(() -> IndexBounds.checkIndex((long) index, (long) length)), valid);
+            }
+        }
+
+        Assert.assertFalse(passes(() -> IndexBounds.checkIndex(Long.MIN_VALUE, Long.MAX_VALUE)));
+        Assert.assertTrue(passes(() -> IndexBounds.checkIndex(Long.MAX_VALUE - 1, Long.MAX_VALUE)));
+        Assert.assertEquals(IndexBounds.checkIndex(2, 3), 2);
+        Assert.assertEquals(IndexBounds.checkIndex(2L, 3L), 2L);
+    }
+
+    /**
+     * Tests sub-range checks against the reference implementation.
+     */
+    @Test
+    public void checkFromToIndex() {
+        final int[] values = { Integer.MIN_VALUE, -2, -1, 0, 1, 2, 3, Integer.MAX_VALUE - 1, Integer.MAX_VALUE };
+
+        for (int from : values) {
+            for (int to : values) {
+                for (int length : values) {
+                    final boolean valid = (0 <= from) && (from <= to) && (to <= length);
+                    Assert.assertEquals(passes(() -> IndexBounds.checkFromToIndex(from, to, length)), valid);
+                    Assert.assertEquals(passes(() -> IndexBounds.checkFromToIndex((long) from, (long) to, (long) length)), valid);
+                }
+            }
+        }
+
+        Assert.assertEquals(IndexBounds.checkFromToIndex(1, 3, 3), 1);
+        Assert.assertEquals(IndexBounds.checkFromToIndex(1L, 3L, 3L), 1L);
+    }
+
+    /**
+     * Tests sub-range checks against the reference implementation.
+     */
+    @Test
+    public void checkFromIndexSize() {
+        final int[] values = { Integer.MIN_VALUE, -2, -1, 0, 1, 2, 3, Integer.MAX_VALUE - 1, Integer.MAX_VALUE };
+
+        for (int from : values) {
+            for (int size : values) {
+                for (int length : values) {
+                    final boolean valid = (0 <= from) && (0 <= size) && ((long) from + size <= length);
+                    Assert.assertEquals(passes(() -> IndexBounds.checkFromIndexSize(from, size, length)), valid);
+                    Assert.assertEquals(passes(() -> IndexBounds.checkFromIndexSize((long) from, (long) size, (long) length)), valid);
+                }
+            }
+        }
+
+        Assert.assertFalse(passes(() -> IndexBounds.checkFromIndexSize(1L, Long.MAX_VALUE, Long.MAX_VALUE)));
+        Assert.assertEquals(IndexBounds.checkFromIndexSize(1, 2, 3), 1);
+        Assert.assertEquals(IndexBounds.checkFromIndexSize(1L, 2L, 3L), 1L);
+    }
+
+    /**
+     * Tests region checks.
+     */
+    @Test
+    public void checkRegion() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        buffer.limit(12);
+
+        Assert.assertEquals(IndexBounds.checkRegion(buffer, 8, 4), 8);
+        Assert.assertEquals(IndexBounds.checkRegion(buffer, 12, 0), 12);
+        Assert.assertFalse(passes(() -> IndexBounds.checkRegion(buffer, 9, 4)));
+        Assert.assertFalse(passes(() -> IndexBounds.checkRegion(buffer, -1, 4)));
+        Assert.assertFalse(passes(() -> IndexBounds.checkRegion(buffer, 1, Integer.MAX_VALUE)));
+
+        Assert.assertEquals(IndexBounds.checkRegion(8L, 8L, 16L), 8L);
+        Assert.assertFalse(passes(() -> IndexBounds.checkRegion(8L, 9L, 16L)));
+        Assert.assertFalse(passes(() -> IndexBounds.checkRegion(8L, Long.MAX_VALUE, Long.MAX_VALUE)));
+        Assert.assertFalse(passes(() -> IndexBounds.checkRegion(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE)));
+        Assert.assertFalse(passes(() -> IndexBounds.checkRegion(0L, 1L, -1L)));
+    }
+
+    /**
+     * Tests region end checks against the reference implementation.
+     */
+    @Test
+    public void checkRegionEnd() {
+        final int[] values = { Integer.MIN_VALUE, -2, -1, 0, 1, 2, 3, Integer.MAX_VALUE - 1, Integer.MAX_VALUE };
+
+        for (int offset : values) {
+            for (int length : values) {
+                for (int capacity : values) {
+                    final boolean valid = (0 <= offset) && (0 <= length) && ((long) offset + length <= capacity);
+                    Assert.assertEquals(passes(() -> IndexBounds.checkRegionEnd(offset, length, capacity)), valid);
+                    Assert.assertEquals(passes(() -> IndexBounds.checkRegionEnd((long) offset, (long) length, (long) capacity)), valid);
+                    Assert.assertEquals(passes(() -> IndexBounds.checkRegionPacked(offset, length, capacity)), valid);
+
+                    if (valid) {
+                        final long region = IndexBounds.checkRegionPacked(offset, length, capacity);
+                        Assert.assertEquals(IndexBounds.regionOffset(region), offset);
+                        Assert.assertEquals(IndexBounds.regionLength(region), length);
+                        Assert.assertEquals(IndexBounds.regionEnd(region), offset + length);
+                    }
+                }
+            }
+        }
+
+        Assert.assertFalse(passes(() -> IndexBounds.checkRegionEnd(1L, Long.MAX_VALUE, Long.MAX_VALUE)));
+        Assert.assertFalse(passes(() -> IndexBounds.checkRegionEnd(0L, 1L, Long.MIN_VALUE)));
+        Assert.assertEquals(IndexBounds.checkRegionEnd(1, 2, 3), 3);
+        Assert.assertEquals(IndexBounds.checkRegionEnd(1L, 2L, 3L), 3L);
+        Assert.assertEquals(IndexBounds.checkRegionEnd(Long.MAX_VALUE - 1, 1L, Long.MAX_VALUE), Long.MAX_VALUE);
+    }
+
+    /**
+     * Tests alignment checks against the reference implementation.
+     */
+    @Test
+    public void checkAligned() {
+        final int[] alignments = { Integer.MIN_VALUE, -8, -1, 0, 1, 2, 3, 4, 6, 8, 1 << 30, Integer.MAX_VALUE };
+        final long[] offsets = { Long.MIN_VALUE, -8, -1, 0, 1, 2, 4, 8, 12, 16, 1L << 30, 1L << 31, Long.MAX_VALUE };
+
+        for (int alignment : alignments) {
+            final boolean power = (0 < alignment) && (Integer.bitCount(alignment) == 1);
+
+            for (long offset : offsets) {
+                final boolean valid = power && ((offset % alignment) == 0);
+                Assert.assertEquals(aligned(() -> IndexBounds.checkAligned(offset, alignment)), valid);
+
+                if ((int) offset == offset) {
+                    Assert.assertEquals(aligned(() -> IndexBounds.checkAligned((int) offset, alignment)), valid);
+                }
+            }
+        }
+
+        Assert.assertEquals(IndexBounds.checkAligned(24, 8), 24);
+        Assert.assertEquals(IndexBounds.checkAligned(24L, 8), 24L);
+
+        try {
+            IndexBounds.checkAligned(12L, 8);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Offset 12 not aligned to 8");
+        }
+    }
+
+    /**
+     * Tests messages of range checks.
+     */
+    @Test
+    public void checkRangeMessages() {
+        try {
+            IndexBounds.checkIndex(3, 3);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            Assert.assertEquals(e.getMessage(), "Index 3 out of bounds for length 3");
+        }
+
+        try {
+            IndexBounds.checkFromToIndex(2, 4, 3);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            Assert.assertEquals(e.getMessage(), "Range [2, 4) out of bounds for length 3");
+        }
+
+        try {
+            IndexBounds.checkFromIndexSize(2L, 2L, 3L);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            Assert.assertEquals(e.getMessage(), "Range [2, 2 + 2) out of bounds for length 3");
+        }
+    }
+
+    /**
+     * Runs a check and indicates whether it passed.
+     *
+     * @param check
+     *            the check to run. It must not be {@code null}.
+     *
+     * @return {@code true} if the check passed, {@code false} if it threw
+     *         {@link IndexOutOfBoundsException}
+     */
+    private static boolean passes(Runnable check) {
+        try {
+            check.run();
+            return true;
+        } catch (IndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs an alignment check and indicates whether it passed.
+     *
+     * @param check
+     *            the check to run. It must not be {@code null}.
+     *
+     * @return {@code true} if the check passed, {@code false} if it threw
+     *         {@link IllegalArgumentException}
+     */
+    private static boolean aligned(Runnable check) {
+        try {
+            check.run();
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
 }
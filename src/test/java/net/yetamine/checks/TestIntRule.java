@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link IntRule}.
+ */
+public final class TestIntRule {
+
+    /** Rule for testing. */
+    private static final IntRule<IllegalArgumentException> POSITIVE = IntRule.argument(v -> v > 0, "Negative %d");
+
+    /**
+     * A rule implemented by inheritance.
+     */
+    private static final class Negative extends IntRule<IllegalStateException> {
+
+        /**
+         * Creates a new instance.
+         */
+        public Negative() {
+            super("Positive %d", IllegalStateException::new);
+        }
+
+        /**
+         * @see net.yetamine.checks.IntRule#test(int)
+         */
+        @Override
+        public boolean test(int value) {
+            return (value < 0);
+        }
+    }
+
+    /**
+     * Tests passing checks.
+     */
+    @Test
+    public void checkPassed() {
+        Assert.assertEquals(POSITIVE.check(1), 1);
+        Assert.assertEquals(new Negative().check(-1), -1);
+        Assert.assertEquals(IntRule.state(v -> true, "").check(1), 1);
+        Assert.assertEquals(IntRule.index(v -> true, "").check(1), 1);
+        Assert.assertEquals(IntRule.of(v -> true, "", IllegalStateException::new).check(1), 1);
+        Assert.assertTrue(POSITIVE.test(1));
+        Assert.assertEquals(POSITIVE.toString(), "Negative %d");
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void checkFailed1() {
+        try {
+            POSITIVE.check(-1);
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Negative -1");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalStateException.class })
+    public void checkFailed2() {
+        try {
+            new Negative().check(1);
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "Positive 1");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IndexOutOfBoundsException.class })
+    public void checkFailed3() {
+        IntRule.index(v -> false, "").check(1);
+    }
+
+    /**
+     * Tests composed rules.
+     */
+    @Test
+    public void checkComposed() {
+        final IntRule<IllegalArgumentException> small = IntRule.argument(v -> v < 100, "Big");
+        final IntRule<IllegalArgumentException> odd = IntRule.argument(v -> v != 2, "Two");
+        final IntRule<IllegalArgumentException> all = POSITIVE.and(small).and(odd);
+        Assert.assertEquals(all.check(1), 1);
+        Assert.assertEquals(all.indexOfViolation(1), -1);
+        Assert.assertEquals(all.indexOfViolation(-1), 0);
+        Assert.assertEquals(all.indexOfViolation(200), 1);
+        Assert.assertEquals(all.indexOfViolation(2), 2);
+        Assert.assertEquals(all.toString(), "allOf[Negative %d, Big, Two]");
+
+        try {
+            all.check(200);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Big");
+        }
+
+        final IntRule<IllegalArgumentException> any = IntRule.anyOf(IntRule.not(small, "Small", IllegalArgumentException::new), POSITIVE);
+        Assert.assertEquals(any.check(200), 200);
+        Assert.assertEquals(any.check(50), 50);
+        Assert.assertEquals(any.indexOfViolation(-1), 0);
+
+        try {
+            any.check(-1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Small");
+        }
+    }
+
+    /**
+     * Tests composing no rules.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void checkComposedEmpty() {
+        Assert.assertTrue(IntRule.allOf().test(-1));
+        IntRule.anyOf();
+    }
+
+    /**
+     * Tests that a composed rule evaluates its rules once when failing.
+     */
+    @Test
+    public void checkComposedOnce() {
+        final int[] calls = { 0 };
+        final IntRule<IllegalArgumentException> flaky = IntRule.argument(v -> 0 < calls[0]++, "Flaky");
+
+        try {
+            IntRule.allOf(POSITIVE, flaky).check(1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Flaky");
+        }
+
+        Assert.assertEquals(calls[0], 1);
+
+        calls[0] = 0; // Nested, so that the failure must be evaluated again
+        try {
+            IntRule.anyOf(IntRule.allOf(POSITIVE, flaky)).check(1);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().endsWith(" not satisfied consistently by 1."));
+        }
+    }
+}
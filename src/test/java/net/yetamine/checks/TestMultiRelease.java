@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the packaged archive provides the versioned classes.
+ *
+ * <p>
+ * The build runs the tests twice: with the compiled classes, which provide
+ * the baseline implementations only, and with the packaged multi-release
+ * archive, which provides the versioned implementations on newer platforms.
+ * The second run sets the system property {@code test.multiRelease}, so that
+ * this test can verify that the other tests really exercise the versioned
+ * implementations; the first run skips this test.
+ */
+public final class TestMultiRelease {
+
+    /** Name of the property indicating the run with the archive. */
+    private static final String PROPERTY = "test.multiRelease";
+    /** Magic number of class files. */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /**
+     * Provides the versioned classes.
+     *
+     * @return the versioned classes and the major versions of their class
+     *         files
+     */
+    @DataProvider(name = "versioned")
+    public static Object[][] versioned() {
+        return new Object[][] {
+            // @formatter:off
+            { "RangeChecks",   53 },
+            { "CallSites",     53 },
+            { "FailureEvents", 55 },
+            { "ArrayScans",    61 },
+            { "VectorScans",   61 }
+            // @formatter:on
+        };
+    }
+
+    /**
+     * Tests that the versioned class is loaded.
+     *
+     * @param name
+     *            the simple name of the class
+     * @param version
+     *            the expected major version of the class file
+     *
+     * @throws IOException
+     *             if the class file could not be read
+     */
+    @Test(dataProvider = "versioned")
+    public void loaded(String name, int version) throws IOException {
+        if (!Boolean.getBoolean(PROPERTY)) {
+            throw new SkipException("Not running with the multi-release archive.");
+        }
+
+        try (InputStream is = TestMultiRelease.class.getResourceAsStream(name + ".class")) {
+            Assert.assertNotNull(is, name);
+            final DataInputStream input = new DataInputStream(is);
+            Assert.assertEquals(input.readInt(), MAGIC);
+            input.readUnsignedShort(); // Minor version
+            Assert.assertEquals(input.readUnsignedShort(), version, name);
+        }
+    }
+}
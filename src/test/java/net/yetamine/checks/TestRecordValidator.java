@@ -0,0 +1,163 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link RecordValidator}.
+ */
+public final class TestRecordValidator {
+
+    /** Size of a record: an {@code int}, a {@code long} and an {@code int}. */
+    private static final int RECORD_SIZE = 16;
+
+    /** Validator for the test records. */
+    private static final RecordValidator VALIDATOR = RecordValidator.of(RECORD_SIZE)
+            .intRange(0, 0, 100)
+            .longRange(4, -5, 5)
+            .intIndex(12, 10);
+
+    /**
+     * Tests validating a buffer.
+     */
+    @Test
+    public void validateBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(4 * RECORD_SIZE + 3).order(ByteOrder.LITTLE_ENDIAN);
+        putRecord(buffer, 0, 0, -5, 0);
+        putRecord(buffer, 1, 100, 5, 9);
+        putRecord(buffer, 2, 101, 6, 10);
+        putRecord(buffer, 3, -1, Long.MIN_VALUE, -1);
+
+        final Violations violations = VALIDATOR.order(ByteOrder.LITTLE_ENDIAN).validate(buffer, 1000, new Violations(10));
+        Assert.assertEquals(violations.codes(), new int[] { 0, 1, 2, 0, 1, 2, RecordValidator.TRUNCATED });
+        Assert.assertEquals(violations.positions(), new long[] { 1032, 1036, 1044, 1048, 1052, 1060, 1064 });
+
+        // The same data in a different byte order
+        Assert.assertEquals(VALIDATOR.validate(buffer, 0, new Violations(0)).count(), 11);
+
+        // Starting at the position of the buffer
+        buffer.position(RECORD_SIZE).limit(3 * RECORD_SIZE);
+        Assert.assertEquals(VALIDATOR.order(ByteOrder.LITTLE_ENDIAN).validate(buffer, 0, new Violations(10)).positions(), new long[] { 16, 20, 28 });
+        Assert.assertEquals(buffer.position(), RECORD_SIZE);
+    }
+
+    /**
+     * Tests validating a file, sequentially and in parallel.
+     *
+     * @throws IOException
+     *             if the test file could not be used
+     */
+    @Test
+    public void validateFile() throws IOException {
+        final Path file = Files.createTempFile(TestRecordValidator.class.getSimpleName(), ".bin");
+
+        try {
+            final int records = (3 << 24) / RECORD_SIZE; // Several regions
+            final ByteBuffer buffer = ByteBuffer.allocate(records * RECORD_SIZE);
+            for (int i = 0; i < records; i++) {
+                putRecord(buffer, i, i % 101, (i % 11) - 5, i % 10);
+            }
+
+            final int[] invalid = { 0, 1_000_000, 1_048_575, 1_048_576, records - 1 };
+            for (int i : invalid) {
+                buffer.putLong(i * RECORD_SIZE + 4, 6);
+            }
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.write(buffer);
+                channel.write(ByteBuffer.allocate(1)); // Truncated record
+            }
+
+            final long[] expected = new long[invalid.length + 1];
+            for (int i = 0; i < invalid.length; i++) {
+                expected[i] = (long) invalid[i] * RECORD_SIZE + 4;
+            }
+
+            expected[invalid.length] = (long) records * RECORD_SIZE;
+
+            Assert.assertEquals(VALIDATOR.validate(file, new Violations(10)).positions(), expected);
+            Assert.assertEquals(VALIDATOR.validate(file, new Violations(10), ForkJoinPool.commonPool()).positions(), expected);
+
+            final ForkJoinPool pool = new ForkJoinPool(3);
+            try {
+                Assert.assertEquals(VALIDATOR.validate(file, new Violations(10), pool).positions(), expected);
+            } finally {
+                pool.shutdown();
+            }
+
+            final Violations limited = VALIDATOR.validate(file, new Violations(2), ForkJoinPool.commonPool());
+            Assert.assertEquals(limited.count(), expected.length);
+            Assert.assertEquals(limited.positions(), new long[] { expected[0], expected[1] });
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final long position = 1_000_000L * RECORD_SIZE;
+                final Violations region = VALIDATOR.validate(channel, position, 10 * RECORD_SIZE, new Violations(10));
+                Assert.assertEquals(region.positions(), new long[] { position + 4 });
+                Assert.assertEquals(region.codes(), new int[] { 1 });
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests declaring invalid checks.
+     */
+    @Test
+    public void declareInvalid() {
+        Assert.expectThrows(IllegalArgumentException.class, () -> RecordValidator.of(0));
+        Assert.expectThrows(IndexOutOfBoundsException.class, () -> RecordValidator.of(8).intRange(5, 0, 1));
+        Assert.expectThrows(IndexOutOfBoundsException.class, () -> RecordValidator.of(8).longRange(-1, 0, 1));
+        Assert.expectThrows(IllegalArgumentException.class, () -> RecordValidator.of(8).intRange(0, 1, 0));
+        Assert.expectThrows(IllegalArgumentException.class, () -> RecordValidator.of(8).longIndex(0, 0));
+
+        final RecordValidator validator = RecordValidator.of(8).longRange(0, Long.MIN_VALUE, Long.MAX_VALUE);
+        Assert.assertEquals(validator.checks(), 1);
+        Assert.assertEquals(validator.recordSize(), 8);
+        Assert.assertTrue(validator.validate(ByteBuffer.allocate(8).putLong(0, Long.MIN_VALUE), 0, new Violations(1)).isEmpty());
+    }
+
+    /**
+     * Writes a test record.
+     *
+     * @param buffer
+     *            the buffer to write to. It must not be {@code null}.
+     * @param index
+     *            the index of the record
+     * @param a
+     *            the first field
+     * @param b
+     *            the second field
+     * @param c
+     *            the third field
+     */
+    private static void putRecord(ByteBuffer buffer, int index, int a, long b, int c) {
+        final int offset = index * RECORD_SIZE;
+        buffer.putInt(offset, a).putLong(offset + 4, b).putInt(offset + 12, c);
+    }
+}
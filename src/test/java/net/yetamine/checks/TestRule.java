@@ -0,0 +1,164 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link Rule}.
+ */
+public final class TestRule {
+
+    /** Rule for testing. */
+    private static final Rule<String, IllegalArgumentException> NOT_EMPTY = Rule.argument(s -> !s.isEmpty(), "Empty '%s'");
+
+    /**
+     * A rule implemented by inheritance.
+     */
+    private static final class NotBlank extends Rule<String, IllegalStateException> {
+
+        /**
+         * Creates a new instance.
+         */
+        public NotBlank() {
+            super("Blank '%s'", IllegalStateException::new);
+        }
+
+        /**
+         * @see net.yetamine.checks.Rule#test(java.lang.Object)
+         */
+        @Override
+        public boolean test(String value) {
+            return !value.trim().isEmpty();
+        }
+    }
+
+    /**
+     * Tests passing checks.
+     */
+    @Test
+    public void checkPassed() {
+        final String s = "a";
+        Assert.assertSame(NOT_EMPTY.check(s), s);
+        Assert.assertSame(new NotBlank().check(s), s);
+        Assert.assertSame(Rule.state(t -> true, "").check(s), s);
+        Assert.assertSame(Rule.index(t -> true, "").check(s), s);
+        Assert.assertSame(Rule.of(t -> true, "", IllegalStateException::new).check(s), s);
+        Assert.assertTrue(NOT_EMPTY.test(s));
+        Assert.assertEquals(NOT_EMPTY.toString(), "Empty '%s'");
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void checkFailed1() {
+        try {
+            NOT_EMPTY.check("");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Empty ''");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalStateException.class })
+    public void checkFailed2() {
+        try {
+            new NotBlank().check(" ");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "Blank ' '");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IndexOutOfBoundsException.class })
+    public void checkFailed3() {
+        Rule.index(t -> false, "").check("");
+    }
+
+    /**
+     * Tests missing arguments.
+     */
+    @Test(expectedExceptions = { NullPointerException.class })
+    public void missingCondition() {
+        Rule.argument(null, "");
+    }
+
+    /**
+     * Tests composed rules.
+     */
+    @Test
+    public void checkComposed() {
+        final Rule<Object, IllegalArgumentException> notNull = Rule.argument(o -> o != null, "Null");
+        final Rule<String, IllegalArgumentException> all = Rule.allOf(notNull, NOT_EMPTY);
+        Assert.assertEquals(all.check("a"), "a");
+        Assert.assertEquals(all.indexOfViolation(null), 0);
+        Assert.assertEquals(all.indexOfViolation(""), 1);
+        Assert.assertEquals(all.and(NOT_EMPTY).toString(), "allOf[Null, Empty '%s', Empty '%s']");
+
+        try {
+            all.check("");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Empty ''");
+        }
+
+        final Rule<String, IllegalArgumentException> any = Rule.anyOf(Rule.not(notNull, "Not null", IllegalArgumentException::new), NOT_EMPTY);
+        Assert.assertNull(any.check(null));
+        Assert.assertEquals(any.check("a"), "a");
+
+        try {
+            any.check("");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Not null");
+        }
+    }
+
+    /**
+     * Tests that a composed rule evaluates its rules once when failing.
+     */
+    @Test
+    public void checkComposedOnce() {
+        final int[] calls = { 0 };
+        final Rule<String, IllegalArgumentException> flaky = Rule.argument(s -> 0 < calls[0]++, "Flaky");
+
+        try {
+            Rule.allOf(NOT_EMPTY, flaky).check("a");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Flaky");
+        }
+
+        Assert.assertEquals(calls[0], 1);
+
+        calls[0] = 0; // Nested, so that the failure must be evaluated again
+        try {
+            Rule.anyOf(Rule.allOf(NOT_EMPTY, flaky)).check("a");
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().endsWith(" not satisfied consistently by a."));
+        }
+    }
+}
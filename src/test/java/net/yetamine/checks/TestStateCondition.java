@@ -34,6 +34,8 @@ public final class TestStateCondition {
         StateCondition.check(true);
         StateCondition.check(true, "");
         StateCondition.check(true, () -> "");
+        StateCondition.check(true, "%d", 1);
+        StateCondition.check(true, "%s %s", "a", "b");
     }
 
     /**
@@ -70,6 +72,33 @@ public final class TestStateCondition {
         }
     }
 
+    /**
+     * Tests failing checks.
+     */
+    @Test(expectedExceptions = { IllegalStateException.class })
+    public void checkFailed4() {
+        try {
+            StateCondition.check(false, "Error %d of %d", 1L, 2L);
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "Error 1 of 2");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests tiered checks, which are enabled by default.
+     */
+    @Test
+    public void checkTiered() {
+        StateCondition.checkNormal(() -> true, "");
+        StateCondition.checkExpensive(() -> true, "");
+
+        final IllegalStateException e1 = Assert.expectThrows(IllegalStateException.class, () -> StateCondition.checkNormal(() -> false, "normal"));
+        Assert.assertEquals(e1.getMessage(), "normal");
+        final IllegalStateException e2 = Assert.expectThrows(IllegalStateException.class, () -> StateCondition.checkExpensive(() -> false, "expensive"));
+        Assert.assertEquals(e2.getMessage(), "expensive");
+    }
+
     /**
      * Tests missing supplier.
      *
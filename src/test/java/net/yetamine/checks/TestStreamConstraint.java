@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link StreamConstraint}.
+ */
+public final class TestStreamConstraint {
+
+    /**
+     * Tests passing checks.
+     */
+    @Test
+    public void checkPassed() {
+        final List<String> strings = Arrays.asList("a", "b", "c");
+        Assert.assertEquals(StreamConstraint.check(strings.stream(), s -> !s.isEmpty(), IllegalArgumentException::new).collect(Collectors.toList()), strings);
+        Assert.assertEquals(StreamConstraint.check(strings.stream(), Rule.argument(s -> !s.isEmpty(), "Empty string.")).count(), 3L);
+        Assert.assertEquals(StreamConstraint.checkInt(IntStream.range(0, 100), v -> 0 <= v, IllegalArgumentException::new).sum(), 4950);
+        Assert.assertEquals(StreamConstraint.checkInt(IntStream.range(0, 100), IntRule.argument(v -> 0 <= v, "Negative %d.")).sum(), 4950);
+        Assert.assertEquals(StreamConstraint.checkLong(LongStream.range(0, 100), v -> 0 <= v, IllegalArgumentException::new).sum(), 4950L);
+        Assert.assertEquals(StreamConstraint.checkLong(LongStream.range(0, 100), LongRule.argument(v -> 0 <= v, "Negative %d.")).sum(), 4950L);
+        Assert.assertEquals(StreamConstraint.checkDouble(DoubleStream.of(1, 2), Double::isFinite, IllegalArgumentException::new).sum(), 3.0);
+        Assert.assertEquals(StreamConstraint.checkDouble(DoubleStream.of(1, 2), DoubleRule.argument(Double::isFinite, "Not finite.")).sum(), 3.0);
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test
+    public void checkFailed() {
+        final Stream<String> strings = StreamConstraint.check(Stream.of("a", "", "c"), s -> !s.isEmpty(), IllegalStateException::new);
+        Assert.expectThrows(IllegalStateException.class, () -> strings.forEach(s -> {}));
+
+        final IntStream ints = StreamConstraint.checkInt(IntStream.range(-1, 10), IntRule.argument(v -> 0 <= v, "Negative %d."));
+        Assert.assertEquals(Assert.expectThrows(IllegalArgumentException.class, ints::sum).getMessage(), "Negative -1.");
+
+        final LongStream longs = StreamConstraint.checkLong(LongStream.range(0, 10), v -> v < 5, IllegalStateException::new);
+        Assert.expectThrows(IllegalStateException.class, longs::toArray);
+
+        final DoubleStream doubles = StreamConstraint.checkDouble(DoubleStream.of(1, Double.NaN), Double::isFinite, IllegalStateException::new);
+        Assert.expectThrows(IllegalStateException.class, doubles::sum);
+    }
+
+    /**
+     * Tests that the elements are checked lazily, when consumed.
+     */
+    @Test
+    public void checkLazily() {
+        final List<Integer> consumed = new ArrayList<>();
+        final Stream<Integer> stream = StreamConstraint.check(Stream.of(1, 2, -3, 4), v -> 0 < v, IllegalArgumentException::new);
+        Assert.expectThrows(IllegalArgumentException.class, () -> stream.forEachOrdered(consumed::add));
+        Assert.assertEquals(consumed, Arrays.asList(1, 2));
+
+        // Not consumed elements are not checked
+        Assert.assertEquals(StreamConstraint.checkInt(IntStream.of(1, -2), v -> 0 < v, IllegalArgumentException::new).findFirst().getAsInt(), 1);
+    }
+
+    /**
+     * Tests that the spliterators keep the characteristics of the source.
+     */
+    @Test
+    public void characteristics() {
+        final Spliterator.OfInt source = IntStream.range(0, 1000).spliterator();
+        final Spliterator.OfInt checking = StreamConstraint.checkInt(IntStream.range(0, 1000).spliterator(), v -> true, IllegalArgumentException::new);
+        Assert.assertEquals(checking.characteristics(), source.characteristics());
+        Assert.assertTrue(checking.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Assert.assertEquals(checking.getExactSizeIfKnown(), 1000L);
+
+        final Spliterator.OfInt prefix = checking.trySplit();
+        Assert.assertNotNull(prefix);
+        Assert.assertEquals(prefix.estimateSize() + checking.estimateSize(), 1000L);
+        Assert.assertEquals(prefix.characteristics(), source.characteristics());
+    }
+
+    /**
+     * Tests checking parallel streams.
+     */
+    @Test
+    public void checkParallel() {
+        final long[] values = LongStream.range(0, 1_000_000).toArray();
+        Assert.assertEquals(StreamConstraint.checkLong(Arrays.stream(values).parallel(), v -> 0 <= v, IllegalArgumentException::new).sum(), 499_999_500_000L);
+        Assert.assertTrue(StreamConstraint.checkLong(Arrays.stream(values).parallel(), v -> 0 <= v, IllegalArgumentException::new).isParallel());
+
+        values[654_321] = -1;
+        final LongStream stream = StreamConstraint.checkLong(Arrays.stream(values).parallel(), v -> 0 <= v, IllegalArgumentException::new);
+        Assert.expectThrows(IllegalArgumentException.class, stream::sum);
+    }
+
+    /**
+     * Tests that closing the checking stream closes the source.
+     */
+    @Test
+    public void close() {
+        final boolean[] closed = { false };
+        StreamConstraint.check(Stream.of(1).onClose(() -> closed[0] = true), v -> true, IllegalArgumentException::new).close();
+        Assert.assertTrue(closed[0]);
+    }
+}
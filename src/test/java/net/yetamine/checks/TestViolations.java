@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.util.Objects;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link Violations}.
+ */
+public final class TestViolations {
+
+    /**
+     * Tests passing checks.
+     */
+    @Test
+    public void checkPassed() {
+        final Violations violations = new Violations(2);
+        Assert.assertTrue(violations.check(true, 1, 0));
+        Assert.assertTrue(violations.check("a", Objects::nonNull, 2, 0));
+        Assert.assertTrue(violations.checkInt(1, i -> i > 0, 3, 0));
+        Assert.assertTrue(violations.checkLong(1L, l -> l > 0, 4, 0));
+        Assert.assertTrue(violations.checkDouble(1.0, Double::isFinite, 5, 0));
+        Assert.assertTrue(violations.checkIndex(1, 2, 6, 0));
+        Assert.assertTrue(violations.isEmpty());
+        Assert.assertEquals(violations.count(), 0);
+        Assert.assertEquals(violations.size(), 0);
+        violations.throwIfAny();
+        violations.throwIfAny(IllegalStateException::new);
+    }
+
+    /**
+     * Tests failing checks.
+     */
+    @Test
+    public void checkFailed() {
+        final Violations violations = new Violations(4);
+        Assert.assertFalse(violations.check(false, 1, 10));
+        Assert.assertFalse(violations.check(null, Objects::nonNull, 2, 20));
+        Assert.assertFalse(violations.checkInt(-1, i -> i > 0, 3, 30));
+        Assert.assertFalse(violations.checkLong(-1L, l -> l > 0, 4, 40));
+        Assert.assertFalse(violations.checkDouble(Double.NaN, Double::isFinite, 5, 50));
+        Assert.assertFalse(violations.checkIndex(2, 2, 6, 60));
+
+        Assert.assertFalse(violations.isEmpty());
+        Assert.assertTrue(violations.isOverflowed());
+        Assert.assertEquals(violations.count(), 6);
+        Assert.assertEquals(violations.size(), 4);
+        Assert.assertEquals(violations.capacity(), 4);
+        Assert.assertEquals(violations.codes(), new int[] { 1, 2, 3, 4 });
+        Assert.assertEquals(violations.positions(), new long[] { 10, 20, 30, 40 });
+        Assert.assertEquals(violations.code(1), 2);
+        Assert.assertEquals(violations.position(1), 20);
+        Assert.assertEquals(violations.toString(), "Violations[count=6: 1@10, 2@20, 3@30, 4@40, ...]");
+
+        try {
+            violations.throwIfAny();
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Found 6 violation(s), the first with code 1 at position 10.");
+        }
+
+        try {
+            violations.throwIfAny(IllegalStateException::new);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "Found 6 violation(s), the first with code 1 at position 10.");
+        }
+
+        Assert.assertTrue(violations.clear().isEmpty());
+        Assert.assertEquals(violations.size(), 0);
+        violations.throwIfAny();
+    }
+
+    /**
+     * Tests a collector without any capacity.
+     */
+    @Test(expectedExceptions = { IllegalArgumentException.class })
+    public void checkWithoutCapacity() {
+        final Violations violations = new Violations(0);
+        Assert.assertFalse(violations.check(false, 1, 10));
+        Assert.assertEquals(violations.count(), 1);
+        Assert.assertEquals(violations.size(), 0);
+
+        try {
+            violations.throwIfAny();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Found 1 violation(s).");
+            throw e;
+        }
+    }
+
+    /**
+     * Tests accessing a failure out of range.
+     */
+    @Test(expectedExceptions = { IndexOutOfBoundsException.class })
+    public void checkOutOfRange() {
+        new Violations(2).code(0);
+    }
+
+    /**
+     * Tests appending the failures of another instance.
+     */
+    @Test
+    public void addAll() {
+        final Violations first = new Violations(3);
+        first.check(false, 1, 10);
+        first.check(false, 2, 20);
+
+        final Violations second = new Violations(1);
+        second.check(false, 3, 30);
+        second.check(false, 4, 40);
+
+        Assert.assertSame(first.addAll(second), first);
+        Assert.assertEquals(first.count(), 4);
+        Assert.assertEquals(first.codes(), new int[] { 1, 2, 3 });
+        Assert.assertEquals(first.positions(), new long[] { 10, 20, 30 });
+        Assert.assertTrue(first.isOverflowed());
+    }
+}
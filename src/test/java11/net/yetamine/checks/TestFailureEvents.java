@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 Yetamine
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.yetamine.checks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link FailureEvents}.
+ */
+public final class TestFailureEvents {
+
+    /** Name of the event. */
+    private static final String EVENT = "net.yetamine.checks.CheckFailed";
+
+    /**
+     * Tests that the events are disabled without a recording.
+     */
+    @Test
+    public void disabledWithoutRecording() {
+        Assert.assertFalse(FailureEvents.isEnabled());
+    }
+
+    /**
+     * Tests recording the events.
+     *
+     * @throws IOException
+     *             if the recording could not be read
+     */
+    @Test
+    public void record() throws IOException {
+        final Object unformatted = new Object() {
+
+            /**
+             * @see java.lang.Object#toString()
+             */
+            @Override
+            public String toString() {
+                throw new AssertionError("Message formatted");
+            }
+        };
+
+        final Path file = Files.createTempFile("checks", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(EVENT);
+                recording.start();
+                Assert.assertTrue(FailureEvents.isEnabled());
+
+                Assert.expectThrows(IndexOutOfBoundsException.class, () -> IndexBounds.checkIndex(7, 3));
+                Assert.expectThrows(IllegalStateException.class, () -> StateCondition.check(false, "Closed."));
+                Assert.expectThrows(UnsupportedOperationException.class, () -> Constraint.check(false, () -> new UnsupportedOperationException("Unsupported.")));
+                Assert.expectThrows(IllegalArgumentException.class, () -> Argument.check(-5, false, "Negative."));
+                Assert.expectThrows(IllegalArgumentException.class, () -> Argument.check(2.5, false, "Out of range %s.", "[0, 1]"));
+                Assert.expectThrows(IllegalArgumentException.class, () -> Constraint.check(4L, false, () -> new LazyIllegalArgumentException(DeferredMessage.of("Invalid %s.", unformatted))));
+
+                recording.stop();
+                recording.dump(file);
+            }
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Assert.assertEquals(events.size(), 6);
+
+            final RecordedEvent index = events.get(0);
+            Assert.assertEquals(index.getEventType().getName(), EVENT);
+            Assert.assertEquals(index.getClass("exceptionType").getName(), IndexOutOfBoundsException.class.getName());
+            Assert.assertEquals(index.getString("template"), "Index %d out of bounds for length %d");
+            Assert.assertTrue(index.getBoolean("valueKnown"));
+            Assert.assertEquals(index.getLong("value"), 7);
+            Assert.assertTrue(index.getString("site").startsWith(TestFailureEvents.class.getName()), index.getString("site"));
+
+            final RecordedEvent state = events.get(1);
+            Assert.assertEquals(state.getClass("exceptionType").getName(), IllegalStateException.class.getName());
+            Assert.assertEquals(state.getString("template"), "Closed.");
+            Assert.assertFalse(state.getBoolean("valueKnown"));
+
+            final RecordedEvent constraint = events.get(2);
+            Assert.assertEquals(constraint.getClass("exceptionType").getName(), UnsupportedOperationException.class.getName());
+            Assert.assertNull(constraint.getString("template"));
+            Assert.assertFalse(constraint.getBoolean("valueKnown"));
+
+            final RecordedEvent argument = events.get(3);
+            Assert.assertEquals(argument.getString("template"), "Negative.");
+            Assert.assertTrue(argument.getBoolean("valueKnown"));
+            Assert.assertEquals(argument.getLong("value"), -5);
+
+            final RecordedEvent decimal = events.get(4);
+            Assert.assertEquals(decimal.getString("template"), "Out of range %s.");
+            Assert.assertTrue(decimal.getBoolean("valueKnown"));
+            Assert.assertEquals(decimal.getLong("value"), 2);
+            Assert.assertEquals(decimal.getDouble("doubleValue"), 2.5);
+
+            final RecordedEvent lazy = events.get(5);
+            Assert.assertEquals(lazy.getClass("exceptionType").getName(), LazyIllegalArgumentException.class.getName());
+            Assert.assertEquals(lazy.getString("template"), "Invalid %s.");
+            Assert.assertTrue(lazy.getBoolean("valueKnown"));
+            Assert.assertEquals(lazy.getLong("value"), 4);
+        } finally {
+            Files.delete(file);
+        }
+
+        Assert.assertFalse(FailureEvents.isEnabled());
+    }
+}